@@ -0,0 +1,160 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.producttoaccountmapping.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMapping;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.PortfolioProductType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the GL account mappings of the products in memory, per tenant, so the journal entry generation does not query
+ * the mappings for every journal entry line. All the mappings of a product are loaded with one query on first use.
+ * <p>
+ * Only the GL account ids are kept, the accounts are referenced in the persistence context of the caller. The mappings
+ * of a tenant are dropped when any product to GL account mapping is written on this instance and they expire after the
+ * configured time to live, which bounds how long other instances keep using outdated mappings.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductToGLAccountMappingCache {
+
+    private final ProductToGLAccountMappingRepository accountMappingRepository;
+    private final FineractProperties fineractProperties;
+    private final Map<String, Map<ProductKey, ProductMappings>> mappingsByTenant = new ConcurrentHashMap<>();
+
+    /**
+     * GL account of the mapping which is neither payment type nor charge specific
+     */
+    public Optional<Long> findCoreGLAccountId(final Long productId, final PortfolioProductType productType,
+            final int financialAccountType) {
+        return getProductMappings(productId, productType).find(new MappingKey(financialAccountType, null, null));
+    }
+
+    public Optional<Long> findPaymentTypeSpecificGLAccountId(final Long productId, final PortfolioProductType productType,
+            final int financialAccountType, final Long paymentTypeId) {
+        if (paymentTypeId == null) {
+            // without a payment type the core mapping is the matching one
+            return findCoreGLAccountId(productId, productType, financialAccountType);
+        }
+        return getProductMappings(productId, productType).find(new MappingKey(financialAccountType, paymentTypeId, null));
+    }
+
+    public Optional<Long> findChargeSpecificGLAccountId(final Long productId, final PortfolioProductType productType,
+            final int financialAccountType, final Long chargeId) {
+        if (chargeId == null) {
+            return Optional.empty();
+        }
+        return getProductMappings(productId, productType).find(new MappingKey(financialAccountType, null, chargeId));
+    }
+
+    /**
+     * Drops the mappings of the current tenant right away and, when called within a transaction, once more after the
+     * commit, so mappings loaded before the commit are not kept.
+     */
+    public void invalidate() {
+        String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        mappingsByTenant.remove(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    mappingsByTenant.remove(tenantIdentifier);
+                }
+            });
+        }
+    }
+
+    private ProductMappings getProductMappings(final Long productId, final PortfolioProductType productType) {
+        String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        Map<ProductKey, ProductMappings> tenantMappings = mappingsByTenant.computeIfAbsent(tenantIdentifier,
+                key -> new ConcurrentHashMap<>());
+        ProductKey productKey = new ProductKey(productType.getValue(), productId);
+        ProductMappings productMappings = tenantMappings.get(productKey);
+        if (productMappings == null || productMappings.isExpired(getTimeToLiveInNanos())) {
+            productMappings = loadProductMappings(productId, productType);
+            tenantMappings.put(productKey, productMappings);
+        }
+        return productMappings;
+    }
+
+    private ProductMappings loadProductMappings(final Long productId, final PortfolioProductType productType) {
+        Map<MappingKey, Long> glAccountIds = new HashMap<>();
+        for (ProductToGLAccountMapping mapping : accountMappingRepository.findByProductIdAndProductType(productId,
+                productType.getValue())) {
+            if (mapping.getGlAccount() == null) {
+                continue;
+            }
+            Long paymentTypeId = mapping.getPaymentType() == null ? null : mapping.getPaymentType().getId();
+            Long chargeId = mapping.getCharge() == null ? null : mapping.getCharge().getId();
+            glAccountIds.putIfAbsent(new MappingKey(mapping.getFinancialAccountType(), paymentTypeId, chargeId),
+                    mapping.getGlAccount().getId());
+        }
+        return new ProductMappings(Collections.unmodifiableMap(glAccountIds), System.nanoTime());
+    }
+
+    private long getTimeToLiveInNanos() {
+        return TimeUnit.SECONDS.toNanos(fineractProperties.getAccounting().getProductAccountMappingCacheTtlInSeconds());
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class ProductKey {
+
+        private final int productType;
+        private final Long productId;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class MappingKey {
+
+        private final int financialAccountType;
+        private final Long paymentTypeId;
+        private final Long chargeId;
+    }
+
+    @RequiredArgsConstructor
+    private static final class ProductMappings {
+
+        private final Map<MappingKey, Long> glAccountIds;
+        private final long loadedAt;
+
+        private Optional<Long> find(MappingKey mappingKey) {
+            return Optional.ofNullable(glAccountIds.get(mappingKey));
+        }
+
+        private boolean isExpired(long timeToLiveInNanos) {
+            return System.nanoTime() - loadedAt >= timeToLiveInNanos;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.ApplicationCurrency;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelRepaymentPeriod;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleProcessingType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleType;
+import org.apache.fineract.portfolio.loanproduct.domain.AmortizationMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestCalculationPeriodMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+
+/**
+ * Shared fixtures for the benchmarks.
+ *
+ * Everything a benchmark needs is built in memory: the static {@link MoneyHelper} is initialized with a mocked
+ * configuration service and the tenant and business date are bound to the calling thread, so that no database or Spring
+ * context is needed. JMH runs {@code @Setup} and the benchmark methods of a {@code Scope.Thread} state on the same thread,
+ * so {@link #bindContext(LocalDate)} must be called from the {@code @Setup} method of such a state.
+ */
+public final class BenchmarkFixtures {
+
+    public static final ApplicationCurrency APPLICATION_CURRENCY = new ApplicationCurrency("USD", "US Dollar", 2, 1, "currency.USD",
+            "$");
+    public static final MonetaryCurrency CURRENCY = MonetaryCurrency.fromApplicationCurrency(APPLICATION_CURRENCY);
+    public static final MathContext MC = new MathContext(12, RoundingMode.HALF_EVEN);
+    public static final LocalDate DISBURSEMENT_DATE = LocalDate.of(2024, 1, 1);
+    public static final BigDecimal PRINCIPAL = BigDecimal.valueOf(100_000L);
+    public static final BigDecimal ANNUAL_NOMINAL_INTEREST_RATE = BigDecimal.valueOf(9.99);
+
+    private BenchmarkFixtures() {}
+
+    public static void initializeMoneyHelper() {
+        ConfigurationDomainService configurationDomainService = mock(ConfigurationDomainService.class);
+        when(configurationDomainService.getRoundingMode()).thenReturn(6); // HALF_EVEN
+        MoneyHelper moneyHelper = new MoneyHelper();
+        setField(moneyHelper, "configurationDomainService", configurationDomainService);
+        moneyHelper.initialize();
+        MoneyHelper.fetchRoundingModeFromGlobalConfig();
+    }
+
+    public static void bindContext(LocalDate businessDate) {
+        initializeMoneyHelper();
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "UTC", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, businessDate)));
+    }
+
+    public static void unbindContext() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    public static Money money(BigDecimal amount) {
+        return Money.of(CURRENCY, amount, MC);
+    }
+
+    public static HolidayDetailDTO holidayDetails() {
+        WorkingDays workingDays = new WorkingDays("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,TU,WE,TH,FR,SA,SU",
+                RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY.getValue(), false, false);
+        return new HolidayDetailDTO(false, List.of(), workingDays, false, false);
+    }
+
+    /**
+     * Monthly repayment periods starting at {@link #DISBURSEMENT_DATE}, with empty balances.
+     */
+    public static List<LoanScheduleModelRepaymentPeriod> monthlyRepaymentPeriods(int numberOfInstallments) {
+        Money zero = Money.zero(CURRENCY, MC);
+        List<LoanScheduleModelRepaymentPeriod> periods = new ArrayList<>(numberOfInstallments);
+        for (int i = 0; i < numberOfInstallments; i++) {
+            LocalDate fromDate = DISBURSEMENT_DATE.plusMonths(i);
+            periods.add(LoanScheduleModelRepaymentPeriod.repayment(i + 1, fromDate, fromDate.plusMonths(1), zero, zero, zero, zero, zero,
+                    zero, false, MC));
+        }
+        return periods;
+    }
+
+    /**
+     * Monthly, declining balance, progressive loan product details with interest recalculation enabled.
+     */
+    public static LoanProductRelatedDetail progressiveLoanProductRelatedDetail(int numberOfInstallments) {
+        return new LoanProductRelatedDetail(CURRENCY, PRINCIPAL, ANNUAL_NOMINAL_INTEREST_RATE, PeriodFrequencyType.YEARS,
+                ANNUAL_NOMINAL_INTEREST_RATE, InterestMethod.DECLINING_BALANCE, InterestCalculationPeriodMethod.DAILY, false, 1,
+                PeriodFrequencyType.MONTHS, numberOfInstallments, null, null, null, null, AmortizationMethod.EQUAL_INSTALLMENTS,
+                BigDecimal.ZERO, null, DaysInMonthType.DAYS_30.getValue(), DaysInYearType.DAYS_360.getValue(), true, false, false, null,
+                false, LoanScheduleType.PROGRESSIVE, LoanScheduleProcessingType.HORIZONTAL, null, false, List.of());
+    }
+
+    public static void setField(Object target, String fieldName, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("No field " + fieldName + " on " + target.getClass().getName());
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmarks.loanschedule;
+
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.ANNUAL_NOMINAL_INTEREST_RATE;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.APPLICATION_CURRENCY;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.CURRENCY;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.DISBURSEMENT_DATE;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.MC;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.PRINCIPAL;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmarks.BenchmarkFixtures;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.portfolio.common.domain.DayOfWeekType;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.AbstractCumulativeLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.CumulativeDecliningBalanceInterestLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.CumulativeFlatInterestLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultPaymentPeriodsInOneYearCalculator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanApplicationTerms;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModel;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleProcessingType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleType;
+import org.apache.fineract.portfolio.loanproduct.domain.AmortizationMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestCalculationPeriodMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestRecalculationCompoundingMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanPreClosureInterestCalculationStrategy;
+import org.apache.fineract.portfolio.loanproduct.domain.RecalculationFrequencyType;
+import org.apache.fineract.portfolio.loanproduct.domain.RepaymentStartDateType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the schedule generation of cumulative loans for the declining balance (with and without interest
+ * recalculation) and the flat interest methods.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CumulativeLoanScheduleGeneratorBenchmark {
+
+    public enum Variant {
+        DECLINING_BALANCE, DECLINING_BALANCE_INTEREST_RECALCULATION, FLAT
+    }
+
+    @Param({ "36", "120", "360" })
+    private int installments;
+
+    @Param
+    private Variant variant;
+
+    private AbstractCumulativeLoanScheduleGenerator generator;
+    private HolidayDetailDTO holidayDetailDTO;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bindContext(DISBURSEMENT_DATE);
+        DefaultScheduledDateGenerator scheduledDateGenerator = new DefaultScheduledDateGenerator();
+        DefaultPaymentPeriodsInOneYearCalculator paymentPeriodsInOneYearCalculator = new DefaultPaymentPeriodsInOneYearCalculator();
+        generator = variant == Variant.FLAT
+                ? new CumulativeFlatInterestLoanScheduleGenerator(scheduledDateGenerator, paymentPeriodsInOneYearCalculator)
+                : new CumulativeDecliningBalanceInterestLoanScheduleGenerator(scheduledDateGenerator, paymentPeriodsInOneYearCalculator);
+        holidayDetailDTO = BenchmarkFixtures.holidayDetails();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.unbindContext();
+    }
+
+    @Benchmark
+    public LoanScheduleModel generate() {
+        // the loan application terms are assembled on every call, the generator modifies them
+        return generator.generate(MC, loanApplicationTerms(), null, holidayDetailDTO);
+    }
+
+    private LoanApplicationTerms loanApplicationTerms() {
+        boolean interestRecalculation = variant == Variant.DECLINING_BALANCE_INTEREST_RECALCULATION;
+        InterestMethod interestMethod = variant == Variant.FLAT ? InterestMethod.FLAT : InterestMethod.DECLINING_BALANCE;
+        InterestCalculationPeriodMethod interestCalculationPeriodMethod = interestRecalculation ? InterestCalculationPeriodMethod.DAILY
+                : InterestCalculationPeriodMethod.SAME_AS_REPAYMENT_PERIOD;
+        RecalculationFrequencyType recalculationFrequencyType = interestRecalculation ? RecalculationFrequencyType.SAME_AS_REPAYMENT_PERIOD
+                : null;
+        InterestRecalculationCompoundingMethod compoundingMethod = interestRecalculation ? InterestRecalculationCompoundingMethod.NONE
+                : null;
+        LoanPreClosureInterestCalculationStrategy preClosureStrategy = interestRecalculation
+                ? LoanPreClosureInterestCalculationStrategy.TILL_PRE_CLOSURE_DATE
+                : LoanPreClosureInterestCalculationStrategy.NONE;
+
+        return LoanApplicationTerms.assembleFrom(APPLICATION_CURRENCY, installments, PeriodFrequencyType.MONTHS, installments, 1,
+                PeriodFrequencyType.MONTHS, null, DayOfWeekType.INVALID, AmortizationMethod.EQUAL_INSTALLMENTS, interestMethod,
+                ANNUAL_NOMINAL_INTEREST_RATE, PeriodFrequencyType.YEARS, ANNUAL_NOMINAL_INTEREST_RATE, interestCalculationPeriodMethod,
+                false, BenchmarkFixtures.money(PRINCIPAL), DISBURSEMENT_DATE, null, DISBURSEMENT_DATE.plusMonths(1), null, null, null,
+                null, null, Money.zero(CURRENCY, MC), false, null, new ArrayList<>(), PRINCIPAL, null, DaysInMonthType.DAYS_30,
+                DaysInYearType.DAYS_360, interestRecalculation, recalculationFrequencyType, null, compoundingMethod, null, null,
+                BigDecimal.ZERO, null, preClosureStrategy, null, PRINCIPAL, new ArrayList<>(), true, 0, false, holidayDetailDTO, false,
+                false, false, null, false, false, null, false, RepaymentStartDateType.DISBURSEMENT_DATE, DISBURSEMENT_DATE,
+                LoanScheduleType.CUMULATIVE, LoanScheduleProcessingType.HORIZONTAL, null, false, null);
+    }
+}
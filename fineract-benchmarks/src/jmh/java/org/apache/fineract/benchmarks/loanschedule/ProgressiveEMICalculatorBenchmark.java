@@ -0,0 +1,125 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmarks.loanschedule;
+
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.DISBURSEMENT_DATE;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.MC;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.PRINCIPAL;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmarks.BenchmarkFixtures;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.PayableDetails;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.ProgressiveLoanInterestScheduleModel;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelRepaymentPeriod;
+import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the {@link ProgressiveEMICalculator} operations which are executed for every transaction of a progressive
+ * loan.
+ *
+ * The mutating operations work on a copy of a disbursed model, {@link #copyModel()} measures the cost of that copy alone.
+ * Run with {@code -prof gc} to see the allocations as well, e.g. of {@link #getPayableDetails()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProgressiveEMICalculatorBenchmark {
+
+    @Param({ "36", "120", "360" })
+    private int installments;
+
+    private final ProgressiveEMICalculator emiCalculator = new ProgressiveEMICalculator();
+
+    private List<LoanScheduleModelRepaymentPeriod> repaymentPeriods;
+    private LoanProductRelatedDetail loanProductRelatedDetail;
+    private ProgressiveLoanInterestScheduleModel disbursedModel;
+    private Money disbursementAmount;
+    private Money principalAmount;
+    private Money balanceCorrectionAmount;
+    private LocalDate repaymentPeriodDueDate;
+    private LocalDate transactionDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // the business date is in the middle of the loan term, the early payments below change all the later periods
+        int middleInstallment = installments / 2;
+        repaymentPeriodDueDate = DISBURSEMENT_DATE.plusMonths(middleInstallment);
+        transactionDate = repaymentPeriodDueDate.minusDays(15);
+        BenchmarkFixtures.bindContext(transactionDate);
+
+        repaymentPeriods = BenchmarkFixtures.monthlyRepaymentPeriods(installments);
+        loanProductRelatedDetail = BenchmarkFixtures.progressiveLoanProductRelatedDetail(installments);
+        disbursementAmount = BenchmarkFixtures.money(PRINCIPAL);
+        principalAmount = BenchmarkFixtures.money(BigDecimal.valueOf(1_000L));
+        balanceCorrectionAmount = BenchmarkFixtures.money(BigDecimal.valueOf(-500L));
+        disbursedModel = generateAndDisburse();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.unbindContext();
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel generateAndDisburse() {
+        ProgressiveLoanInterestScheduleModel model = emiCalculator.generateInterestScheduleModel(repaymentPeriods,
+                loanProductRelatedDetail, null, MC);
+        emiCalculator.addDisbursement(model, DISBURSEMENT_DATE, disbursementAmount);
+        return model;
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel copyModel() {
+        return disbursedModel.deepCopy(MC);
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel payPrincipal() {
+        ProgressiveLoanInterestScheduleModel model = disbursedModel.deepCopy(MC);
+        emiCalculator.payPrincipal(model, repaymentPeriodDueDate, transactionDate, principalAmount);
+        return model;
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel addBalanceCorrection() {
+        ProgressiveLoanInterestScheduleModel model = disbursedModel.deepCopy(MC);
+        emiCalculator.addBalanceCorrection(model, transactionDate, balanceCorrectionAmount);
+        return model;
+    }
+
+    @Benchmark
+    public PayableDetails getPayableDetails() {
+        return emiCalculator.getPayableDetails(disbursedModel, repaymentPeriodDueDate, transactionDate);
+    }
+}
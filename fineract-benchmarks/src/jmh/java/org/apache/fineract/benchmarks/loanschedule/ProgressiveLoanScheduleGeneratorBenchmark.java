@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmarks.loanschedule;
+
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.ANNUAL_NOMINAL_INTEREST_RATE;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.APPLICATION_CURRENCY;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.DISBURSEMENT_DATE;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.MC;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.PRINCIPAL;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmarks.BenchmarkFixtures;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanRepaymentScheduleModelData;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModel;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.ProgressiveLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the schedule generation of progressive loans, the same path as the loan schedule calculation API.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProgressiveLoanScheduleGeneratorBenchmark {
+
+    @Param({ "36", "120", "360" })
+    private int installments;
+
+    private final ProgressiveLoanScheduleGenerator generator = new ProgressiveLoanScheduleGenerator(new DefaultScheduledDateGenerator(),
+            new ProgressiveEMICalculator());
+
+    private LoanRepaymentScheduleModelData modelData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bindContext(DISBURSEMENT_DATE);
+        modelData = new LoanRepaymentScheduleModelData(DISBURSEMENT_DATE, APPLICATION_CURRENCY, PRINCIPAL, DISBURSEMENT_DATE,
+                installments, 1, PeriodFrequencyType.MONTHS.name(), ANNUAL_NOMINAL_INTEREST_RATE, false, DaysInMonthType.DAYS_30,
+                DaysInYearType.DAYS_360, null, null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.unbindContext();
+    }
+
+    @Benchmark
+    public LoanScheduleModel generate() {
+        // the loan application terms are assembled on every call, the generator modifies them
+        return generator.generate(MC, modelData);
+    }
+}
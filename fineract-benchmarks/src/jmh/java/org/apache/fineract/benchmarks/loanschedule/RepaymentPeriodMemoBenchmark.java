@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmarks.loanschedule;
+
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.DISBURSEMENT_DATE;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.MC;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.PRINCIPAL;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmarks.BenchmarkFixtures;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.ProgressiveLoanInterestScheduleModel;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.RepaymentPeriod;
+import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
+import org.apache.fineract.portfolio.util.Memo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the {@link Memo} backed calculations of {@link RepaymentPeriod} on an already calculated model, where every
+ * read is a cache hit. The model is shared, {@link #readAllPeriodsConcurrently(Blackhole)} shows the behaviour under
+ * concurrent readers. Run with {@code -prof gc} to verify that cache hits do not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepaymentPeriodMemoBenchmark {
+
+    @Param({ "36", "360" })
+    private int installments;
+
+    private ProgressiveLoanInterestScheduleModel model;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bindContext(DISBURSEMENT_DATE);
+        ProgressiveEMICalculator emiCalculator = new ProgressiveEMICalculator();
+        model = emiCalculator.generateInterestScheduleModel(BenchmarkFixtures.monthlyRepaymentPeriods(installments),
+                BenchmarkFixtures.progressiveLoanProductRelatedDetail(installments), null, MC);
+        emiCalculator.addDisbursement(model, DISBURSEMENT_DATE, BenchmarkFixtures.money(PRINCIPAL));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.unbindContext();
+    }
+
+    @Benchmark
+    public void readAllPeriods(Blackhole blackhole) {
+        readAll(blackhole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void readAllPeriodsConcurrently(Blackhole blackhole) {
+        readAll(blackhole);
+    }
+
+    private void readAll(Blackhole blackhole) {
+        for (RepaymentPeriod repaymentPeriod : model.repaymentPeriods()) {
+            blackhole.consume(repaymentPeriod.getRateFactorPlus1());
+            blackhole.consume(repaymentPeriod.getDueInterest());
+            blackhole.consume(repaymentPeriod.getOutstandingLoanBalance());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmarks.monetary;
+
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.CURRENCY;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.MC;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmarks.BenchmarkFixtures;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyAccumulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares summing amounts with {@link Money#plus(Money)} against the {@link MoneyAccumulator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyAccumulatorBenchmark {
+
+    @Param({ "12", "360", "10000" })
+    private int size;
+
+    private List<Money> amounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.initializeMoneyHelper();
+        Random random = new Random(42);
+        amounts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            amounts.add(BenchmarkFixtures.money(BigDecimal.valueOf(random.nextInt(1_000_000), 2)));
+        }
+    }
+
+    @Benchmark
+    public Money moneyPlus() {
+        Money total = Money.zero(CURRENCY, MC);
+        for (Money amount : amounts) {
+            total = total.plus(amount, MC);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money moneyAccumulator() {
+        MoneyAccumulator total = MoneyAccumulator.zero(CURRENCY, MC);
+        for (Money amount : amounts) {
+            total.plus(amount);
+        }
+        return total.toMoney();
+    }
+
+    @Benchmark
+    public Money moneyAccumulatorCollector() {
+        return amounts.stream().collect(MoneyAccumulator.summing(CURRENCY, MC));
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmarks.savings;
+
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.CURRENCY;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmarks.BenchmarkFixtures;
+import org.apache.fineract.infrastructure.core.domain.LocalDateInterval;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.portfolio.savings.SavingsCompoundingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
+import org.apache.fineract.portfolio.savings.domain.interest.PostingPeriod;
+import org.apache.fineract.portfolio.savings.domain.interest.PostingPeriodTransactions;
+import org.apache.fineract.portfolio.savings.domain.interest.SavingsAccountTransactionDetailsForPostingPeriod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Builds the monthly {@link PostingPeriod}s of a savings account with a long, daily transaction history, once by
+ * handing the whole history to every posting period and once with the history sliced by
+ * {@link PostingPeriodTransactions}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SavingsPostingPeriodBenchmark {
+
+    private static final LocalDate ACTIVATION_DATE = LocalDate.of(2000, 1, 1);
+
+    @Param({ "1000", "10000" })
+    private int transactionCount;
+
+    private List<SavingsAccountTransactionDetailsForPostingPeriod> orderedTransactions;
+    private List<LocalDateInterval> postingPeriodIntervals;
+    private LocalDate upToInterestCalculationDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        orderedTransactions = new ArrayList<>(transactionCount);
+        BigDecimal runningBalance = BigDecimal.ZERO;
+        for (int i = 0; i < transactionCount; i++) {
+            LocalDate transactionDate = ACTIVATION_DATE.plusDays(i);
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(100_000) + 1, 2);
+            runningBalance = runningBalance.add(amount);
+            orderedTransactions.add(new SavingsAccountTransactionDetailsForPostingPeriod((long) i + 1, transactionDate, transactionDate,
+                    runningBalance, amount, CURRENCY, 1, true, false, false, false, false));
+        }
+        upToInterestCalculationDate = ACTIVATION_DATE.plusDays(transactionCount);
+        BenchmarkFixtures.bindContext(upToInterestCalculationDate);
+
+        postingPeriodIntervals = new ArrayList<>();
+        LocalDate periodStartDate = ACTIVATION_DATE;
+        while (periodStartDate.isBefore(upToInterestCalculationDate)) {
+            LocalDate nextPeriodStartDate = periodStartDate.plusMonths(1);
+            postingPeriodIntervals.add(LocalDateInterval.create(periodStartDate, nextPeriodStartDate.minusDays(1)));
+            periodStartDate = nextPeriodStartDate;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.unbindContext();
+    }
+
+    @Benchmark
+    public void wholeHistoryPerPeriod(Blackhole blackhole) {
+        Money periodStartingBalance = Money.zero(CURRENCY);
+        for (LocalDateInterval periodInterval : postingPeriodIntervals) {
+            PostingPeriod postingPeriod = postingPeriod(periodInterval, periodStartingBalance, orderedTransactions);
+            periodStartingBalance = postingPeriod.closingBalance();
+            blackhole.consume(postingPeriod);
+        }
+    }
+
+    @Benchmark
+    public void slicedHistoryPerPeriod(Blackhole blackhole) {
+        PostingPeriodTransactions postingPeriodTransactions = new PostingPeriodTransactions(orderedTransactions);
+        Money periodStartingBalance = Money.zero(CURRENCY);
+        for (LocalDateInterval periodInterval : postingPeriodIntervals) {
+            PostingPeriod postingPeriod = postingPeriod(periodInterval, periodStartingBalance,
+                    postingPeriodTransactions.within(periodInterval));
+            periodStartingBalance = postingPeriod.closingBalance();
+            blackhole.consume(postingPeriod);
+        }
+    }
+
+    private PostingPeriod postingPeriod(LocalDateInterval periodInterval, Money periodStartingBalance,
+            List<SavingsAccountTransactionDetailsForPostingPeriod> transactions) {
+        return PostingPeriod.createFrom(periodInterval, periodStartingBalance, transactions, CURRENCY,
+                SavingsCompoundingInterestPeriodType.DAILY, SavingsInterestCalculationType.DAILY_BALANCE, new BigDecimal("0.05"), 365,
+                upToInterestCalculationDate, Set.of(), false, Money.zero(CURRENCY), false, false, 1);
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmarks.transactionprocessor;
+
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.ANNUAL_NOMINAL_INTEREST_RATE;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.APPLICATION_CURRENCY;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.CURRENCY;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.DISBURSEMENT_DATE;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.MC;
+import static org.apache.fineract.benchmarks.BenchmarkFixtures.PRINCIPAL;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmarks.BenchmarkFixtures;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractReplayCheckpointProperties;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.domain.ChangedTransactionDetail;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanPaymentAllocationRule;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionType;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.AdvancedPaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.ProgressiveReplayCheckpointCache;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanRepaymentScheduleModelData;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelPeriod;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelRepaymentPeriod;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.ProgressiveLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
+import org.apache.fineract.portfolio.loanproduct.domain.FutureInstallmentAllocationRule;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.apache.fineract.portfolio.loanproduct.domain.PaymentAllocationTransactionType;
+import org.apache.fineract.portfolio.loanproduct.domain.PaymentAllocationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Benchmarks the replay of the transactions of an interest bearing progressive loan by the
+ * {@link AdvancedPaymentScheduleTransactionProcessor}: one disbursement followed by a repayment on every due date but the
+ * last one.
+ *
+ * The loan itself is a mock, the schedule installments and the transactions are real entities. The transactions are
+ * persisted ones (they have an id), so the processor works on copies of them and the fixture can be replayed repeatedly.
+ * Every replay runs in a simulated transaction which is committed at the end, so that the checkpoints of the
+ * {@link ProgressiveReplayCheckpointCache} are published; with {@code checkpoints} enabled every replay after the first
+ * one continues from the last checkpoint.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdvancedPaymentScheduleTransactionProcessorBenchmark {
+
+    private static final int CHECKPOINT_INTERVAL = 10;
+
+    @Param({ "36", "120", "360" })
+    private int installments;
+
+    @Param({ "false", "true" })
+    private boolean checkpoints;
+
+    private AdvancedPaymentScheduleTransactionProcessor processor;
+    private List<LoanRepaymentScheduleInstallment> scheduleInstallments;
+    private List<LoanTransaction> transactions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bindContext(DISBURSEMENT_DATE.plusMonths(installments - 1).plusDays(1));
+
+        ProgressiveEMICalculator emiCalculator = new ProgressiveEMICalculator();
+        ProgressiveReplayCheckpointCache replayCheckpointCache = null;
+        if (checkpoints) {
+            FineractReplayCheckpointProperties properties = new FineractReplayCheckpointProperties();
+            properties.setEnabled(true);
+            properties.setInterval(CHECKPOINT_INTERVAL);
+            properties.setMaxCheckpointsPerLoan(10);
+            properties.setMaxLoans(10);
+            replayCheckpointCache = new ProgressiveReplayCheckpointCache(properties);
+        }
+        processor = new AdvancedPaymentScheduleTransactionProcessor(emiCalculator, replayCheckpointCache);
+
+        Loan loan = createLoan();
+        List<LoanScheduleModelRepaymentPeriod> repaymentPeriods = generateRepaymentPeriods(emiCalculator);
+        scheduleInstallments = new ArrayList<>(repaymentPeriods.size());
+        for (LoanScheduleModelRepaymentPeriod period : repaymentPeriods) {
+            scheduleInstallments.add(new LoanRepaymentScheduleInstallment(loan, period.getPeriodNumber(), period.getFromDate(),
+                    period.getDueDate(), period.getPrincipalDue().getAmount(), period.getInterestDue().getAmount(), BigDecimal.ZERO,
+                    BigDecimal.ZERO, false, null));
+        }
+
+        transactions = new ArrayList<>(repaymentPeriods.size());
+        transactions.add(createTransaction(loan, 1L, LoanTransactionType.DISBURSEMENT, DISBURSEMENT_DATE, PRINCIPAL));
+        for (int i = 0; i < repaymentPeriods.size() - 1; i++) {
+            LoanScheduleModelRepaymentPeriod period = repaymentPeriods.get(i);
+            transactions.add(createTransaction(loan, i + 2L, LoanTransactionType.REPAYMENT, period.getDueDate(),
+                    period.getTotalDue().getAmount()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.unbindContext();
+    }
+
+    @Benchmark
+    public ChangedTransactionDetail reprocessLoanTransactions() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ChangedTransactionDetail changedTransactionDetail = processor.reprocessLoanTransactions(DISBURSEMENT_DATE, transactions,
+                    CURRENCY, scheduleInstallments, null);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            return changedTransactionDetail;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Loan createLoan() {
+        LoanProductRelatedDetail loanProductRelatedDetail = BenchmarkFixtures.progressiveLoanProductRelatedDetail(installments);
+        Loan loan = mock(Loan.class);
+        when(loan.getId()).thenReturn(1L);
+        when(loan.getCurrency()).thenReturn(CURRENCY);
+        when(loan.getLoanProduct()).thenReturn(mock(LoanProduct.class));
+        when(loan.getLoanRepaymentScheduleDetail()).thenReturn(loanProductRelatedDetail);
+        when(loan.getLoanProductRelatedDetail()).thenReturn(loanProductRelatedDetail);
+        when(loan.isInterestBearing()).thenReturn(true);
+        LoanPaymentAllocationRule defaultAllocationRule = new LoanPaymentAllocationRule(loan, PaymentAllocationTransactionType.DEFAULT,
+                Arrays.asList(PaymentAllocationType.values()), FutureInstallmentAllocationRule.NEXT_INSTALLMENT);
+        when(loan.getPaymentAllocationRules()).thenReturn(List.of(defaultAllocationRule));
+        return loan;
+    }
+
+    private List<LoanScheduleModelRepaymentPeriod> generateRepaymentPeriods(ProgressiveEMICalculator emiCalculator) {
+        ProgressiveLoanScheduleGenerator generator = new ProgressiveLoanScheduleGenerator(new DefaultScheduledDateGenerator(),
+                emiCalculator);
+        LoanRepaymentScheduleModelData modelData = new LoanRepaymentScheduleModelData(DISBURSEMENT_DATE, APPLICATION_CURRENCY, PRINCIPAL,
+                DISBURSEMENT_DATE, installments, 1, PeriodFrequencyType.MONTHS.name(), ANNUAL_NOMINAL_INTEREST_RATE, false,
+                DaysInMonthType.DAYS_30, DaysInYearType.DAYS_360, null, null, null);
+        List<LoanScheduleModelRepaymentPeriod> repaymentPeriods = new ArrayList<>(installments);
+        for (LoanScheduleModelPeriod period : generator.generate(MC, modelData).getPeriods()) {
+            if (period instanceof LoanScheduleModelRepaymentPeriod repaymentPeriod) {
+                repaymentPeriods.add(repaymentPeriod);
+            }
+        }
+        return repaymentPeriods;
+    }
+
+    private static LoanTransaction createTransaction(Loan loan, Long id, LoanTransactionType type, LocalDate transactionDate,
+            BigDecimal amount) {
+        LoanTransaction transaction = new LoanTransaction(loan, null, type.getValue(), transactionDate, amount, null, null, null, null,
+                null, false, null, ExternalId.empty());
+        // a persisted transaction has an id and a creation timestamp, the checkpoints are keyed on both
+        transaction.setId(id);
+        transaction.setCreatedDate(OffsetDateTime.of(transactionDate.atStartOfDay(), ZoneOffset.UTC));
+        return transaction;
+    }
+}
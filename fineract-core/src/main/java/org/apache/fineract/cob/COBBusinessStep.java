@@ -27,4 +27,12 @@ public interface COBBusinessStep<T extends AbstractPersistableCustom<Long>> {
     String getEnumStyledName();
 
     String getHumanReadableName();
+
+    /**
+     * Whether the item has to be reloaded before the next business step is executed. Business steps which neither
+     * modify the item nor write to the database out-of-band can return false, so the reload is skipped.
+     */
+    default boolean isReloadRequired() {
+        return true;
+    }
 }
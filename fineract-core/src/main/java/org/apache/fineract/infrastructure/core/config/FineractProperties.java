@@ -65,6 +65,9 @@ public class FineractProperties {
 
     private FineractDatabaseProperties database;
     private FineractQueryProperties query;
+    private FineractDatatableProperties datatable;
+    private FineractSearchProperties search;
+    private FineractBulkImportProperties bulkImport;
     private FineractApiProperties api;
     private FineractSecurityProperties security;
 
@@ -72,6 +75,8 @@ public class FineractProperties {
 
     private FineractLoanProperties loan;
 
+    private FineractAccountingProperties accounting;
+
     private FineractSamplingProperties sampling;
 
     private FineractModulesProperties module;
@@ -288,6 +293,19 @@ public class FineractProperties {
         private boolean enabled;
         private FineractExternalEventsProducerProperties producer;
         private int partitionSize;
+        private boolean batchPostingEnabled;
+        private FineractExternalEventsStreamingProperties streaming;
+        private long configurationCacheTtlInSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExternalEventsStreamingProperties {
+
+        private boolean enabled;
+        private long idleIntervalInMillis;
+        private long leaseDurationInSeconds;
+        private long tenantRefreshIntervalInSeconds;
     }
 
     @Getter
@@ -310,6 +328,8 @@ public class FineractProperties {
         private String brokerPassword;
         private int producerCount;
         private boolean asyncSendEnabled;
+        private boolean pooledProducersEnabled;
+        private boolean transactedSendEnabled;
         private int threadPoolTaskExecutorCorePoolSize;
         private int threadPoolTaskExecutorMaxPoolSize;
 
@@ -328,6 +348,11 @@ public class FineractProperties {
         private KafkaProperties producer;
         private KafkaProperties admin;
         private int timeoutInSeconds;
+        private String compressionType;
+        private Integer lingerMs;
+        private Integer batchSize;
+        private Integer maxInFlightRequestsPerConnection;
+        private Boolean idempotenceEnabled;
     }
 
     @Getter
@@ -371,6 +396,7 @@ public class FineractProperties {
     @Setter
     public static class FineractExportProperties {
 
+        private int fetchSize;
         private FineractExportS3Properties s3;
     }
 
@@ -388,6 +414,40 @@ public class FineractProperties {
 
         private int stuckRetryThreshold;
         private boolean loanCobEnabled;
+        private FineractLoanCobProperties loanCob;
+        private FineractPeriodicAccrualJobProperties periodicAccrual;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanCobProperties {
+
+        private boolean prefetchEnabled;
+        private boolean costBalancedPartitioningEnabled;
+        private boolean setBasedLockingEnabled;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractPeriodicAccrualJobProperties {
+
+        private int chunkSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractAccountingProperties {
+
+        private int productAccountMappingCacheTtlInSeconds;
+        private FineractRunningBalanceProperties runningBalance;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractRunningBalanceProperties {
+
+        private int threadPoolSize;
+        private int pageSize;
     }
 
     @Getter
@@ -419,6 +479,36 @@ public class FineractProperties {
         private int inClauseParameterSizeLimit;
     }
 
+    @Getter
+    @Setter
+    public static class FineractDatatableProperties {
+
+        private long metadataVersionCheckIntervalInMillis;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSearchProperties {
+
+        private FineractSearchIndexProperties index;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSearchIndexProperties {
+
+        private boolean enabled;
+        private int rebuildBatchSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBulkImportProperties {
+
+        private int rowThreadCount;
+        private int progressUpdateInterval;
+    }
+
     @Getter
     @Setter
     public static class FineractApiProperties {
@@ -453,6 +543,17 @@ public class FineractProperties {
 
         private FineractTransactionProcessorProperties transactionProcessor;
         private String statusChangeHistoryStatuses;
+        private FineractReplayCheckpointProperties replayCheckpoint;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractReplayCheckpointProperties {
+
+        private boolean enabled;
+        private int interval;
+        private int maxCheckpointsPerLoan;
+        private int maxLoans;
     }
 
     @Getter
@@ -25,13 +25,22 @@ public class Page<E> implements Serializable {
 
     private final Integer totalFilteredRecords;
     private final List<E> pageItems;
+    private final String nextCursor;
 
     public Page(final List<E> pageItems, final Integer totalFilteredRecords) {
+        this(pageItems, totalFilteredRecords, null);
+    }
+
+    public Page(final List<E> pageItems, final Integer totalFilteredRecords, final String nextCursor) {
         this.pageItems = pageItems;
         this.totalFilteredRecords = totalFilteredRecords;
+        this.nextCursor = nextCursor;
     }
 
-    public int getTotalFilteredRecords() {
+    /**
+     * @return the number of filtered records, <code>null</code> if the count was not requested
+     */
+    public Integer getTotalFilteredRecords() {
         return this.totalFilteredRecords;
     }
 
@@ -39,4 +48,11 @@ public class Page<E> implements Serializable {
         return this.pageItems;
     }
 
+    /**
+     * @return the cursor of the next page of a list ordered by id, <code>null</code> on the last page
+     */
+    public String getNextCursor() {
+        return this.nextCursor;
+    }
+
 }
@@ -0,0 +1,56 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+
+/**
+ * How the total number of filtered records of a {@link Page} is determined, selected by the <code>withCount</code> query
+ * parameter.
+ */
+public enum PageCountMode {
+
+    /**
+     * Exact count, the default.
+     */
+    EXACT,
+    /**
+     * No count, the total number of filtered records is left out of the page.
+     */
+    NONE,
+    /**
+     * Planner estimate where the database offers a cheaper one than the exact count.
+     */
+    ESTIMATE;
+
+    public static PageCountMode fromWithCount(final String withCount) {
+        if (StringUtils.isBlank(withCount) || "true".equalsIgnoreCase(withCount)) {
+            return EXACT;
+        }
+        if ("false".equalsIgnoreCase(withCount)) {
+            return NONE;
+        }
+        if ("estimate".equalsIgnoreCase(withCount)) {
+            return ESTIMATE;
+        }
+        throw new PlatformApiDataValidationException("validation.msg.invalid.with.count",
+                "The withCount value `" + withCount + "` is not supported, use true, false or estimate.", "withCount", withCount);
+    }
+}
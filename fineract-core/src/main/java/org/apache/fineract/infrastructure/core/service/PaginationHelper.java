@@ -19,6 +19,9 @@
 package org.apache.fineract.infrastructure.core.service;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
@@ -30,6 +33,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class PaginationHelper {
 
+    // the first plan node is the root node, its row estimate is the one of the whole query
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*([0-9.eE+]+)");
+
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final DatabaseTypeResolver databaseTypeResolver;
 
@@ -40,19 +46,65 @@ public class PaginationHelper {
     }
 
     public <E> Page<E> fetchPage(final JdbcTemplate jt, final String sqlFetchRows, final Object[] args, final RowMapper<E> rowMapper) {
+        return fetchPage(jt, sqlFetchRows, args, rowMapper, null, null);
+    }
+
+    /**
+     * Fetches a page counted as requested by the search parameters. Pages of lists ordered by id and filled up to the
+     * limit carry the cursor of the next page, built from the id of their last item.
+     */
+    public <E> Page<E> fetchPage(final JdbcTemplate jt, final String sqlFetchRows, final Object[] args, final RowMapper<E> rowMapper,
+            final SearchParameters searchParameters, final Function<E, Long> idExtractor) {
 
         final List<E> items = jt.query(sqlFetchRows, rowMapper, args); // NOSONAR
 
+        final PageCountMode countMode = searchParameters == null ? PageCountMode.EXACT : searchParameters.getCountMode();
+        final Integer totalFilteredRecords = switch (countMode) {
+            case EXACT -> countRows(jt, sqlFetchRows, args);
+            case ESTIMATE -> estimateRows(jt, sqlFetchRows, args);
+            case NONE -> null;
+        };
+
+        String nextCursor = null;
+        if (idExtractor != null && searchParameters != null && searchParameters.isOrderedById() && searchParameters.hasLimit()
+                && items.size() == searchParameters.getLimit()) {
+            nextCursor = PageCursor.encode(idExtractor.apply(items.get(items.size() - 1)));
+        }
+        return new Page<>(items, totalFilteredRecords, nextCursor);
+    }
+
+    /**
+     * Row count hint to put after the select keyword of paged queries, empty if the page is not counted.
+     */
+    public String calcFoundRows(final SearchParameters searchParameters) {
+        if (searchParameters != null && searchParameters.getCountMode() == PageCountMode.NONE) {
+            return "";
+        }
+        return sqlGenerator.calcFoundRows();
+    }
+
+    private Integer countRows(final JdbcTemplate jt, final String sqlFetchRows, final Object[] args) {
         // determine how many rows are available
         final String sqlCountRows = sqlGenerator.countLastExecutedQueryResult(sqlFetchRows);
-        final Integer totalFilteredRecords;
         if (databaseTypeResolver.isMySQL()) {
-            totalFilteredRecords = jt.queryForObject(sqlCountRows, Integer.class); // NOSONAR
+            return jt.queryForObject(sqlCountRows, Integer.class); // NOSONAR
         } else {
-            totalFilteredRecords = jt.queryForObject(sqlCountRows, Integer.class, args); // NOSONAR
+            return jt.queryForObject(sqlCountRows, Integer.class, args); // NOSONAR
         }
+    }
 
-        return new Page<>(items, totalFilteredRecords);
+    private Integer estimateRows(final JdbcTemplate jt, final String sqlFetchRows, final Object[] args) {
+        final String sqlEstimateRows = sqlGenerator.estimateQueryResult(sqlFetchRows);
+        if (sqlEstimateRows == null) {
+            // the exact count is calculated along with the fetched rows
+            return countRows(jt, sqlFetchRows, args);
+        }
+        final String plan = jt.queryForObject(sqlEstimateRows, String.class, args); // NOSONAR
+        if (plan == null) {
+            return null;
+        }
+        final Matcher matcher = PLAN_ROWS.matcher(plan);
+        return matcher.find() ? (int) Math.min(Integer.MAX_VALUE, Math.round(Double.parseDouble(matcher.group(1)))) : null;
     }
 
     public <E> Page<Long> fetchPage(JdbcTemplate jdbcTemplate, String sql, Class<Long> type) {
@@ -23,6 +23,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 
 @Builder
 @Getter
@@ -55,6 +56,8 @@ public class SearchParameters {
     private Long categoryId;
     @Getter(AccessLevel.NONE)
     private Boolean isSelfUser;
+    private String after;
+    private String withCount;
 
     public Integer getLimit() {
         if (limit == null) {
@@ -127,4 +130,38 @@ public class SearchParameters {
     public boolean hasCategoryId() {
         return this.categoryId != null && this.categoryId != 0;
     }
+
+    public boolean hasAfter() {
+        return StringUtils.isNotBlank(this.after);
+    }
+
+    /**
+     * Id of the last row of the previous page when paging with a cursor; the rows are then ordered by id.
+     */
+    public Long getAfterId() {
+        if (hasOrderBy() && !isOrderedById()) {
+            throw new PlatformApiDataValidationException("validation.msg.page.cursor.requires.order.by.id",
+                    "Paging with a cursor is only supported when ordering by id.", "orderBy", this.orderBy);
+        }
+        return PageCursor.decode(this.after);
+    }
+
+    /**
+     * Lists paged with a cursor are not counted unless requested explicitly, the count would only cover the rows after the
+     * cursor.
+     */
+    public PageCountMode getCountMode() {
+        if (hasAfter() && StringUtils.isBlank(this.withCount)) {
+            return PageCountMode.NONE;
+        }
+        return PageCountMode.fromWithCount(this.withCount);
+    }
+
+    public boolean isOrderedById() {
+        return hasAfter() && !hasOrderBy() || hasOrderBy() && "id".equalsIgnoreCase(this.orderBy.trim());
+    }
+
+    public boolean isDescending() {
+        return hasSortOrder() && "desc".equalsIgnoreCase(this.sortOrder.trim());
+    }
 }
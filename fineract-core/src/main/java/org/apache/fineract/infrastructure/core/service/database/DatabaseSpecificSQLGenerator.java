@@ -104,9 +104,23 @@ public class DatabaseSpecificSQLGenerator {
     }
 
     public String countQueryResult(@NotNull String sql) {
+        return format("SELECT COUNT(*) FROM (%s) AS temp", removeLimit(sql));
+    }
+
+    /**
+     * Query returning the planner estimate of the number of rows of the given query as JSON, <code>null</code> if the
+     * database has no cheaper estimate than the exact count.
+     */
+    public String estimateQueryResult(@NotNull String sql) {
+        if (databaseTypeResolver.isPostgreSQL()) {
+            return format("EXPLAIN (FORMAT JSON) %s", removeLimit(sql));
+        }
+        return null;
+    }
+
+    private String removeLimit(String sql) {
         // Needs to remove the limit and offset
-        sql = sql.replaceAll("LIMIT \\d+", "").replaceAll("OFFSET \\d+", "").trim();
-        return format("SELECT COUNT(*) FROM (%s) AS temp", sql);
+        return sql.replaceAll("LIMIT \\d+", "").replaceAll("OFFSET \\d+", "").trim();
     }
 
     public String currentBusinessDate() {
@@ -253,6 +267,20 @@ public class DatabaseSpecificSQLGenerator {
                 + ") VALUES (" + fields.stream().map(e -> decoratePlaceHolder(headers, e, "?")).collect(Collectors.joining(", ")) + ")";
     }
 
+    /**
+     * Builds an <code>INSERT INTO ... SELECT</code> statement which silently skips the rows that would violate a unique
+     * or primary key constraint instead of failing the whole statement.
+     */
+    public String buildInsertIgnoringDuplicates(@NotNull String definition, @NotNull String fields, @NotNull String query) {
+        if (databaseTypeResolver.isMySQL()) {
+            return format("INSERT IGNORE INTO %s (%s) %s", definition, fields, query);
+        } else if (databaseTypeResolver.isPostgreSQL()) {
+            return format("INSERT INTO %s (%s) %s ON CONFLICT DO NOTHING", definition, fields, query);
+        } else {
+            throw new IllegalStateException("Database type is not supported for insert ignore " + databaseTypeResolver.databaseType());
+        }
+    }
+
     public String buildUpdate(@NotNull String definition, List<String> fields, Map<String, ResultsetColumnHeaderData> headers) {
         if (fields == null || fields.isEmpty()) {
             return "";
@@ -27,12 +27,22 @@ public interface GenericDataService {
 
     GenericResultsetData fillGenericResultSet(String sql);
 
+    /**
+     * Reads the resultset of the given SQL with a database cursor and hands it to the row handler row by row instead of
+     * materializing it as {@link GenericResultsetData}.
+     *
+     * @return the number of rows read
+     */
+    long streamGenericResultSet(String sql, ResultsetRowHandler rowHandler);
+
     List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(String tableName);
 
     List<ResultsetRowData> fillResultsetRowData(String sql, List<ResultsetColumnHeaderData> columnHeaders);
 
     String generateJsonFromGenericResultsetData(GenericResultsetData grs);
 
+    String generateJsonFromGenericResultsetRow(List<ResultsetColumnHeaderData> columnHeaders, List<Object> row);
+
     String replace(String str, String pattern, String replace);
 
     String wrapSQL(String sql);
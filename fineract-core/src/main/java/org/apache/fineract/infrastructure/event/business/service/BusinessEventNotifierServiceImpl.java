@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -34,7 +35,8 @@ import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.NoExternalEvent;
-import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventConfigurationCache;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Service;
@@ -51,12 +53,14 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
 
     private final Map<Class, List<BusinessEventListener>> preListeners = new HashMap<>();
     private final Map<Class, List<BusinessEventListener>> postListeners = new HashMap<>();
+    private final Map<Class, List<BusinessEventListener>> resolvedPreListeners = new ConcurrentHashMap<>();
+    private final Map<Class, List<BusinessEventListener>> resolvedPostListeners = new ConcurrentHashMap<>();
 
     private final ThreadLocal<Boolean> eventRecordingEnabled = ThreadLocal.withInitial(() -> false);
     private final ThreadLocal<List<BusinessEvent<?>>> recordedEvents = ThreadLocal.withInitial(ArrayList::new);
 
     private final ExternalEventService externalEventService;
-    private final ExternalEventConfigurationRepository eventConfigurationRepository;
+    private final ExternalEventConfigurationCache eventConfigurationCache;
     private final FineractProperties fineractProperties;
     private final ThreadLocal<Stack<List<BusinessEventWithContext>>> transactionBusinessEvents = ThreadLocal.withInitial(Stack::new);
     private final TransactionHelper transactionHelper;
@@ -73,7 +77,8 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     @Override
     public void notifyPreBusinessEvent(BusinessEvent<?> businessEvent) {
         throwExceptionIfBulkEvent(businessEvent);
-        List<BusinessEventListener> businessEventListeners = findSuitableListeners(preListeners, businessEvent.getClass());
+        List<BusinessEventListener> businessEventListeners = findSuitableListeners(preListeners, resolvedPreListeners,
+                businessEvent.getClass());
         for (BusinessEventListener eventListener : businessEventListeners) {
             eventListener.onBusinessEvent(businessEvent);
         }
@@ -87,6 +92,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
             preListeners.put(eventType, businessEventListeners);
         }
         businessEventListeners.add(listener);
+        resolvedPreListeners.clear();
     }
 
     @Override
@@ -94,7 +100,8 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     public void notifyPostBusinessEvent(BusinessEvent<?> businessEvent) {
         throwExceptionIfBulkEvent(businessEvent);
         boolean isExternalEvent = !(businessEvent instanceof NoExternalEvent);
-        List<BusinessEventListener> businessEventListeners = findSuitableListeners(postListeners, businessEvent.getClass());
+        List<BusinessEventListener> businessEventListeners = findSuitableListeners(postListeners, resolvedPostListeners,
+                businessEvent.getClass());
         for (BusinessEventListener eventListener : businessEventListeners) {
             eventListener.onBusinessEvent(businessEvent);
         }
@@ -114,7 +121,13 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         }
     }
 
-    private List<BusinessEventListener> findSuitableListeners(Map<Class, List<BusinessEventListener>> listeners, Class<?> eventClazz) {
+    private List<BusinessEventListener> findSuitableListeners(Map<Class, List<BusinessEventListener>> listeners,
+            Map<Class, List<BusinessEventListener>> resolvedListeners, Class<?> eventClazz) {
+        // the listeners are registered on startup, so the result is resolved only once per event class
+        return resolvedListeners.computeIfAbsent(eventClazz, clazz -> resolveSuitableListeners(listeners, clazz));
+    }
+
+    private List<BusinessEventListener> resolveSuitableListeners(Map<Class, List<BusinessEventListener>> listeners, Class<?> eventClazz) {
         List<BusinessEventListener> result = new ArrayList<>();
         for (Map.Entry<Class, List<BusinessEventListener>> entry : listeners.entrySet()) {
             Class<?> registeredClazz = entry.getKey();
@@ -133,6 +146,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
             postListeners.put(eventType, businessEventListeners);
         }
         businessEventListeners.add(listener);
+        resolvedPostListeners.clear();
     }
 
     private boolean isExternalEventRecordingEnabled() {
@@ -143,8 +157,12 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         return fineractProperties.getEvents().getExternal().isEnabled();
     }
 
+    private boolean isExternalEventBatchPostingEnabled() {
+        return fineractProperties.getEvents().getExternal().isBatchPostingEnabled();
+    }
+
     private boolean isExternalEventConfiguredForPosting(String eventType) {
-        return eventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(eventType).isEnabled();
+        return eventConfigurationCache.isEnabled(eventType);
     }
 
     private void throwExceptionIfBulkEvent(BusinessEvent<?> businessEvent) {
@@ -208,9 +226,13 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         if (!businessEventWithContexts.isEmpty()) {
             FineractContext originalContext = ThreadLocalContextUtil.getContext();
             try {
-                for (BusinessEventWithContext businessEventWithContext : businessEventWithContexts) {
-                    ThreadLocalContextUtil.init(businessEventWithContext.getFineractContext());
-                    externalEventService.postEvent(businessEventWithContext.getEvent());
+                if (isExternalEventBatchPostingEnabled()) {
+                    postEventsInBatch(businessEventWithContexts);
+                } else {
+                    for (BusinessEventWithContext businessEventWithContext : businessEventWithContexts) {
+                        ThreadLocalContextUtil.init(businessEventWithContext.getFineractContext());
+                        externalEventService.postEvent(businessEventWithContext.getEvent());
+                    }
                 }
             } finally {
                 ThreadLocalContextUtil.init(originalContext);
@@ -218,6 +240,17 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         }
     }
 
+    private void postEventsInBatch(List<BusinessEventWithContext> businessEventWithContexts) {
+        // a single flush is enough as the serialization itself does not modify the entities
+        externalEventService.flushChangesBeforeSerialization();
+        List<ExternalEvent> externalEvents = new ArrayList<>(businessEventWithContexts.size());
+        for (BusinessEventWithContext businessEventWithContext : businessEventWithContexts) {
+            ThreadLocalContextUtil.init(businessEventWithContext.getFineractContext());
+            externalEvents.add(externalEventService.createExternalEvent(businessEventWithContext.getEvent()));
+        }
+        externalEventService.saveExternalEvents(externalEvents);
+    }
+
     @Override
     public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
         cleanup();
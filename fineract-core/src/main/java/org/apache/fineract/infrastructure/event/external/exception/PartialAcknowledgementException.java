@@ -0,0 +1,37 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.exception;
+
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * Thrown when the messages of some partitions were acknowledged by the downstream channel while others were not. The
+ * events of the acknowledged partitions can be marked as sent, the others have to be sent again.
+ */
+@Getter
+public class PartialAcknowledgementException extends RuntimeException {
+
+    private final Set<Long> unacknowledgedPartitions;
+
+    public PartialAcknowledgementException(String message, Set<Long> unacknowledgedPartitions, Throwable cause) {
+        super(message, cause);
+        this.unacknowledgedPartitions = unacknowledgedPartitions;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.repository;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CustomExternalEventRepositoryImpl implements CustomExternalEventRepository {
+
+    private static final int MAX_ROWS_PER_INSERT = 1000;
+    private static final String VALUES_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    @Override
+    public void insertAll(List<ExternalEvent> externalEvents) {
+        for (List<ExternalEvent> partition : Lists.partition(externalEvents, MAX_ROWS_PER_INSERT)) {
+            List<Object> params = new ArrayList<>(partition.size() * 9);
+            for (ExternalEvent externalEvent : partition) {
+                params.add(externalEvent.getType());
+                params.add(externalEvent.getCategory());
+                params.add(externalEvent.getSchema());
+                params.add(externalEvent.getData());
+                params.add(externalEvent.getCreatedAt());
+                params.add(externalEvent.getStatus().name());
+                params.add(externalEvent.getIdempotencyKey());
+                params.add(externalEvent.getBusinessDate());
+                params.add(externalEvent.getAggregateRootId());
+            }
+            jdbcTemplate.update(buildInsert(partition.size()), params.toArray());
+        }
+    }
+
+    private String buildInsert(int rows) {
+        return "INSERT INTO m_external_event (type, category, " + sqlGenerator.escape("schema")
+                + ", data, created_at, status, idempotency_key, business_date, aggregate_root_id) VALUES "
+                + String.join(", ", Collections.nCopies(rows, VALUES_PLACEHOLDER));
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.exception.ExternalEventConfigurationNotFoundException;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventConfiguration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps an in-memory snapshot of the external event configurations of every tenant, so checking whether an event has
+ * to be posted does not query the database for every raised event.
+ * <p>
+ * The snapshot of a tenant is dropped when its configurations are updated on this instance and it expires after the
+ * configured time to live, which bounds how long other instances keep using outdated configurations.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalEventConfigurationCache {
+
+    private final ExternalEventConfigurationRepository repository;
+    private final FineractProperties fineractProperties;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public boolean isEnabled(String externalEventType) {
+        Boolean enabled = getSnapshot().getEnabledByType().get(externalEventType);
+        if (enabled == null) {
+            throw new ExternalEventConfigurationNotFoundException(externalEventType);
+        }
+        return enabled;
+    }
+
+    /**
+     * Drops the snapshot of the current tenant right away and, when called within a transaction, once more after the
+     * commit, so a snapshot loaded before the commit is not kept.
+     */
+    public void invalidate() {
+        String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        snapshots.remove(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    snapshots.remove(tenantIdentifier);
+                }
+            });
+        }
+    }
+
+    private Snapshot getSnapshot() {
+        String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        Snapshot snapshot = snapshots.get(tenantIdentifier);
+        if (snapshot == null || snapshot.isExpired(getTimeToLiveInNanos())) {
+            snapshot = new Snapshot(repository.findAll().stream()
+                    .collect(Collectors.toUnmodifiableMap(ExternalEventConfiguration::getType, ExternalEventConfiguration::isEnabled)),
+                    System.nanoTime());
+            snapshots.put(tenantIdentifier, snapshot);
+        }
+        return snapshot;
+    }
+
+    private long getTimeToLiveInNanos() {
+        return TimeUnit.SECONDS.toNanos(fineractProperties.getEvents().getExternal().getConfigurationCacheTtlInSeconds());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Snapshot {
+
+        private final Map<String, Boolean> enabledByType;
+        private final long loadedAt;
+
+        private boolean isExpired(long timeToLiveInNanos) {
+            return System.nanoTime() - loadedAt >= timeToLiveInNanos;
+        }
+    }
+}
@@ -58,25 +58,43 @@ public class ExternalEventService {
     private EntityManager entityManager;
 
     public <T> void postEvent(BusinessEvent<T> event) {
+        flushChangesBeforeSerialization();
+        ExternalEvent externalEvent = createExternalEvent(event);
+        repository.save(externalEvent);
+        log.debug("Saved message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
+                externalEvent.getType(), externalEvent.getCategory());
+    }
+
+    /**
+     * Serializes the event into a not yet persisted {@link ExternalEvent}. The pending changes of the persistence
+     * context have to be flushed before by {@link #flushChangesBeforeSerialization()}.
+     */
+    public <T> ExternalEvent createExternalEvent(BusinessEvent<T> event) {
         if (event == null) {
             throw new IllegalArgumentException("event cannot be null");
         }
 
         try {
-            flushChangesBeforeSerialization();
-            ExternalEvent externalEvent;
             if (event instanceof BulkBusinessEvent) {
-                externalEvent = handleBulkBusinessEvent((BulkBusinessEvent) event);
+                return handleBulkBusinessEvent((BulkBusinessEvent) event);
             } else {
-                externalEvent = handleRegularBusinessEvent(event);
+                return handleRegularBusinessEvent(event);
             }
-            repository.save(externalEvent);
-            log.debug("Saved message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
-                    externalEvent.getType(), externalEvent.getCategory());
         } catch (IOException e) {
             throw new RuntimeException("Error while serializing event " + event.getClass().getSimpleName(), e);
         }
+    }
 
+    /**
+     * Saves the events created by {@link #createExternalEvent(BusinessEvent)} with as few statements as possible,
+     * keeping their order.
+     */
+    public void saveExternalEvents(List<ExternalEvent> externalEvents) {
+        if (externalEvents.isEmpty()) {
+            return;
+        }
+        repository.insertAll(externalEvents);
+        log.debug("Saved {} messages", externalEvents.size());
     }
 
     private ExternalEvent handleBulkBusinessEvent(BulkBusinessEvent bulkBusinessEvent) throws IOException {
@@ -110,7 +128,7 @@ public class ExternalEventService {
         return new ExternalEvent(eventType, eventCategory, schema, data, idempotencyKey, aggregateRootId);
     }
 
-    private void flushChangesBeforeSerialization() {
+    public void flushChangesBeforeSerialization() {
         entityManager.flush();
     }
 
@@ -0,0 +1,188 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.domain;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Mutable accumulator for summing {@link Money} amounts of a single currency.
+ * <p>
+ * Every {@link Money#plus(Money)} allocates a new {@link Money}, a {@link MonetaryCurrency} and several intermediate
+ * {@link BigDecimal}s. In loops summing many amounts (schedule totals, charges of a period, outstanding balances of
+ * the installments) this accumulator keeps the running total as a scale-fixed long in minor units of the currency and
+ * only falls back to {@link BigDecimal} when the total leaves the long range or an amount has more decimals than the
+ * currency. Each step is rounded exactly like {@link Money} would do it (currency scale and multiples of rounding),
+ * so {@link #toMoney()} returns the same result as chaining {@link Money#plus(Money)} calls.
+ * <p>
+ * Instances are not thread safe and are meant to be used as local variables.
+ */
+public final class MoneyAccumulator {
+
+    private static final int MAX_LONG_PRECISION = 18;
+
+    private final MonetaryCurrency currency;
+    private final int digitsAfterDecimal;
+    private final Integer inMultiplesOf;
+    private final MathContext mc;
+    private final RoundingMode roundingMode;
+    private final boolean roundToMultiplesOf;
+
+    private long unscaledAmount;
+    // non-null only if the amount does not fit into unscaledAmount
+    private BigDecimal amount;
+
+    private MoneyAccumulator(final MonetaryCurrency currency, final MathContext mc) {
+        this.currency = currency;
+        this.digitsAfterDecimal = currency.getDigitsAfterDecimal();
+        this.inMultiplesOf = currency.getCurrencyInMultiplesOf();
+        this.mc = mc;
+        this.roundingMode = (mc != null ? mc : MoneyHelper.getMathContext()).getRoundingMode();
+        this.roundToMultiplesOf = inMultiplesOf != null && digitsAfterDecimal == 0 && inMultiplesOf > 0;
+    }
+
+    public static MoneyAccumulator zero(final MonetaryCurrency currency) {
+        return new MoneyAccumulator(currency, null);
+    }
+
+    public static MoneyAccumulator zero(final MonetaryCurrency currency, final MathContext mc) {
+        return new MoneyAccumulator(currency, mc);
+    }
+
+    public static MoneyAccumulator of(final Money money) {
+        return new MoneyAccumulator(money.getCurrency(), money.getMc()).plus(money);
+    }
+
+    /**
+     * Collector summing the amounts of a stream, the equivalent of
+     * {@code reduce(Money.zero(currency, mc), (m1, m2) -> m1.plus(m2, mc))}.
+     */
+    public static Collector<Money, MoneyAccumulator, Money> summing(final MonetaryCurrency currency, final MathContext mc) {
+        Supplier<MoneyAccumulator> supplier = () -> zero(currency, mc);
+        BiConsumer<MoneyAccumulator, Money> accumulator = MoneyAccumulator::plus;
+        BinaryOperator<MoneyAccumulator> combiner = (a1, a2) -> a1.plus(a2.getAmount());
+        Function<MoneyAccumulator, Money> finisher = MoneyAccumulator::toMoney;
+        return Collector.of(supplier, accumulator, combiner, finisher);
+    }
+
+    public MoneyAccumulator plus(final Money money) {
+        if (money == null) {
+            return this;
+        }
+        checkCurrencyEqual(money);
+        return plus(money.getAmount());
+    }
+
+    public MoneyAccumulator minus(final Money money) {
+        if (money == null) {
+            return this;
+        }
+        checkCurrencyEqual(money);
+        return minus(money.getAmount());
+    }
+
+    public MoneyAccumulator plus(final BigDecimal amountToAdd) {
+        if (amountToAdd == null || amountToAdd.signum() == 0) {
+            return this;
+        }
+        if (amount == null && amountToAdd.scale() == digitsAfterDecimal && amountToAdd.precision() <= MAX_LONG_PRECISION) {
+            long value = amountToAdd.unscaledValue().longValue();
+            long result = unscaledAmount + value;
+            // overflow if both operands have the same sign and the result has a different one
+            if (((unscaledAmount ^ result) & (value ^ result)) >= 0) {
+                unscaledAmount = result;
+                applyMultiplesOfRounding();
+                return this;
+            }
+        }
+        setAmount(getAmount().add(amountToAdd).setScale(digitsAfterDecimal, roundingMode));
+        applyMultiplesOfRounding();
+        return this;
+    }
+
+    public MoneyAccumulator minus(final BigDecimal amountToSubtract) {
+        if (amountToSubtract == null || amountToSubtract.signum() == 0) {
+            return this;
+        }
+        return plus(amountToSubtract.negate());
+    }
+
+    public MoneyAccumulator reset() {
+        unscaledAmount = 0;
+        amount = null;
+        return this;
+    }
+
+    public int signum() {
+        return amount != null ? amount.signum() : Long.signum(unscaledAmount);
+    }
+
+    public boolean isZero() {
+        return signum() == 0;
+    }
+
+    public boolean isGreaterThanZero() {
+        return signum() > 0;
+    }
+
+    public boolean isLessThanZero() {
+        return signum() < 0;
+    }
+
+    public BigDecimal getAmount() {
+        return amount != null ? amount : BigDecimal.valueOf(unscaledAmount, digitsAfterDecimal);
+    }
+
+    public MonetaryCurrency getCurrency() {
+        return currency;
+    }
+
+    public Money toMoney() {
+        return Money.of(currency, getAmount(), mc);
+    }
+
+    private void setAmount(final BigDecimal newAmount) {
+        if (newAmount.precision() <= MAX_LONG_PRECISION) {
+            unscaledAmount = newAmount.unscaledValue().longValue();
+            amount = null;
+        } else {
+            amount = newAmount;
+        }
+    }
+
+    // same as the Money constructor: positive amounts of currencies without decimals are rounded to multiples of
+    private void applyMultiplesOfRounding() {
+        if (roundToMultiplesOf && signum() > 0) {
+            double value = Money.roundToMultiplesOf(getAmount().doubleValue(), inMultiplesOf);
+            setAmount(BigDecimal.valueOf(value).setScale(0, roundingMode));
+        }
+    }
+
+    private void checkCurrencyEqual(final Money money) {
+        if (!currency.getCode().equals(money.getCurrencyCode())) {
+            throw new UnsupportedOperationException("currencies are different.");
+        }
+    }
+}
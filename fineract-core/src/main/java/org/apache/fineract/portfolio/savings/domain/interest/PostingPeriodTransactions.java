@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain.interest;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.domain.LocalDateInterval;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+
+/**
+ * The non interest posting transactions of a savings account ordered by transaction date, sliced per posting period.
+ * <p>
+ * {@link PostingPeriod#createFrom} ignores every transaction whose balance neither falls within nor spans the period and
+ * which does not occur on the day after the period ends. Those transactions either start after that day or their
+ * balance ends before the period starts, so the remaining ones are a contiguous range of the ordered list which is
+ * found with two binary searches instead of walking the whole history for every posting period.
+ */
+public final class PostingPeriodTransactions {
+
+    private final List<SavingsAccountTransactionDetailsForPostingPeriod> orderedTransactions;
+    // the latest transaction or end of balance date of the transactions up to and including the same index
+    private final LocalDate[] reachedDates;
+
+    public PostingPeriodTransactions(final List<SavingsAccountTransactionDetailsForPostingPeriod> orderedTransactions) {
+        this.orderedTransactions = orderedTransactions;
+        this.reachedDates = new LocalDate[orderedTransactions.size()];
+        LocalDate reachedDate = null;
+        for (int i = 0; i < reachedDates.length; i++) {
+            final SavingsAccountTransactionDetailsForPostingPeriod transaction = orderedTransactions.get(i);
+            reachedDate = latest(reachedDate, latest(transaction.getTransactionDate(), transaction.getEndOfBalanceDate()));
+            reachedDates[i] = reachedDate;
+        }
+    }
+
+    /**
+     * @return the ordered transactions which can contribute to the end of day balances of the given posting period
+     */
+    public List<SavingsAccountTransactionDetailsForPostingPeriod> within(final LocalDateInterval periodInterval) {
+        final int fromIndex = firstIndexReaching(periodInterval.startDate());
+        final int toIndex = firstIndexAfter(periodInterval.endDate().plusDays(1));
+        return fromIndex < toIndex ? this.orderedTransactions.subList(fromIndex, toIndex) : List.of();
+    }
+
+    private int firstIndexReaching(final LocalDate date) {
+        int low = 0;
+        int high = this.reachedDates.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (DateUtils.isBefore(this.reachedDates[middle], date)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int firstIndexAfter(final LocalDate date) {
+        int low = 0;
+        int high = this.orderedTransactions.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (DateUtils.isAfter(this.orderedTransactions.get(middle).getTransactionDate(), date)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static LocalDate latest(final LocalDate first, final LocalDate second) {
+        return DateUtils.compare(first, second) >= 0 ? first : second;
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+public class PaginationHelperTest {
+
+    private static final String SQL = "select c.id from m_client c where c.office_id = ? order by c.id asc LIMIT 2 OFFSET 0";
+    private static final Object[] ARGS = new Object[] { 1L };
+
+    private final DatabaseTypeResolver databaseTypeResolver = Mockito.mock(DatabaseTypeResolver.class);
+    private final PaginationHelper paginationHelper = new PaginationHelper(new DatabaseSpecificSQLGenerator(databaseTypeResolver),
+            databaseTypeResolver);
+    private final JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+    private final RowMapper<Long> rowMapper = (rs, rowNum) -> rs.getLong(1);
+
+    @Test
+    public void testPageIsCountedByDefault() {
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        when(jdbcTemplate.query(SQL, rowMapper, ARGS)).thenReturn(List.of(1L, 2L));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(1L))).thenReturn(5);
+
+        final Page<Long> page = paginationHelper.fetchPage(jdbcTemplate, SQL, ARGS, rowMapper);
+
+        Assertions.assertEquals(5, page.getTotalFilteredRecords());
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testPageIsNotCountedWithoutCount() {
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        when(jdbcTemplate.query(SQL, rowMapper, ARGS)).thenReturn(List.of(1L, 2L));
+        final SearchParameters searchParameters = SearchParameters.builder().limit(2).withCount("false").build();
+
+        final Page<Long> page = paginationHelper.fetchPage(jdbcTemplate, SQL, ARGS, rowMapper, searchParameters, id -> id);
+
+        Assertions.assertNull(page.getTotalFilteredRecords());
+        verify(jdbcTemplate).query(SQL, rowMapper, ARGS);
+        verifyNoMoreInteractions(jdbcTemplate);
+        Assertions.assertEquals("", paginationHelper.calcFoundRows(searchParameters));
+    }
+
+    @Test
+    public void testPageIsEstimatedFromThePlanOnPostgreSQL() {
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        when(jdbcTemplate.query(SQL, rowMapper, ARGS)).thenReturn(List.of(1L, 2L));
+        when(jdbcTemplate.queryForObject(eq("EXPLAIN (FORMAT JSON) select c.id from m_client c where c.office_id = ? order by c.id asc"),
+                eq(String.class), eq(1L))).thenReturn("[{\"Plan\": {\"Node Type\": \"Sort\", \"Plan Rows\": 1234, \"Plans\": "
+                        + "[{\"Node Type\": \"Seq Scan\", \"Plan Rows\": 1234}]}}]");
+        final SearchParameters searchParameters = SearchParameters.builder().limit(2).withCount("estimate").build();
+
+        final Page<Long> page = paginationHelper.fetchPage(jdbcTemplate, SQL, ARGS, rowMapper, searchParameters, id -> id);
+
+        Assertions.assertEquals(1234, page.getTotalFilteredRecords());
+    }
+
+    @Test
+    public void testFullPageOrderedByIdHasNextCursor() {
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        when(jdbcTemplate.query(SQL, rowMapper, ARGS)).thenReturn(List.of(41L, 42L));
+        final SearchParameters searchParameters = SearchParameters.builder().limit(2).orderBy("id").withCount("false").build();
+
+        final Page<Long> page = paginationHelper.fetchPage(jdbcTemplate, SQL, ARGS, rowMapper, searchParameters, id -> id);
+
+        Assertions.assertEquals(42L, SearchParameters.builder().after(page.getNextCursor()).build().getAfterId());
+    }
+
+    @Test
+    public void testLastPageHasNoNextCursor() {
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        when(jdbcTemplate.query(SQL, rowMapper, ARGS)).thenReturn(List.of(41L));
+        final SearchParameters searchParameters = SearchParameters.builder().limit(2).after(PageCursor.encode(40L)).build();
+
+        final Page<Long> page = paginationHelper.fetchPage(jdbcTemplate, SQL, ARGS, rowMapper, searchParameters, id -> id);
+
+        Assertions.assertNull(page.getNextCursor());
+        Assertions.assertNull(page.getTotalFilteredRecords());
+    }
+
+    @Test
+    public void testInvalidCursorIsRejected() {
+        Assertions.assertThrows(PlatformApiDataValidationException.class,
+                () -> SearchParameters.builder().after("not-a-cursor").build().getAfterId());
+        Assertions.assertThrows(PlatformApiDataValidationException.class,
+                () -> SearchParameters.builder().after(PageCursor.encode(1L)).orderBy("displayName").build().getAfterId());
+        Assertions.assertThrows(PlatformApiDataValidationException.class,
+                () -> SearchParameters.builder().withCount("maybe").build().getCountMode());
+    }
+}
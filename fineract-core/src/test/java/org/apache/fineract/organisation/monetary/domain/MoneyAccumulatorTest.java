@@ -0,0 +1,111 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class MoneyAccumulatorTest {
+
+    private static final MathContext MC = new MathContext(12, RoundingMode.HALF_EVEN);
+    private static final MonetaryCurrency USD = new MonetaryCurrency("USD", 2, null);
+
+    @Test
+    public void testSumMatchesMoneyPlus() {
+        Random random = new Random(42);
+        Money expected = Money.zero(USD, MC);
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(USD, MC);
+        for (int i = 0; i < 1000; i++) {
+            Money amount = Money.of(USD, BigDecimal.valueOf(random.nextInt(2_000_000) - 1_000_000, 2), MC);
+            if (i % 3 == 0) {
+                expected = expected.minus(amount, MC);
+                accumulator.minus(amount);
+            } else {
+                expected = expected.plus(amount, MC);
+                accumulator.plus(amount);
+            }
+        }
+        assertEquals(expected.getAmount(), accumulator.toMoney().getAmount());
+        assertEquals(expected.getAmount(), accumulator.getAmount());
+    }
+
+    @Test
+    public void testAmountsWithMoreDecimalsAreRoundedLikeMoney() {
+        MathContext roundUp = new MathContext(12, RoundingMode.UP);
+        Money expected = Money.of(USD, BigDecimal.ONE, roundUp).plus(new BigDecimal("-0.001"), roundUp).plus(new BigDecimal("0.125"),
+                roundUp);
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(USD, roundUp).plus(BigDecimal.ONE).plus(new BigDecimal("-0.001"))
+                .plus(new BigDecimal("0.125"));
+        assertEquals(0, expected.getAmount().compareTo(accumulator.getAmount()));
+        assertEquals(new BigDecimal("1.13"), accumulator.getAmount());
+    }
+
+    @Test
+    public void testMultiplesOfRounding() {
+        MonetaryCurrency currency = new MonetaryCurrency("XOF", 0, 50);
+        Money expected = Money.zero(currency, MC);
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(currency, MC);
+        for (BigDecimal amount : List.of(new BigDecimal("120"), new BigDecimal("-330"), new BigDecimal("260"), new BigDecimal("74"))) {
+            expected = expected.plus(amount, MC);
+            accumulator.plus(amount);
+            assertEquals(0, expected.getAmount().compareTo(accumulator.getAmount()));
+        }
+    }
+
+    @Test
+    public void testOverflowFallsBackToBigDecimal() {
+        BigDecimal large = BigDecimal.valueOf(900_000_000_000_000_000L, 2);
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(USD, MC);
+        BigDecimal expected = BigDecimal.ZERO;
+        for (int i = 0; i < 12; i++) {
+            accumulator.plus(large);
+            expected = expected.add(large);
+        }
+        assertEquals(0, expected.compareTo(accumulator.getAmount()));
+        for (int i = 0; i < 12; i++) {
+            accumulator.minus(large);
+        }
+        assertTrue(accumulator.isZero());
+    }
+
+    @Test
+    public void testSummingCollector() {
+        List<Money> monies = List.of(Money.of(USD, new BigDecimal("1.10"), MC), Money.of(USD, new BigDecimal("2.25"), MC),
+                Money.of(USD, new BigDecimal("-0.35"), MC));
+        Money sum = monies.stream().collect(MoneyAccumulator.summing(USD, MC));
+        assertEquals(new BigDecimal("3.00"), sum.getAmount());
+        assertEquals("USD", sum.getCurrencyCode());
+        assertTrue(List.<Money>of().stream().collect(MoneyAccumulator.summing(USD, MC)).isZero(MC));
+    }
+
+    @Test
+    public void testDifferentCurrencyIsRejected() {
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(USD, MC);
+        Money eur = Money.of(new MonetaryCurrency("EUR", 2, null), BigDecimal.TEN, MC);
+        assertThrows(UnsupportedOperationException.class, () -> accumulator.plus(eur));
+    }
+}
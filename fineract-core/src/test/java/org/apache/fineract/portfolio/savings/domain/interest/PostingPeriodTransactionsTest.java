@@ -0,0 +1,81 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain.interest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.apache.fineract.infrastructure.core.domain.LocalDateInterval;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.junit.jupiter.api.Test;
+
+public class PostingPeriodTransactionsTest {
+
+    private static final MonetaryCurrency USD = new MonetaryCurrency("USD", 2, null);
+    private static final LocalDate START_DATE = LocalDate.of(2020, 1, 1);
+
+    @Test
+    public void testSliceContainsEveryTransactionContributingToThePeriod() {
+        Random random = new Random(42);
+        List<SavingsAccountTransactionDetailsForPostingPeriod> transactions = new ArrayList<>();
+        LocalDate transactionDate = START_DATE;
+        for (long id = 1; id <= 500; id++) {
+            LocalDate nextTransactionDate = transactionDate.plusDays(random.nextInt(5));
+            LocalDate endOfBalanceDate = switch (random.nextInt(10)) {
+                case 0 -> null;
+                case 1 -> transactionDate.plusDays(40);
+                default -> nextTransactionDate.minusDays(1);
+            };
+            transactions.add(transaction(id, transactionDate, endOfBalanceDate));
+            transactionDate = nextTransactionDate;
+        }
+        PostingPeriodTransactions underTest = new PostingPeriodTransactions(transactions);
+
+        LocalDate periodStart = START_DATE.minusMonths(1);
+        while (periodStart.isBefore(transactionDate.plusMonths(2))) {
+            LocalDateInterval periodInterval = LocalDateInterval.create(periodStart, periodStart.plusMonths(1).minusDays(1));
+            List<SavingsAccountTransactionDetailsForPostingPeriod> slice = underTest.within(periodInterval);
+            assertEquals(contributing(transactions, periodInterval), contributing(slice, periodInterval));
+            periodStart = periodStart.plusMonths(1);
+        }
+    }
+
+    @Test
+    public void testEmptyHistory() {
+        PostingPeriodTransactions underTest = new PostingPeriodTransactions(List.of());
+        assertTrue(underTest.within(LocalDateInterval.create(START_DATE, START_DATE.plusMonths(1))).isEmpty());
+    }
+
+    private static List<SavingsAccountTransactionDetailsForPostingPeriod> contributing(
+            List<SavingsAccountTransactionDetailsForPostingPeriod> transactions, LocalDateInterval periodInterval) {
+        return transactions.stream().filter(transaction -> transaction.fallsWithin(periodInterval)
+                || transaction.spansAnyPortionOf(periodInterval) || transaction.occursOn(periodInterval.endDate().plusDays(1))).toList();
+    }
+
+    private static SavingsAccountTransactionDetailsForPostingPeriod transaction(Long id, LocalDate transactionDate,
+            LocalDate endOfBalanceDate) {
+        return new SavingsAccountTransactionDetailsForPostingPeriod(id, transactionDate, endOfBalanceDate, BigDecimal.TEN, BigDecimal.ONE,
+                USD, 1, true, false, false, false, false);
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmarks.cob;
+
+import static org.mockito.Mockito.mock;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.cob.domain.LoanAccountLockRepository;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.loan.LoanCOBConstant;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.cob.loan.LoanLockingServiceImpl;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Locks one Loan COB partition, once the way the apply lock step does it with set based locking enabled (a single
+ * {@code INSERT ... SELECT}) and once the way it does it with set based locking disabled (read the loan ids and the
+ * existing locks, then batch insert one lock per loan).
+ *
+ * Unlike the benchmarks of fineract-benchmarks this one needs a database. It creates a minimal {@code m_loan} and
+ * {@code m_loan_account_locks} table in the database given by the {@code FINERACT_BENCHMARK_DB_URL},
+ * {@code FINERACT_BENCHMARK_DB_DRIVER}, {@code FINERACT_BENCHMARK_DB_USERNAME} and {@code FINERACT_BENCHMARK_DB_PASSWORD}
+ * environment variables, so it has to point to an empty scratch database and never to a tenant database. Every 20th
+ * loan of the partition is locked by inline COB and every 10th loan is closed, so both paths have to skip some loans.
+ *
+ * The existing locks are read with plain JDBC on the per loan path, while the step reads them as JPA entities, so the
+ * measured difference is a lower bound.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoanLockingBenchmark {
+
+    private static final LocalDate COB_DATE = LocalDate.of(2024, 6, 30);
+    private static final int IN_CLAUSE_PARAMETER_SIZE_LIMIT = 1000;
+    private static final String LOAN_IDS_SELECT = """
+                SELECT loan.id FROM m_loan loan WHERE loan.id BETWEEN ? AND ? AND loan.loan_status_id IN (100,200,300,303,304)
+                    AND (? = loan.last_closed_business_date OR loan.last_closed_business_date IS NULL)
+            """;
+
+    @Param({ "1000", "10000" })
+    private int loanCount;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private LoanLockingService loanLockingService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(env("FINERACT_BENCHMARK_DB_DRIVER", "org.postgresql.Driver"));
+        dataSource.setJdbcUrl(env("FINERACT_BENCHMARK_DB_URL", "jdbc:postgresql://localhost:5432/fineract_benchmark"));
+        dataSource.setUsername(env("FINERACT_BENCHMARK_DB_USERNAME", "root"));
+        dataSource.setPassword(env("FINERACT_BENCHMARK_DB_PASSWORD", "postgres"));
+        DatabaseTypeResolver databaseTypeResolver = new DatabaseTypeResolver(dataSource);
+        databaseTypeResolver.afterPropertiesSet();
+        DatabaseSpecificSQLGenerator sqlGenerator = new DatabaseSpecificSQLGenerator(databaseTypeResolver);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        loanLockingService = new LoanLockingServiceImpl(jdbcTemplate, new FineractProperties(), mock(LoanAccountLockRepository.class),
+                sqlGenerator);
+
+        createTables(databaseTypeResolver.isPostgreSQL());
+        insertLoans();
+
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "UTC", null));
+        ThreadLocalContextUtil.setBusinessDates(
+                new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, COB_DATE.plusDays(1), BusinessDateType.COB_DATE, COB_DATE)));
+    }
+
+    @Setup(Level.Invocation)
+    public void releaseLocks() {
+        jdbcTemplate.update("DELETE FROM m_loan_account_locks WHERE lock_owner = ?", LockOwner.LOAN_COB_CHUNK_PROCESSING.name());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+        jdbcTemplate.execute("DROP TABLE m_loan_account_locks");
+        jdbcTemplate.execute("DROP TABLE m_loan");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void setBasedLocking(Blackhole blackhole) {
+        blackhole.consume(transactionTemplate.execute(
+                status -> loanLockingService.applyLock(1L, (long) loanCount, false, LockOwner.LOAN_COB_CHUNK_PROCESSING)));
+    }
+
+    @Benchmark
+    public void perLoanLocking(Blackhole blackhole) {
+        List<Long> loanIds = jdbcTemplate.queryForList(LOAN_IDS_SELECT, Long.class, 1L, (long) loanCount,
+                COB_DATE.minusDays(LoanCOBConstant.NUMBER_OF_DAYS_BEHIND));
+        List<Long> alreadyLockedLoanIds = new ArrayList<>();
+        for (int from = 0; from < loanIds.size(); from += IN_CLAUSE_PARAMETER_SIZE_LIMIT) {
+            List<Long> partition = loanIds.subList(from, Math.min(from + IN_CLAUSE_PARAMETER_SIZE_LIMIT, loanIds.size()));
+            alreadyLockedLoanIds.addAll(namedParameterJdbcTemplate.queryForList(
+                    "SELECT loan_id FROM m_loan_account_locks WHERE loan_id IN (:loanIds)", Map.of("loanIds", partition), Long.class));
+        }
+        List<Long> toBeProcessedLoanIds = new ArrayList<>(loanIds);
+        toBeProcessedLoanIds.removeAll(alreadyLockedLoanIds);
+        transactionTemplate.executeWithoutResult(
+                status -> loanLockingService.applyLock(toBeProcessedLoanIds, LockOwner.LOAN_COB_CHUNK_PROCESSING));
+        blackhole.consume(toBeProcessedLoanIds);
+    }
+
+    private void createTables(boolean postgres) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS m_loan_account_locks");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS m_loan");
+        jdbcTemplate.execute("""
+                    CREATE TABLE m_loan (id BIGINT NOT NULL PRIMARY KEY, loan_status_id SMALLINT NOT NULL, last_closed_business_date DATE)
+                """);
+        jdbcTemplate.execute("""
+                    CREATE TABLE m_loan_account_locks (loan_id BIGINT NOT NULL PRIMARY KEY, version BIGINT NOT NULL,
+                        lock_owner VARCHAR(50) NOT NULL, lock_placed_on %s NOT NULL, lock_placed_on_cob_business_date DATE,
+                        error VARCHAR(1000), stacktrace TEXT)
+                """.formatted(postgres ? "TIMESTAMP WITH TIME ZONE" : "DATETIME(6)"));
+    }
+
+    private void insertLoans() {
+        List<Object[]> loans = new ArrayList<>(loanCount);
+        List<Object[]> inlineLocks = new ArrayList<>();
+        for (long id = 1; id <= loanCount; id++) {
+            boolean closed = id % 10 == 0;
+            loans.add(new Object[] { id, closed ? 600 : 300, id % 2 == 0 ? COB_DATE.minusDays(1) : null });
+            if (id % 20 == 1) {
+                inlineLocks.add(new Object[] { id, LockOwner.LOAN_INLINE_COB_PROCESSING.name(),
+                        COB_DATE.atStartOfDay().atOffset(ZoneOffset.UTC), COB_DATE });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO m_loan (id, loan_status_id, last_closed_business_date) VALUES (?, ?, ?)", loans);
+        jdbcTemplate.batchUpdate("""
+                    INSERT INTO m_loan_account_locks (loan_id, version, lock_owner, lock_placed_on, lock_placed_on_cob_business_date)
+                        VALUES (?, 1, ?, ?, ?)
+                """, inlineLocks);
+    }
+
+    private static String env(String name, String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+}
@@ -34,6 +34,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -278,6 +279,31 @@ public class LoanCharge extends AbstractAuditableWithUTCDateTimeCustom<Long> {
         }
     }
 
+    public LoanChargeBalances snapshotBalances() {
+        Map<Integer, LoanInstallmentChargeBalances> installmentChargeBalances = new HashMap<>();
+        for (final LoanInstallmentCharge installmentCharge : this.loanInstallmentCharge) {
+            installmentChargeBalances.put(installmentCharge.getInstallment().getInstallmentNumber(), installmentCharge.snapshotBalances());
+        }
+        return new LoanChargeBalances(this.amountPaid, this.amountWaived, this.amountWrittenOff, this.amountOutstanding, this.paid,
+                this.waived, Map.copyOf(installmentChargeBalances));
+    }
+
+    public void restoreBalances(final LoanChargeBalances balances) {
+        this.amountPaid = balances.getAmountPaid();
+        this.amountWaived = balances.getAmountWaived();
+        this.amountWrittenOff = balances.getAmountWrittenOff();
+        this.amountOutstanding = balances.getAmountOutstanding();
+        this.paid = balances.isPaid();
+        this.waived = balances.isWaived();
+        for (final LoanInstallmentCharge installmentCharge : this.loanInstallmentCharge) {
+            LoanInstallmentChargeBalances installmentChargeBalances = balances.getInstallmentChargeBalances()
+                    .get(installmentCharge.getInstallment().getInstallmentNumber());
+            if (installmentChargeBalances != null) {
+                installmentCharge.restoreBalances(installmentChargeBalances);
+            }
+        }
+    }
+
     public void setOutstandingAmount(final BigDecimal amountOutstanding) {
         this.amountOutstanding = amountOutstanding;
     }
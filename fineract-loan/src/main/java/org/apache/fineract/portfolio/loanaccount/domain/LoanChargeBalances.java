@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable copy of the paid, waived and written off amounts of a {@link LoanCharge} and of its installment charges,
+ * which are derived by the transaction processing, so they can be restored later without replaying the transactions
+ * again.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class LoanChargeBalances {
+
+    private final BigDecimal amountPaid;
+    private final BigDecimal amountWaived;
+    private final BigDecimal amountWrittenOff;
+    private final BigDecimal amountOutstanding;
+    private final boolean paid;
+    private final boolean waived;
+    private final Map<Integer, LoanInstallmentChargeBalances> installmentChargeBalances;
+}
@@ -228,6 +228,20 @@ public class LoanInstallmentCharge extends AbstractPersistableCustom<Long> imple
         this.paid = false;
     }
 
+    public LoanInstallmentChargeBalances snapshotBalances() {
+        return new LoanInstallmentChargeBalances(this.amountPaid, this.amountWaived, this.amountWrittenOff, this.amountOutstanding,
+                this.paid, this.waived);
+    }
+
+    public void restoreBalances(final LoanInstallmentChargeBalances balances) {
+        this.amountPaid = balances.getAmountPaid();
+        this.amountWaived = balances.getAmountWaived();
+        this.amountWrittenOff = balances.getAmountWrittenOff();
+        this.amountOutstanding = balances.getAmountOutstanding();
+        this.paid = balances.isPaid();
+        this.waived = balances.isWaived();
+    }
+
     public void setAmountWaived(final BigDecimal amountWaived) {
         this.amountWaived = amountWaived;
     }
@@ -1059,6 +1059,46 @@ public class LoanRepaymentScheduleInstallment extends AbstractAuditableWithUTCDa
         return isDownPayment;
     }
 
+    public LoanRepaymentScheduleInstallmentBalances snapshotBalances() {
+        return new LoanRepaymentScheduleInstallmentBalances(this.principal, this.principalCompleted, this.principalWrittenOff,
+                this.interestCharged, this.interestPaid, this.interestWaived, this.interestWrittenOff, this.interestAccrued,
+                this.rescheduleInterestPortion, this.feeChargesCharged, this.feeChargesPaid, this.feeChargesWrittenOff,
+                this.feeChargesWaived, this.feeAccrued, this.penaltyCharges, this.penaltyChargesPaid, this.penaltyChargesWrittenOff,
+                this.penaltyChargesWaived, this.penaltyAccrued, this.totalPaidInAdvance, this.totalPaidLate, this.obligationsMet,
+                this.obligationsMetOnDate, this.recalculatedInterestComponent, this.creditedPrincipal, this.creditedFee,
+                this.creditedPenalty);
+    }
+
+    public void restoreBalances(final LoanRepaymentScheduleInstallmentBalances balances) {
+        this.principal = balances.getPrincipal();
+        this.principalCompleted = balances.getPrincipalCompleted();
+        this.principalWrittenOff = balances.getPrincipalWrittenOff();
+        this.interestCharged = balances.getInterestCharged();
+        this.interestPaid = balances.getInterestPaid();
+        this.interestWaived = balances.getInterestWaived();
+        this.interestWrittenOff = balances.getInterestWrittenOff();
+        this.interestAccrued = balances.getInterestAccrued();
+        this.rescheduleInterestPortion = balances.getRescheduleInterestPortion();
+        this.feeChargesCharged = balances.getFeeChargesCharged();
+        this.feeChargesPaid = balances.getFeeChargesPaid();
+        this.feeChargesWrittenOff = balances.getFeeChargesWrittenOff();
+        this.feeChargesWaived = balances.getFeeChargesWaived();
+        this.feeAccrued = balances.getFeeAccrued();
+        this.penaltyCharges = balances.getPenaltyCharges();
+        this.penaltyChargesPaid = balances.getPenaltyChargesPaid();
+        this.penaltyChargesWrittenOff = balances.getPenaltyChargesWrittenOff();
+        this.penaltyChargesWaived = balances.getPenaltyChargesWaived();
+        this.penaltyAccrued = balances.getPenaltyAccrued();
+        this.totalPaidInAdvance = balances.getTotalPaidInAdvance();
+        this.totalPaidLate = balances.getTotalPaidLate();
+        this.obligationsMet = balances.isObligationsMet();
+        this.obligationsMetOnDate = balances.getObligationsMetOnDate();
+        this.recalculatedInterestComponent = balances.isRecalculatedInterestComponent();
+        this.creditedPrincipal = balances.getCreditedPrincipal();
+        this.creditedFee = balances.getCreditedFee();
+        this.creditedPenalty = balances.getCreditedPenalty();
+    }
+
     public void resetBalances() {
         resetDerivedComponents();
         resetPrincipalDue();
@@ -0,0 +1,62 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable copy of the balances of a {@link LoanRepaymentScheduleInstallment} which are derived by the transaction
+ * processing, so they can be restored later without replaying the transactions again.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class LoanRepaymentScheduleInstallmentBalances {
+
+    private final BigDecimal principal;
+    private final BigDecimal principalCompleted;
+    private final BigDecimal principalWrittenOff;
+    private final BigDecimal interestCharged;
+    private final BigDecimal interestPaid;
+    private final BigDecimal interestWaived;
+    private final BigDecimal interestWrittenOff;
+    private final BigDecimal interestAccrued;
+    private final BigDecimal rescheduleInterestPortion;
+    private final BigDecimal feeChargesCharged;
+    private final BigDecimal feeChargesPaid;
+    private final BigDecimal feeChargesWrittenOff;
+    private final BigDecimal feeChargesWaived;
+    private final BigDecimal feeAccrued;
+    private final BigDecimal penaltyCharges;
+    private final BigDecimal penaltyChargesPaid;
+    private final BigDecimal penaltyChargesWrittenOff;
+    private final BigDecimal penaltyChargesWaived;
+    private final BigDecimal penaltyAccrued;
+    private final BigDecimal totalPaidInAdvance;
+    private final BigDecimal totalPaidLate;
+    private final boolean obligationsMet;
+    private final LocalDate obligationsMetOnDate;
+    private final boolean recalculatedInterestComponent;
+    private final BigDecimal creditedPrincipal;
+    private final BigDecimal creditedFee;
+    private final BigDecimal creditedPenalty;
+}
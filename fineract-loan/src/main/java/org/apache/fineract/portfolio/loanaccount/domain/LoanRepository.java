@@ -18,6 +18,10 @@
  */
 package org.apache.fineract.portfolio.loanaccount.domain;
 
+import static org.eclipse.persistence.config.QueryHints.BATCH;
+import static org.eclipse.persistence.config.QueryHints.BATCH_TYPE;
+
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
@@ -29,6 +33,7 @@ import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificationExecutor<Loan> {
@@ -101,6 +106,10 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
 
     String FIND_ALL_LOAN_IDS_BY_STATUS_ID = "SELECT loan.id FROM Loan loan WHERE loan.loanStatus = :statusId";
 
+    // The repayment schedule, transactions and charges are batch read by the hints of `findAllByIdsWithCollections`: the
+    // first access of a collection loads it for every loan of the result with one additional `IN` query
+    String FIND_ALL_BY_IDS_WITH_COLLECTIONS = "select loan from Loan loan where loan.id IN :loanIds";
+
     @Query(FIND_GROUP_LOANS_DISBURSED_AFTER)
     List<Loan> getGroupLoansDisbursedAfter(@Param("disbursementDate") LocalDate disbursementDate, @Param("groupId") Long groupId,
             @Param("loanType") Integer loanType);
@@ -227,4 +236,10 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
 
     @Query(FIND_ALL_LOAN_IDS_BY_STATUS_ID)
     List<Long> findLoanIdByStatusId(@Param("statusId") Integer statusId);
+
+    @Query(FIND_ALL_BY_IDS_WITH_COLLECTIONS)
+    @QueryHints({ @QueryHint(name = BATCH, value = "loan.repaymentScheduleInstallments"),
+            @QueryHint(name = BATCH, value = "loan.loanTransactions"), @QueryHint(name = BATCH, value = "loan.charges"),
+            @QueryHint(name = BATCH_TYPE, value = "IN") })
+    List<Loan> findAllByIdsWithCollections(@Param("loanIds") Collection<Long> loanIds);
 }
@@ -0,0 +1,160 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+
+/**
+ * Read-only lookup structure over the repayment schedule installments of a transaction processing run.
+ * <p>
+ * Installments are indexed by due date, by from date and by installment number, so the allocation paths do not have to
+ * scan the whole schedule for every transaction. Installments sharing the same date are kept in installment number
+ * order. The index reflects the installments at the time it was built, it has to be rebuilt whenever installments are
+ * added, removed, renumbered or their dates change (see {@link TransactionCtx#invalidateInstallmentIndex()}).
+ */
+public final class LoanRepaymentScheduleInstallmentIndex {
+
+    private static final Comparator<LoanRepaymentScheduleInstallment> BY_INSTALLMENT_NUMBER = Comparator
+            .comparing(LoanRepaymentScheduleInstallment::getInstallmentNumber);
+
+    private final int size;
+    private final NavigableMap<LocalDate, List<LoanRepaymentScheduleInstallment>> byDueDate = new TreeMap<>();
+    private final Map<LocalDate, List<LoanRepaymentScheduleInstallment>> byFromDate = new HashMap<>();
+    private final LoanRepaymentScheduleInstallment[] byInstallmentNumber;
+    private final Integer firstNormalInstallmentNumber;
+
+    public LoanRepaymentScheduleInstallmentIndex(List<LoanRepaymentScheduleInstallment> installments) {
+        this.size = installments.size();
+        List<LoanRepaymentScheduleInstallment> sorted = new ArrayList<>(installments);
+        sorted.sort(BY_INSTALLMENT_NUMBER);
+        int maxInstallmentNumber = sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1).getInstallmentNumber();
+        this.byInstallmentNumber = new LoanRepaymentScheduleInstallment[maxInstallmentNumber + 1];
+        Integer firstNormal = null;
+        for (LoanRepaymentScheduleInstallment installment : sorted) {
+            byDueDate.computeIfAbsent(installment.getDueDate(), k -> new ArrayList<>(1)).add(installment);
+            byFromDate.computeIfAbsent(installment.getFromDate(), k -> new ArrayList<>(1)).add(installment);
+            int installmentNumber = installment.getInstallmentNumber();
+            if (installmentNumber >= 0 && byInstallmentNumber[installmentNumber] == null) {
+                byInstallmentNumber[installmentNumber] = installment;
+            }
+            if (firstNormal == null && !installment.isDownPayment()) {
+                firstNormal = installmentNumber;
+            }
+        }
+        this.firstNormalInstallmentNumber = firstNormal;
+    }
+
+    /**
+     * @return the number of installments the index was built from
+     */
+    public int size() {
+        return size;
+    }
+
+    public Optional<LoanRepaymentScheduleInstallment> getInstallment(int installmentNumber) {
+        if (installmentNumber < 0 || installmentNumber >= byInstallmentNumber.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(byInstallmentNumber[installmentNumber]);
+    }
+
+    /**
+     * Same as {@link org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleProcessingWrapper}
+     * fetchFirstNormalInstallmentNumber, without sorting the installments on every call.
+     */
+    public int getFirstNormalInstallmentNumber() {
+        if (firstNormalInstallmentNumber == null) {
+            throw new NoSuchElementException("No value present");
+        }
+        return firstNormalInstallmentNumber;
+    }
+
+    /**
+     * @return installments due on the given date, in installment number order
+     */
+    public List<LoanRepaymentScheduleInstallment> getInstallmentsDueOn(LocalDate dueDate) {
+        return byDueDate.getOrDefault(dueDate, Collections.emptyList());
+    }
+
+    /**
+     * @return installments starting on the given date, in installment number order
+     */
+    public List<LoanRepaymentScheduleInstallment> getInstallmentsFrom(LocalDate fromDate) {
+        return byFromDate.getOrDefault(fromDate, Collections.emptyList());
+    }
+
+    /**
+     * @return installments with due date strictly before the given date, ordered by due date
+     */
+    public Stream<LoanRepaymentScheduleInstallment> streamDueBefore(LocalDate date) {
+        return byDueDate.headMap(date, false).values().stream().flatMap(List::stream);
+    }
+
+    /**
+     * @return installments with due date strictly after the given date, ordered by due date
+     */
+    public Stream<LoanRepaymentScheduleInstallment> streamDueAfter(LocalDate date) {
+        return byDueDate.tailMap(date, false).values().stream().flatMap(List::stream);
+    }
+
+    /**
+     * @return the installment with the lowest installment number matching the filter and due strictly before the date
+     */
+    public Optional<LoanRepaymentScheduleInstallment> findFirstDueBefore(LocalDate date,
+            Predicate<LoanRepaymentScheduleInstallment> filter) {
+        return streamDueBefore(date).filter(filter).min(BY_INSTALLMENT_NUMBER);
+    }
+
+    /**
+     * @return the installment with the lowest installment number matching the filter and due on the date
+     */
+    public Optional<LoanRepaymentScheduleInstallment> findFirstDueOn(LocalDate date,
+            Predicate<LoanRepaymentScheduleInstallment> filter) {
+        return getInstallmentsDueOn(date).stream().filter(filter).findFirst();
+    }
+
+    /**
+     * @return the installment with the lowest installment number matching the filter and due strictly after the date
+     */
+    public Optional<LoanRepaymentScheduleInstallment> findFirstDueAfter(LocalDate date,
+            Predicate<LoanRepaymentScheduleInstallment> filter) {
+        return streamDueAfter(date).filter(filter).min(BY_INSTALLMENT_NUMBER);
+    }
+
+    /**
+     * @return the installment with the highest installment number matching the filter and due strictly after the date
+     */
+    public Optional<LoanRepaymentScheduleInstallment> findLastDueAfter(LocalDate date,
+            Predicate<LoanRepaymentScheduleInstallment> filter) {
+        return streamDueAfter(date).filter(filter).max(BY_INSTALLMENT_NUMBER);
+    }
+}
@@ -20,15 +20,18 @@ package org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor;
 
 import java.util.List;
 import java.util.Set;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
 import org.apache.fineract.portfolio.loanaccount.domain.ChangedTransactionDetail;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanCharge;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
 
 @Data
-@AllArgsConstructor
 public class TransactionCtx {
 
     private final MonetaryCurrency currency;
@@ -36,4 +39,33 @@ public class TransactionCtx {
     private final Set<LoanCharge> charges;
     private final MoneyHolder overpaymentHolder;
     private final ChangedTransactionDetail changedTransactionDetail;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private LoanRepaymentScheduleInstallmentIndex installmentIndex;
+
+    public TransactionCtx(MonetaryCurrency currency, List<LoanRepaymentScheduleInstallment> installments, Set<LoanCharge> charges,
+            MoneyHolder overpaymentHolder, ChangedTransactionDetail changedTransactionDetail) {
+        this.currency = currency;
+        this.installments = installments;
+        this.charges = charges;
+        this.overpaymentHolder = overpaymentHolder;
+        this.changedTransactionDetail = changedTransactionDetail;
+    }
+
+    /**
+     * Lazily built index of the installments. It is rebuilt when the number of installments changed, other structural
+     * changes (due date or installment number updates) have to call {@link #invalidateInstallmentIndex()}.
+     */
+    public LoanRepaymentScheduleInstallmentIndex getInstallmentIndex() {
+        if (installmentIndex == null || installmentIndex.size() != installments.size()) {
+            installmentIndex = new LoanRepaymentScheduleInstallmentIndex(installments);
+        }
+        return installmentIndex;
+    }
+
+    public void invalidateInstallmentIndex() {
+        installmentIndex = null;
+    }
 }
@@ -18,10 +18,12 @@
  */
 package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
 
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualsProcessingService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
@@ -40,6 +42,8 @@ public class AddPeriodicAccrualEntriesConfig {
     private PlatformTransactionManager transactionManager;
     @Autowired
     private LoanAccrualsProcessingService loanAccrualsProcessingService;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     protected Step addPeriodicAccrualEntriesStep() {
@@ -54,7 +58,9 @@ public class AddPeriodicAccrualEntriesConfig {
     }
 
     @Bean
+    @StepScope
     public AddPeriodicAccrualEntriesTasklet addPeriodicAccrualEntriesTasklet() {
-        return new AddPeriodicAccrualEntriesTasklet(loanAccrualsProcessingService);
+        return new AddPeriodicAccrualEntriesTasklet(loanAccrualsProcessingService,
+                fineractProperties.getJob().getPeriodicAccrual().getChunkSize());
     }
 }
@@ -18,7 +18,8 @@
  */
 package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.exception.MultiException;
@@ -28,25 +29,62 @@ import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualsProcessingS
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
 
+/**
+ * Adds the periodic accruals chunk by chunk: every execution processes the next range of (at most chunk size) loan ids in
+ * its own transaction. The last processed loan id is stored in the step execution context, so a restarted job continues
+ * after the last committed chunk. The failures of the loans are collected and reported by the execution which finds no
+ * more loans to process, once every chunk is committed. The start of the first chunk with a failed loan is stored in the
+ * step execution context as well, so a restarted job processes the failed loans again before it continues.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class AddPeriodicAccrualEntriesTasklet implements Tasklet {
 
+    public static final String LAST_PROCESSED_LOAN_ID = "lastProcessedLoanId";
+    public static final String FIRST_FAILED_CHUNK_AFTER_LOAN_ID = "firstFailedChunkAfterLoanId";
+
     private final LoanAccrualsProcessingService loanAccrualsProcessingService;
+    private final int chunkSize;
+    // step scoped, the failures are collected for the whole step execution
+    private final List<Throwable> errors = new ArrayList<>();
+    private boolean started;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        try {
-            addPeriodicAccruals(DateUtils.getBusinessLocalDate());
-        } catch (MultiException e) {
-            throw new JobExecutionException(e);
+        ExecutionContext executionContext = contribution.getStepExecution().getExecutionContext();
+        if (!started) {
+            started = true;
+            if (executionContext.containsKey(FIRST_FAILED_CHUNK_AFTER_LOAN_ID)) {
+                // restarted after failures: the loans of the failed chunks are processed again, the others have no new accruals
+                Long failedChunkAfterLoanId = executionContext.getLong(FIRST_FAILED_CHUNK_AFTER_LOAN_ID);
+                log.info("Periodic accruals are processed again after loan id {} for the loans which failed", failedChunkAfterLoanId);
+                executionContext.putLong(LAST_PROCESSED_LOAN_ID, failedChunkAfterLoanId);
+                executionContext.remove(FIRST_FAILED_CHUNK_AFTER_LOAN_ID);
+            }
+        }
+        Long lastProcessedLoanId = executionContext.getLong(LAST_PROCESSED_LOAN_ID, 0L);
+        List<Long> loanIds = loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(lastProcessedLoanId, chunkSize);
+        if (!loanIds.isEmpty()) {
+            Long toLoanId = loanIds.get(loanIds.size() - 1);
+            try {
+                loanAccrualsProcessingService.addPeriodicAccruals(DateUtils.getBusinessLocalDate(), lastProcessedLoanId, toLoanId);
+            } catch (MultiException e) {
+                errors.addAll(e.getCauses());
+                if (!executionContext.containsKey(FIRST_FAILED_CHUNK_AFTER_LOAN_ID)) {
+                    executionContext.putLong(FIRST_FAILED_CHUNK_AFTER_LOAN_ID, lastProcessedLoanId);
+                }
+            }
+            executionContext.putLong(LAST_PROCESSED_LOAN_ID, toLoanId);
+            log.debug("Periodic accruals are processed till loan id {}", toLoanId);
+            // never fail in the execution which processed a chunk, that would roll back its accruals as well
+            return RepeatStatus.CONTINUABLE;
+        }
+        if (!errors.isEmpty()) {
+            throw new JobExecutionException(errors);
         }
         return RepeatStatus.FINISHED;
     }
-
-    private void addPeriodicAccruals(final LocalDate tilldate) throws MultiException {
-        loanAccrualsProcessingService.addPeriodicAccruals(tilldate);
-    }
 }
@@ -20,6 +20,7 @@ package org.apache.fineract.portfolio.loanaccount.service;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
 import org.apache.fineract.infrastructure.core.exception.MultiException;
 import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleAccrualData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -31,6 +32,10 @@ public interface LoanAccrualsProcessingService {
 
     void addPeriodicAccruals(LocalDate tilldate, Loan loan) throws MultiException;
 
+    void addPeriodicAccruals(LocalDate tilldate, Long fromLoanIdExclusive, Long toLoanIdInclusive) throws MultiException;
+
+    List<Long> retrieveLoanIdsForPeriodicAccrual(Long afterLoanId, int limit);
+
     void addAccrualAccounting(Long loanId, Collection<LoanScheduleAccrualData> loanScheduleAccrualDatas) throws Exception;
 
     void addIncomeAndAccrualTransactions(Long loanId) throws Exception;
@@ -0,0 +1,89 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.junit.jupiter.api.Test;
+
+public class LoanRepaymentScheduleInstallmentIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @Test
+    public void testLookupByDateAndNumber() {
+        LoanRepaymentScheduleInstallment downPayment = installment(1, START, START, false, true);
+        LoanRepaymentScheduleInstallment first = installment(2, START, START.plusMonths(1), false, false);
+        LoanRepaymentScheduleInstallment second = installment(3, START.plusMonths(1), START.plusMonths(2), false, false);
+        LoanRepaymentScheduleInstallment additional = installment(4, START.plusMonths(2), START.plusMonths(2), true, false);
+        // deliberately not in installment number order
+        LoanRepaymentScheduleInstallmentIndex index = new LoanRepaymentScheduleInstallmentIndex(
+                List.of(additional, second, downPayment, first));
+
+        assertEquals(4, index.size());
+        assertEquals(2, index.getFirstNormalInstallmentNumber());
+        assertSame(second, index.getInstallment(3).orElseThrow());
+        assertTrue(index.getInstallment(5).isEmpty());
+        assertEquals(List.of(downPayment, first), index.getInstallmentsFrom(START));
+        assertEquals(List.of(second, additional), index.getInstallmentsDueOn(START.plusMonths(2)));
+        assertTrue(index.getInstallmentsDueOn(START.plusDays(3)).isEmpty());
+
+        LocalDate transactionDate = START.plusMonths(1).plusDays(5);
+        assertSame(downPayment, index.findFirstDueBefore(transactionDate, i -> true).orElseThrow());
+        assertSame(first, index.findFirstDueBefore(transactionDate, i -> !i.isDownPayment()).orElseThrow());
+        assertSame(second, index.findFirstDueAfter(transactionDate, i -> true).orElseThrow());
+        assertSame(additional, index.findLastDueAfter(transactionDate, i -> true).orElseThrow());
+        assertSame(first, index.findFirstDueOn(START.plusMonths(1), i -> true).orElseThrow());
+        assertTrue(index.findFirstDueAfter(START.plusMonths(2), i -> true).isEmpty());
+    }
+
+    @Test
+    public void testTransactionCtxRebuildsIndex() {
+        List<LoanRepaymentScheduleInstallment> installments = new ArrayList<>();
+        installments.add(installment(1, START, START.plusMonths(1), false, false));
+        TransactionCtx ctx = new TransactionCtx(null, installments, null, null, null);
+
+        LoanRepaymentScheduleInstallmentIndex index = ctx.getInstallmentIndex();
+        assertSame(index, ctx.getInstallmentIndex());
+
+        LoanRepaymentScheduleInstallment additional = installment(2, START.plusMonths(1), START.plusMonths(2), true, false);
+        installments.add(additional);
+        LoanRepaymentScheduleInstallmentIndex rebuilt = ctx.getInstallmentIndex();
+        assertNotSame(index, rebuilt);
+        assertSame(additional, rebuilt.getInstallmentsDueOn(START.plusMonths(2)).get(0));
+
+        additional.updateDueDate(START.plusMonths(3));
+        ctx.invalidateInstallmentIndex();
+        assertSame(additional, ctx.getInstallmentIndex().getInstallmentsDueOn(START.plusMonths(3)).get(0));
+    }
+
+    private LoanRepaymentScheduleInstallment installment(int number, LocalDate fromDate, LocalDate dueDate, boolean additional,
+            boolean downPayment) {
+        return new LoanRepaymentScheduleInstallment(null, number, fromDate, dueDate, BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, additional, downPayment, false);
+    }
+}
@@ -77,6 +77,7 @@ import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionRelationT
 import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionToRepaymentScheduleMapping;
 import org.apache.fineract.portfolio.loanaccount.domain.reaging.LoanReAgeParameter;
 import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.AbstractLoanRepaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.LoanRepaymentScheduleInstallmentIndex;
 import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.MoneyHolder;
 import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.TransactionCtx;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.data.PayableDetails;
@@ -100,6 +101,13 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
 
     public final EMICalculator emiCalculator;
 
+    // optional, checkpoints are not used when null
+    private final ProgressiveReplayCheckpointCache replayCheckpointCache;
+
+    public AdvancedPaymentScheduleTransactionProcessor(EMICalculator emiCalculator) {
+        this(emiCalculator, null);
+    }
+
     @Override
     public String getCode() {
         return ADVANCED_PAYMENT_ALLOCATION_STRATEGY;
@@ -173,15 +181,31 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
 
         MoneyHolder overpaymentHolder = new MoneyHolder(Money.zero(currency));
         final Loan loan = loanTransactions.get(0).getLoan();
-        final Integer installmentAmountInMultiplesOf = loan.getLoanProduct().getInstallmentAmountInMultiplesOf();
-        final LoanProductRelatedDetail loanProductRelatedDetail = loan.getLoanRepaymentScheduleDetail();
-        ProgressiveLoanInterestScheduleModel scheduleModel = emiCalculator.generateModel(loanProductRelatedDetail,
-                installmentAmountInMultiplesOf, installments, overpaymentHolder.getMoneyObject().getMc());
+        ProgressiveReplayCheckpointCache.Replay replay = replayCheckpointCache == null ? null
+                : replayCheckpointCache.startReplay(loan, disbursementDate, chargeOrTransactions, installments);
+        ProgressiveReplayCheckpointCache.Checkpoint checkpoint = replay == null ? null : replay.findCheckpoint();
+        ProgressiveLoanInterestScheduleModel scheduleModel;
+        if (checkpoint != null) {
+            // the transactions before the checkpoint are unchanged, their results are already persisted
+            scheduleModel = checkpoint.restore(installments, charges, overpaymentHolder);
+        } else {
+            final Integer installmentAmountInMultiplesOf = loan.getLoanProduct().getInstallmentAmountInMultiplesOf();
+            final LoanProductRelatedDetail loanProductRelatedDetail = loan.getLoanRepaymentScheduleDetail();
+            scheduleModel = emiCalculator.generateModel(loanProductRelatedDetail, installmentAmountInMultiplesOf, installments,
+                    overpaymentHolder.getMoneyObject().getMc());
+        }
         ProgressiveTransactionCtx ctx = new ProgressiveTransactionCtx(currency, installments, charges, overpaymentHolder,
                 changedTransactionDetail, scheduleModel);
+        if (checkpoint != null) {
+            ctx.setLastOverdueBalanceChange(checkpoint.getLastOverdueBalanceChange());
+        }
 
         List<LoanTransaction> overpaidTransactions = new ArrayList<>();
-        for (final ChargeOrTransaction chargeOrTransaction : chargeOrTransactions) {
+        for (int i = checkpoint == null ? 0 : checkpoint.getProcessedCount(); i < chargeOrTransactions.size(); i++) {
+            if (replay != null) {
+                replay.onBoundary(i, ctx, !overpaidTransactions.isEmpty());
+            }
+            final ChargeOrTransaction chargeOrTransaction = chargeOrTransactions.get(i);
             if (chargeOrTransaction.isTransaction()) {
                 LoanTransaction transaction = chargeOrTransaction.getLoanTransaction().get();
                 processSingleTransaction(transaction, ctx);
@@ -199,8 +223,9 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
             }
         }
         Map<Long, LoanTransaction> newTransactionMappings = changedTransactionDetail.getNewTransactionMappings();
+        Map<Long, LoanTransaction> loanTransactionsById = newTransactionMappings.isEmpty() ? Map.of() : mapById(loanTransactions);
         for (Long oldTransactionId : newTransactionMappings.keySet()) {
-            LoanTransaction oldTransaction = loanTransactions.stream().filter(e -> oldTransactionId.equals(e.getId())).findFirst().get();
+            LoanTransaction oldTransaction = Optional.ofNullable(loanTransactionsById.get(oldTransactionId)).get();
             LoanTransaction newTransaction = newTransactionMappings.get(oldTransactionId);
             createNewTransaction(oldTransaction, newTransaction, ctx);
         }
@@ -209,9 +234,22 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
                 .filter(ChargeOrTransaction::isTransaction) //
                 .map(e -> e.getLoanTransaction().get()).toList();
         reprocessInstallments(disbursementDate, txs, installments, currency);
+        if (replay != null) {
+            replay.publish();
+        }
         return Pair.of(changedTransactionDetail, scheduleModel);
     }
 
+    private static Map<Long, LoanTransaction> mapById(List<LoanTransaction> loanTransactions) {
+        Map<Long, LoanTransaction> loanTransactionsById = new HashMap<>();
+        for (LoanTransaction loanTransaction : loanTransactions) {
+            if (loanTransaction.getId() != null) {
+                loanTransactionsById.putIfAbsent(loanTransaction.getId(), loanTransaction);
+            }
+        }
+        return loanTransactionsById;
+    }
+
     @Override
     public ChangedTransactionDetail reprocessLoanTransactions(LocalDate disbursementDate, List<LoanTransaction> loanTransactions,
             MonetaryCurrency currency, List<LoanRepaymentScheduleInstallment> installments, Set<LoanCharge> charges) {
@@ -231,8 +269,10 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
             case WRITEOFF -> handleWriteOff(loanTransaction, ctx.getCurrency(), ctx.getInstallments());
             case REFUND_FOR_ACTIVE_LOAN -> handleRefund(loanTransaction, ctx.getCurrency(), ctx.getInstallments(), ctx.getCharges());
             case CHARGEBACK -> handleChargeback(loanTransaction, ctx);
-            case CREDIT_BALANCE_REFUND ->
+            case CREDIT_BALANCE_REFUND -> {
                 handleCreditBalanceRefund(loanTransaction, ctx.getCurrency(), ctx.getInstallments(), ctx.getOverpaymentHolder());
+                ctx.invalidateInstallmentIndex();
+            }
             case INTEREST_REFUND, REPAYMENT, MERCHANT_ISSUED_REFUND, PAYOUT_REFUND, GOODWILL_CREDIT, CHARGE_REFUND, CHARGE_ADJUSTMENT,
                     DOWN_PAYMENT, WAIVE_INTEREST, RECOVERY_REPAYMENT, INTEREST_PAYMENT_WAIVER ->
                 handleRepayment(loanTransaction, ctx);
@@ -335,6 +375,8 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
     protected void processCreditTransaction(LoanTransaction loanTransaction, TransactionCtx ctx) {
         if (hasNoCustomCreditAllocationRule(loanTransaction)) {
             super.processCreditTransaction(loanTransaction, ctx.getOverpaymentHolder(), ctx.getCurrency(), ctx.getInstallments());
+            // the additional installment might have been created or moved
+            ctx.invalidateInstallmentIndex();
         } else {
             loanTransaction.resetDerivedComponents();
             final Comparator<LoanRepaymentScheduleInstallment> byDate = Comparator.comparing(LoanRepaymentScheduleInstallment::getDueDate);
@@ -380,6 +422,7 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
                         } else if (currentInstallment.isAdditional()) {
                             if (DateUtils.isAfter(transactionDate, currentInstallment.getDueDate())) {
                                 currentInstallment.updateDueDate(transactionDate);
+                                ctx.invalidateInstallmentIndex();
                             }
                             recognizeAmountsAfterChargeback(ctx.getCurrency(), transactionDate, currentInstallment, chargebackAllocation);
                             loanTransactionMapped = true;
@@ -401,6 +444,7 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
                             recognizeAmountsAfterChargeback(ctx.getCurrency(), transactionDate, installment, chargebackAllocation);
                             installment.markAsAdditional();
                             loan.addLoanRepaymentScheduleInstallment(installment);
+                            ctx.invalidateInstallmentIndex();
                         }
                     }
                     allocateOverpayment(loanTransaction, ctx);
@@ -427,9 +471,11 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
 
         // Add the replayed transactions and remove their old version before the replay
         if (ctx.getChangedTransactionDetail() != null && ctx.getChangedTransactionDetail().getNewTransactionMappings() != null) {
-            for (Long id : ctx.getChangedTransactionDetail().getNewTransactionMappings().keySet()) {
-                allTransactions.remove(allTransactions.stream().filter(tr -> Objects.equals(tr.getId(), id)).findFirst().get());
-                allTransactions.add(ctx.getChangedTransactionDetail().getNewTransactionMappings().get(id));
+            Map<Long, LoanTransaction> newTransactionMappings = ctx.getChangedTransactionDetail().getNewTransactionMappings();
+            Map<Long, LoanTransaction> allTransactionsById = newTransactionMappings.isEmpty() ? Map.of() : mapById(allTransactions);
+            for (Long id : newTransactionMappings.keySet()) {
+                allTransactions.remove(Optional.ofNullable(allTransactionsById.get(id)).get());
+                allTransactions.add(newTransactionMappings.get(id));
             }
         }
 
@@ -778,11 +824,11 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
                 amortizableAmount);
 
         if (amortizableAmount.isGreaterThanZero()) {
+            LoanRepaymentScheduleInstallmentIndex installmentIndex = transactionCtx.getInstallmentIndex();
             progressiveTransactionCtx.getModel().repaymentPeriods().forEach(rm -> {
-                LoanRepaymentScheduleInstallment installment = transactionCtx.getInstallments().stream()
-                        .filter(ri -> ri.getDueDate().equals(rm.getDueDate()) && !ri.isDownPayment()
-                                && !ri.getDueDate().isBefore(disbursementTransaction.getTransactionDate()))
-                        .findFirst().orElse(null);
+                LoanRepaymentScheduleInstallment installment = rm.getDueDate().isBefore(disbursementTransaction.getTransactionDate()) ? null
+                        : installmentIndex.getInstallmentsDueOn(rm.getDueDate()).stream().filter(ri -> !ri.isDownPayment()).findFirst()
+                                .orElse(null);
                 if (installment != null) {
                     installment.updatePrincipal(rm.getDuePrincipal().getAmount());
                     installment.updateInterestCharged(rm.getDueInterest().getAmount());
@@ -972,8 +1018,8 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
 
     private void updateInstallmentsPrincipalAndInterestByModel(ProgressiveTransactionCtx ctx) {
         ctx.getModel().repaymentPeriods().forEach(repayment -> {
-            LoanRepaymentScheduleInstallment installment = ctx.getInstallments().stream()
-                    .filter(ri -> !ri.isDownPayment() && Objects.equals(ri.getFromDate(), repayment.getFromDate())) //
+            LoanRepaymentScheduleInstallment installment = ctx.getInstallmentIndex().getInstallmentsFrom(repayment.getFromDate()).stream()
+                    .filter(ri -> !ri.isDownPayment()) //
                     .findFirst().orElse(null);
             if (installment != null) {
                 installment.updatePrincipal(repayment.getDuePrincipal().getAmount());
@@ -1357,8 +1403,8 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
                     balances);
         }
         if (scheduleProcessingType.isVertical()) {
-            return processPeriodsVertically(transaction, currency, transactionCtx.getInstallments(), processAmount, allocationRule,
-                    transactionMappings, charges, balances);
+            return processPeriodsVertically(transaction, currency, transactionCtx, processAmount, allocationRule, transactionMappings,
+                    charges, balances);
         }
         return processAmount;
     }
@@ -1388,15 +1434,15 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
 
         MonetaryCurrency currency = transactionCtx.getCurrency();
         List<LoanRepaymentScheduleInstallment> installments = transactionCtx.getInstallments();
+        LocalDate transactionDate = loanTransaction.getTransactionDate();
         Money paidPortion;
         boolean exit = false;
         do {
-            LoanRepaymentScheduleInstallment oldestPastDueInstallment = installments.stream()
-                    .filter(LoanRepaymentScheduleInstallment::isNotFullyPaidOff).filter(e -> loanTransaction.isAfter(e.getDueDate()))
-                    .min(Comparator.comparing(LoanRepaymentScheduleInstallment::getInstallmentNumber)).orElse(null);
-            LoanRepaymentScheduleInstallment dueInstallment = installments.stream()
-                    .filter(LoanRepaymentScheduleInstallment::isNotFullyPaidOff).filter(e -> loanTransaction.isOn(e.getDueDate()))
-                    .min(Comparator.comparing(LoanRepaymentScheduleInstallment::getInstallmentNumber)).orElse(null);
+            LoanRepaymentScheduleInstallmentIndex installmentIndex = transactionCtx.getInstallmentIndex();
+            LoanRepaymentScheduleInstallment oldestPastDueInstallment = installmentIndex
+                    .findFirstDueBefore(transactionDate, LoanRepaymentScheduleInstallment::isNotFullyPaidOff).orElse(null);
+            LoanRepaymentScheduleInstallment dueInstallment = installmentIndex
+                    .findFirstDueOn(transactionDate, LoanRepaymentScheduleInstallment::isNotFullyPaidOff).orElse(null);
 
             // For having similar logic we are populating installment list even when the future installment
             // allocation rule is NEXT_INSTALLMENT or LAST_INSTALLMENT hence the list has only one element.
@@ -1405,16 +1451,14 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
                 inAdvanceInstallments = installments.stream().filter(LoanRepaymentScheduleInstallment::isNotFullyPaidOff)
                         .filter(e -> loanTransaction.isBefore(e.getDueDate())).toList();
             } else if (FutureInstallmentAllocationRule.NEXT_INSTALLMENT.equals(futureInstallmentAllocationRule)) {
-                inAdvanceInstallments = installments.stream().filter(LoanRepaymentScheduleInstallment::isNotFullyPaidOff)
-                        .filter(e -> loanTransaction.isBefore(e.getDueDate()))
-                        .min(Comparator.comparing(LoanRepaymentScheduleInstallment::getInstallmentNumber)).stream().toList();
+                inAdvanceInstallments = installmentIndex
+                        .findFirstDueAfter(transactionDate, LoanRepaymentScheduleInstallment::isNotFullyPaidOff).stream().toList();
             } else if (FutureInstallmentAllocationRule.LAST_INSTALLMENT.equals(futureInstallmentAllocationRule)) {
-                inAdvanceInstallments = installments.stream().filter(LoanRepaymentScheduleInstallment::isNotFullyPaidOff)
-                        .filter(e -> loanTransaction.isBefore(e.getDueDate()))
-                        .max(Comparator.comparing(LoanRepaymentScheduleInstallment::getInstallmentNumber)).stream().toList();
+                inAdvanceInstallments = installmentIndex
+                        .findLastDueAfter(transactionDate, LoanRepaymentScheduleInstallment::isNotFullyPaidOff).stream().toList();
             }
 
-            int firstNormalInstallmentNumber = LoanRepaymentScheduleProcessingWrapper.fetchFirstNormalInstallmentNumber(installments);
+            int firstNormalInstallmentNumber = installmentIndex.getFirstNormalInstallmentNumber();
 
             for (PaymentAllocationType paymentAllocationType : paymentAllocationTypes) {
                 switch (paymentAllocationType.getDueType()) {
@@ -1536,8 +1580,8 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
     private void updateRepaymentPeriods(LoanTransaction loanTransaction, ProgressiveTransactionCtx ctx,
             ProgressiveLoanInterestScheduleModel model) {
         model.repaymentPeriods().forEach(rm -> {
-            LoanRepaymentScheduleInstallment installment = ctx.getInstallments().stream()
-                    .filter(ri -> ri.getDueDate().equals(rm.getDueDate()) && !ri.isDownPayment()).findFirst().orElse(null);
+            LoanRepaymentScheduleInstallment installment = ctx.getInstallmentIndex().getInstallmentsDueOn(rm.getDueDate()).stream()
+                    .filter(ri -> !ri.isDownPayment()).findFirst().orElse(null);
             if (installment != null) {
                 installment.updatePrincipal(rm.getDuePrincipal().getAmount());
                 installment.updateInterestCharged(rm.getDueInterest().getAmount());
@@ -1584,11 +1628,12 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
                 .collect(Collectors.toSet());
     }
 
-    private Money processPeriodsVertically(LoanTransaction loanTransaction, MonetaryCurrency currency,
-            List<LoanRepaymentScheduleInstallment> installments, Money transactionAmountUnprocessed,
-            LoanPaymentAllocationRule paymentAllocationRule, List<LoanTransactionToRepaymentScheduleMapping> transactionMappings,
-            Set<LoanCharge> charges, Balances balances) {
-        int firstNormalInstallmentNumber = LoanRepaymentScheduleProcessingWrapper.fetchFirstNormalInstallmentNumber(installments);
+    private Money processPeriodsVertically(LoanTransaction loanTransaction, MonetaryCurrency currency, TransactionCtx transactionCtx,
+            Money transactionAmountUnprocessed, LoanPaymentAllocationRule paymentAllocationRule,
+            List<LoanTransactionToRepaymentScheduleMapping> transactionMappings, Set<LoanCharge> charges, Balances balances) {
+        List<LoanRepaymentScheduleInstallment> installments = transactionCtx.getInstallments();
+        LoanRepaymentScheduleInstallmentIndex installmentIndex = transactionCtx.getInstallmentIndex();
+        int firstNormalInstallmentNumber = installmentIndex.getFirstNormalInstallmentNumber();
         for (PaymentAllocationType paymentAllocationType : paymentAllocationRule.getAllocationTypes()) {
             FutureInstallmentAllocationRule futureInstallmentAllocationRule = paymentAllocationRule.getFutureInstallmentAllocationRule();
             LoanRepaymentScheduleInstallment currentInstallment = null;
@@ -1597,8 +1642,8 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
                 Predicate<LoanRepaymentScheduleInstallment> predicate = getFilterPredicate(paymentAllocationType, currency);
                 switch (paymentAllocationType.getDueType()) {
                     case PAST_DUE -> {
-                        currentInstallment = installments.stream().filter(predicate).filter(e -> loanTransaction.isAfter(e.getDueDate()))
-                                .min(Comparator.comparing(LoanRepaymentScheduleInstallment::getInstallmentNumber)).orElse(null);
+                        currentInstallment = installmentIndex.findFirstDueBefore(loanTransaction.getTransactionDate(), predicate)
+                                .orElse(null);
                         if (currentInstallment != null) {
                             Set<LoanCharge> oldestPastDueInstallmentCharges = getLoanChargesOfInstallment(charges, currentInstallment,
                                     firstNormalInstallmentNumber);
@@ -1611,8 +1656,7 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
                         }
                     }
                     case DUE -> {
-                        currentInstallment = installments.stream().filter(predicate).filter(e -> loanTransaction.isOn(e.getDueDate()))
-                                .min(Comparator.comparing(LoanRepaymentScheduleInstallment::getInstallmentNumber)).orElse(null);
+                        currentInstallment = installmentIndex.findFirstDueOn(loanTransaction.getTransactionDate(), predicate).orElse(null);
                         if (currentInstallment != null) {
                             Set<LoanCharge> dueInstallmentCharges = getLoanChargesOfInstallment(charges, currentInstallment,
                                     firstNormalInstallmentNumber);
@@ -1632,13 +1676,11 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
                             currentInstallments = installments.stream().filter(predicate)
                                     .filter(e -> loanTransaction.isBefore(e.getDueDate())).toList();
                         } else if (FutureInstallmentAllocationRule.NEXT_INSTALLMENT.equals(futureInstallmentAllocationRule)) {
-                            currentInstallments = installments.stream().filter(predicate)
-                                    .filter(e -> loanTransaction.isBefore(e.getDueDate()))
-                                    .min(Comparator.comparing(LoanRepaymentScheduleInstallment::getInstallmentNumber)).stream().toList();
+                            currentInstallments = installmentIndex.findFirstDueAfter(loanTransaction.getTransactionDate(), predicate)
+                                    .stream().toList();
                         } else if (FutureInstallmentAllocationRule.LAST_INSTALLMENT.equals(futureInstallmentAllocationRule)) {
-                            currentInstallments = installments.stream().filter(predicate)
-                                    .filter(e -> loanTransaction.isBefore(e.getDueDate()))
-                                    .max(Comparator.comparing(LoanRepaymentScheduleInstallment::getInstallmentNumber)).stream().toList();
+                            currentInstallments = installmentIndex.findLastDueAfter(loanTransaction.getTransactionDate(), predicate)
+                                    .stream().toList();
                         }
                         int numberOfInstallments = currentInstallments.size();
                         paidPortion = Money.zero(currency);
@@ -1750,6 +1792,7 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
         }
         reAgedInstallment.addToPrincipal(loanTransaction.getTransactionDate(), adjustCalculatedPrincipal);
         reprocessInstallmentsOrder(installments);
+        ctx.invalidateInstallmentIndex();
     }
 
     private void reprocessInstallmentsOrder(List<LoanRepaymentScheduleInstallment> installments) {
@@ -0,0 +1,342 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractReplayCheckpointProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.charge.domain.ChargeTimeType;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanCharge;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanChargeBalances;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallmentBalances;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionType;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.MoneyHolder;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.ProgressiveLoanInterestScheduleModel;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps snapshots of the progressive loan replay state at transaction boundaries, so a later replay of the same loan can
+ * continue from the last snapshot before the first changed transaction instead of starting over from the disbursement.
+ * <p>
+ * A snapshot is reused only when every input it was derived from is unchanged: the loan configuration, the repayment
+ * schedule periods and the exact list of charges and transactions processed before it. Only a prefix of charges,
+ * disbursements and repayment like transactions is checkpointed, as those never modify other transactions or the
+ * structure of the schedule. The amounts paid on the charges are part of the snapshot, as the replay resets them.
+ * Snapshots are published once the transaction which produced them is committed.
+ */
+@Slf4j
+public class ProgressiveReplayCheckpointCache {
+
+    private static final Set<LoanTransactionType> CHECKPOINTED_TRANSACTION_TYPES = EnumSet.of(LoanTransactionType.DISBURSEMENT,
+            LoanTransactionType.REPAYMENT, LoanTransactionType.DOWN_PAYMENT, LoanTransactionType.MERCHANT_ISSUED_REFUND,
+            LoanTransactionType.PAYOUT_REFUND, LoanTransactionType.GOODWILL_CREDIT);
+
+    private final FineractReplayCheckpointProperties properties;
+    private final Map<String, LoanCheckpoints> checkpointsByLoan;
+
+    public ProgressiveReplayCheckpointCache(FineractReplayCheckpointProperties properties) {
+        this.properties = properties;
+        int maxLoans = Math.max(1, properties.getMaxLoans());
+        this.checkpointsByLoan = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LoanCheckpoints> eldest) {
+                return size() > maxLoans;
+            }
+        });
+    }
+
+    /**
+     * Starts tracking the replay of the given loan.
+     *
+     * @return the replay, or null if the loan is not persisted yet
+     */
+    public Replay startReplay(Loan loan, LocalDate disbursementDate, List<ChargeOrTransaction> chargeOrTransactions,
+            List<LoanRepaymentScheduleInstallment> installments) {
+        if (loan == null || loan.getId() == null) {
+            return null;
+        }
+        FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+        String cacheKey = (tenant == null ? "" : tenant.getTenantIdentifier()) + ":" + loan.getId();
+        List<EntryKey> entryKeys = new ArrayList<>();
+        for (ChargeOrTransaction chargeOrTransaction : chargeOrTransactions) {
+            if (chargeOrTransaction.isCharge()) {
+                // the snapshot of the charge balances is matched by the charge id
+                LoanCharge charge = chargeOrTransaction.getLoanCharge().get();
+                if (charge.getId() == null) {
+                    break;
+                }
+                entryKeys.add(new EntryKey(charge));
+                continue;
+            }
+            LoanTransaction transaction = chargeOrTransaction.getLoanTransaction().get();
+            if (transaction.getId() == null || transaction.isReversed()
+                    || !CHECKPOINTED_TRANSACTION_TYPES.contains(transaction.getTypeOf())) {
+                break;
+            }
+            entryKeys.add(new EntryKey(transaction));
+        }
+        return new Replay(cacheKey, buildScheduleKey(loan, disbursementDate, installments), entryKeys);
+    }
+
+    int size() {
+        return checkpointsByLoan.size();
+    }
+
+    private static String buildScheduleKey(Loan loan, LocalDate disbursementDate, List<LoanRepaymentScheduleInstallment> installments) {
+        StringBuilder key = new StringBuilder();
+        LoanProductRelatedDetail detail = loan.getLoanRepaymentScheduleDetail();
+        MonetaryCurrency currency = loan.getCurrency();
+        append(key, currency.getCode(), currency.getDigitsAfterDecimal(), currency.getCurrencyInMultiplesOf(), MoneyHelper.getMathContext(),
+                disbursementDate);
+        append(key, detail.getPrincipal(), detail.getAnnualNominalInterestRate(), detail.getNominalInterestRatePerPeriod(),
+                detail.getInterestPeriodFrequencyType(), detail.getInterestMethod(), detail.getInterestCalculationPeriodMethod(),
+                detail.isAllowPartialPeriodInterestCalcualtion(), detail.getAmortizationMethod(), detail.getDaysInMonthType(),
+                detail.getDaysInYearType(), detail.isInterestRecalculationEnabled(), detail.isEnableDownPayment(),
+                detail.getDisbursedAmountPercentageForDownPayment(), detail.getLoanScheduleProcessingType(),
+                loan.getLoanProduct().getInstallmentAmountInMultiplesOf());
+        append(key, loan.isInterestBearing(), loan.isInterestRecalculationEnabledForProduct(), loan.isNpa(), loan.isChargedOff(),
+                loan.getLoanInterestRecalculationDetails() == null ? null
+                        : loan.getLoanInterestRecalculationDetails().getRestFrequencyType());
+        loan.getPaymentAllocationRules().stream()
+                .sorted(Comparator.comparing(rule -> rule.getTransactionType().name()))
+                .forEach(rule -> append(key, rule.getTransactionType(), rule.getFutureInstallmentAllocationRule(),
+                        rule.getAllocationTypes()));
+        for (LoanRepaymentScheduleInstallment installment : installments) {
+            append(key, installment.getInstallmentNumber(), installment.getFromDate(), installment.getDueDate(),
+                    installment.isDownPayment(), installment.isAdditional(), installment.isReAged());
+        }
+        return key.toString();
+    }
+
+    private static void append(StringBuilder key, Object... values) {
+        for (Object value : values) {
+            key.append(value instanceof BigDecimal decimal ? decimal.stripTrailingZeros().toPlainString() : value).append('|');
+        }
+    }
+
+    /**
+     * The state of a single replay: offers the checkpoint to continue from and collects the new checkpoints.
+     */
+    public final class Replay {
+
+        private final String cacheKey;
+        private final String scheduleKey;
+        private final List<EntryKey> entryKeys;
+        private final List<Checkpoint> checkpoints = new ArrayList<>();
+        private boolean changed;
+
+        private Replay(String cacheKey, String scheduleKey, List<EntryKey> entryKeys) {
+            this.cacheKey = cacheKey;
+            this.scheduleKey = scheduleKey;
+            this.entryKeys = entryKeys;
+        }
+
+        /**
+         * @return the latest published checkpoint which was taken on the same inputs as this replay, or null
+         */
+        public Checkpoint findCheckpoint() {
+            LoanCheckpoints cached = checkpointsByLoan.get(cacheKey);
+            if (cached == null || !cached.getScheduleKey().equals(scheduleKey)) {
+                return null;
+            }
+            List<EntryKey> cachedEntryKeys = cached.getEntryKeys();
+            int commonPrefixLength = 0;
+            int maxLength = Math.min(cachedEntryKeys.size(), entryKeys.size());
+            while (commonPrefixLength < maxLength && cachedEntryKeys.get(commonPrefixLength).equals(entryKeys.get(commonPrefixLength))) {
+                commonPrefixLength++;
+            }
+            Checkpoint result = null;
+            for (Checkpoint checkpoint : cached.getCheckpoints()) {
+                if (checkpoint.getProcessedCount() <= commonPrefixLength) {
+                    checkpoints.add(checkpoint);
+                    result = checkpoint;
+                }
+            }
+            if (result != null) {
+                log.debug("Replay of loan {} continues from checkpoint after {} of {} transactions", cacheKey, result.getProcessedCount(),
+                        entryKeys.size());
+            }
+            return result;
+        }
+
+        /**
+         * Called before the element at the given position of the sorted charges and transactions is processed.
+         */
+        public void onBoundary(int processedCount, ProgressiveTransactionCtx ctx, boolean hasOverpaidTransactions) {
+            if (processedCount == 0 || processedCount > entryKeys.size() || processedCount % Math.max(1, properties.getInterval()) != 0) {
+                return;
+            }
+            // a reverse-replayed transaction or a pending overpayment is revisited later, the state is not final yet
+            if (hasOverpaidTransactions || !ctx.getChangedTransactionDetail().getNewTransactionMappings().isEmpty()) {
+                return;
+            }
+            if (checkpoints.stream().anyMatch(checkpoint -> checkpoint.getProcessedCount() == processedCount)) {
+                return;
+            }
+            checkpoints.add(new Checkpoint(processedCount, ctx));
+            changed = true;
+        }
+
+        /**
+         * Publishes the collected checkpoints once the current transaction is committed.
+         */
+        public void publish() {
+            if (!changed || !TransactionSynchronizationManager.isSynchronizationActive()
+                    || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                return;
+            }
+            List<Checkpoint> kept = checkpoints.stream().sorted(Comparator.comparingInt(Checkpoint::getProcessedCount)).toList();
+            int maxCheckpoints = Math.max(1, properties.getMaxCheckpointsPerLoan());
+            if (kept.size() > maxCheckpoints) {
+                kept = kept.subList(kept.size() - maxCheckpoints, kept.size());
+            }
+            LoanCheckpoints loanCheckpoints = new LoanCheckpoints(scheduleKey,
+                    List.copyOf(entryKeys.subList(0, kept.get(kept.size() - 1).getProcessedCount())), List.copyOf(kept));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    checkpointsByLoan.put(cacheKey, loanCheckpoints);
+                }
+            });
+        }
+    }
+
+    /**
+     * Snapshot of the replay state after the first {@link #getProcessedCount()} charges and transactions.
+     */
+    @Getter
+    public static final class Checkpoint {
+
+        private final int processedCount;
+        private final ProgressiveLoanInterestScheduleModel model;
+        private final List<LoanRepaymentScheduleInstallmentBalances> installmentBalances;
+        private final Money overpayment;
+        private final LocalDate lastOverdueBalanceChange;
+        private final Map<Long, LoanChargeBalances> chargeBalances;
+
+        private Checkpoint(int processedCount, ProgressiveTransactionCtx ctx) {
+            this.processedCount = processedCount;
+            this.model = ctx.getModel().deepCopy(MoneyHelper.getMathContext());
+            this.installmentBalances = ctx.getInstallments().stream().map(LoanRepaymentScheduleInstallment::snapshotBalances).toList();
+            this.overpayment = ctx.getOverpaymentHolder().getMoneyObject();
+            this.lastOverdueBalanceChange = ctx.getLastOverdueBalanceChange();
+            Map<Long, LoanChargeBalances> balancesByChargeId = new HashMap<>();
+            if (ctx.getCharges() != null) {
+                for (LoanCharge charge : ctx.getCharges()) {
+                    // the replay resets the paid amounts of the charges which are not due at disbursement
+                    if (charge.getId() != null && !charge.isDueAtDisbursement()) {
+                        balancesByChargeId.put(charge.getId(), charge.snapshotBalances());
+                    }
+                }
+            }
+            this.chargeBalances = Map.copyOf(balancesByChargeId);
+        }
+
+        /**
+         * Restores the installment balances, the charge balances and the overpayment, and returns a copy of the schedule
+         * model to continue the replay with.
+         */
+        public ProgressiveLoanInterestScheduleModel restore(List<LoanRepaymentScheduleInstallment> installments, Set<LoanCharge> charges,
+                MoneyHolder overpaymentHolder) {
+            for (int i = 0; i < installments.size(); i++) {
+                installments.get(i).restoreBalances(installmentBalances.get(i));
+            }
+            if (charges != null) {
+                for (LoanCharge charge : charges) {
+                    LoanChargeBalances balances = charge.getId() == null ? null : chargeBalances.get(charge.getId());
+                    if (balances != null) {
+                        charge.restoreBalances(balances);
+                    }
+                }
+            }
+            overpaymentHolder.setMoneyObject(overpayment);
+            return model.deepCopy(MoneyHelper.getMathContext());
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class LoanCheckpoints {
+
+        private final String scheduleKey;
+        private final List<EntryKey> entryKeys;
+        private final List<Checkpoint> checkpoints;
+    }
+
+    @EqualsAndHashCode
+    private static final class EntryKey {
+
+        private final Long id;
+        private final LoanTransactionType type;
+        private final ChargeTimeType chargeTimeType;
+        private final boolean penalty;
+        private final LocalDate transactionDate;
+        private final BigDecimal amount;
+        private final LocalDate submittedOnDate;
+        private final OffsetDateTime createdDateTime;
+
+        private EntryKey(LoanTransaction transaction) {
+            this.id = transaction.getId();
+            this.type = transaction.getTypeOf();
+            this.chargeTimeType = null;
+            this.penalty = false;
+            this.transactionDate = transaction.getTransactionDate();
+            this.amount = transaction.getAmount() == null ? null : transaction.getAmount().stripTrailingZeros();
+            this.submittedOnDate = transaction.getSubmittedOnDate();
+            this.createdDateTime = transaction.getCreatedDateTime();
+        }
+
+        private EntryKey(LoanCharge charge) {
+            this.id = charge.getId();
+            this.type = null;
+            this.chargeTimeType = charge.getChargeTimeType();
+            this.penalty = charge.isPenaltyCharge();
+            this.transactionDate = charge.getDueDate();
+            this.amount = charge.amount() == null ? null : charge.amount().stripTrailingZeros();
+            this.submittedOnDate = charge.getSubmittedOnDate();
+            this.createdDateTime = charge.getCreatedDate().orElse(null);
+        }
+    }
+}
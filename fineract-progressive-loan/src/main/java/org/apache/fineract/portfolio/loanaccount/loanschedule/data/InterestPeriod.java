@@ -25,7 +25,6 @@ import java.time.LocalDate;
 import java.util.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.ToString;
 import org.apache.fineract.infrastructure.core.service.MathUtil;
 import org.apache.fineract.organisation.monetary.domain.Money;
@@ -37,10 +36,8 @@ public class InterestPeriod implements Comparable<InterestPeriod> {
 
     private final RepaymentPeriod repaymentPeriod;
     private final LocalDate fromDate;
-    @Setter
     @NotNull
     private LocalDate dueDate;
-    @Setter
     private BigDecimal rateFactor;
     private Money disbursementAmount;
     private Money balanceCorrectionAmount;
@@ -70,12 +67,24 @@ public class InterestPeriod implements Comparable<InterestPeriod> {
         return dueDate.compareTo(o.dueDate);
     }
 
+    public void setDueDate(final LocalDate dueDate) {
+        this.dueDate = dueDate;
+        modified();
+    }
+
+    public void setRateFactor(final BigDecimal rateFactor) {
+        this.rateFactor = rateFactor;
+        modified();
+    }
+
     public void addBalanceCorrectionAmount(final Money balanceCorrectionAmount) {
         this.balanceCorrectionAmount = MathUtil.plus(this.balanceCorrectionAmount, balanceCorrectionAmount);
+        modified();
     }
 
     public void addDisbursementAmount(final Money disbursementAmount) {
         this.disbursementAmount = MathUtil.plus(this.disbursementAmount, disbursementAmount, mc);
+        modified();
     }
 
     public Money getCalculatedDueInterest() {
@@ -101,6 +110,13 @@ public class InterestPeriod implements Comparable<InterestPeriod> {
                     .plus(previousInterestPeriod.getBalanceCorrectionAmount(), mc) //
                     .plus(previousInterestPeriod.getDisbursementAmount(), mc); //
         }
+        modified();
+    }
+
+    private void modified() {
+        if (repaymentPeriod != null) {
+            repaymentPeriod.interestPeriodModified();
+        }
     }
 
     private boolean isFirstInterestPeriod() {
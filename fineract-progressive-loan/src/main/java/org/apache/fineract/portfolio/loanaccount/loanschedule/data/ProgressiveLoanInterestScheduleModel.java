@@ -93,6 +93,16 @@ public class ProgressiveLoanInterestScheduleModel {
                 .findFirst();
     }
 
+    /**
+     * Copies only the repayment period due on the given date, so that it can be evaluated (e.g. truncated to a target date)
+     * without changing this model. The copy shares the previous repayment periods with this model, they must not be changed
+     * through the copy.
+     */
+    public Optional<RepaymentPeriod> copyRepaymentPeriod(final LocalDate repaymentPeriodDueDate, final MathContext mc) {
+        return findRepaymentPeriod(repaymentPeriodDueDate)
+                .map(repaymentPeriod -> new RepaymentPeriod(repaymentPeriod.getPrevious().orElse(null), repaymentPeriod, mc));
+    }
+
     public List<RepaymentPeriod> getRelatedRepaymentPeriods(final LocalDate calculateFromRepaymentPeriodDueDate) {
         if (calculateFromRepaymentPeriodDueDate == null) {
             return repaymentPeriods;
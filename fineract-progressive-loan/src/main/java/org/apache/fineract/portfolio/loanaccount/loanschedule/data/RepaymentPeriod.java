@@ -26,14 +26,14 @@ import java.util.List;
 import java.util.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.ToString;
 import org.apache.fineract.infrastructure.core.service.MathUtil;
 import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyAccumulator;
 import org.apache.fineract.portfolio.util.Memo;
 
-@ToString(exclude = { "previous" })
-@EqualsAndHashCode(exclude = { "previous" })
+@ToString(exclude = { "previous", "interestPeriodsModifications", "paymentModifications", "emiModifications" })
+@EqualsAndHashCode(exclude = { "previous", "interestPeriodsModifications", "paymentModifications", "emiModifications" })
 public class RepaymentPeriod {
 
     private final RepaymentPeriod previous;
@@ -41,9 +41,7 @@ public class RepaymentPeriod {
     private final LocalDate fromDate;
     @Getter
     private final LocalDate dueDate;
-    @Getter
-    private final List<InterestPeriod> interestPeriods;
-    @Setter
+    private final InterestPeriodList interestPeriods;
     @Getter
     private Money emi;
     @Getter
@@ -57,13 +55,18 @@ public class RepaymentPeriod {
     private Memo<Money> outstandingBalanceCalculation;
     private final MathContext mc;
 
+    // Monotonic modification counters, used as version stamps of the memoized calculations
+    private long interestPeriodsModifications;
+    private long paymentModifications;
+    private long emiModifications;
+
     public RepaymentPeriod(RepaymentPeriod previous, LocalDate fromDate, LocalDate dueDate, Money emi, MathContext mc) {
         this.previous = previous;
         this.fromDate = fromDate;
         this.dueDate = dueDate;
         this.emi = emi;
         this.mc = mc;
-        this.interestPeriods = new ArrayList<>();
+        this.interestPeriods = new InterestPeriodList();
         // There is always at least 1 interest period, by default with same from-due date as repayment period
         getInterestPeriods()
                 .add(new InterestPeriod(this, getFromDate(), getDueDate(), BigDecimal.ZERO, getZero(mc), getZero(mc), getZero(mc), mc));
@@ -76,7 +79,7 @@ public class RepaymentPeriod {
         this.fromDate = repaymentPeriod.fromDate;
         this.dueDate = repaymentPeriod.dueDate;
         this.emi = repaymentPeriod.emi;
-        this.interestPeriods = new ArrayList<>();
+        this.interestPeriods = new InterestPeriodList();
         this.paidPrincipal = repaymentPeriod.paidPrincipal;
         this.paidInterest = repaymentPeriod.paidInterest;
         this.mc = mc;
@@ -90,9 +93,13 @@ public class RepaymentPeriod {
         return Optional.ofNullable(previous);
     }
 
+    public List<InterestPeriod> getInterestPeriods() {
+        return interestPeriods;
+    }
+
     public BigDecimal getRateFactorPlus1() {
         if (rateFactorPlus1Calculation == null) {
-            rateFactorPlus1Calculation = Memo.of(this::calculateRateFactorPlus1, () -> this.interestPeriods);
+            rateFactorPlus1Calculation = Memo.of(this::calculateRateFactorPlus1, this::getInterestPeriodsVersion);
         }
         return rateFactorPlus1Calculation.get();
     }
@@ -104,14 +111,14 @@ public class RepaymentPeriod {
     public Money getCalculatedDueInterest() {
         if (calculatedDueInterestCalculation == null) {
             calculatedDueInterestCalculation = Memo.of(this::calculateCalculatedDueInterest,
-                    () -> new Object[] { this.previous, this.interestPeriods });
+                    () -> (previous != null ? previous.getVersion() : 0L) + getInterestPeriodsVersion());
         }
         return calculatedDueInterestCalculation.get();
     }
 
     private Money calculateCalculatedDueInterest() {
-        Money calculatedDueInterest = getInterestPeriods().stream().map(InterestPeriod::getCalculatedDueInterest).reduce(getZero(mc),
-                (m1, m2) -> m1.plus(m2, mc));
+        Money calculatedDueInterest = getInterestPeriods().stream().map(InterestPeriod::getCalculatedDueInterest)
+                .collect(MoneyAccumulator.summing(emi.getCurrency(), mc));
         if (getPrevious().isPresent()) {
             calculatedDueInterest = calculatedDueInterest.add(getPrevious().get().getUnrecognizedInterest(), mc);
         }
@@ -136,7 +143,7 @@ public class RepaymentPeriod {
             // Due interest might be the maximum paid if there is pay-off or early repayment
             dueInterestCalculation = Memo.of(() -> MathUtil.max(
                     getPaidPrincipal().isGreaterThan(getCalculatedDuePrincipal()) ? getPaidInterest() : getCalculatedDueInterest(),
-                    getPaidInterest(), false), () -> new Object[] { paidPrincipal, paidInterest, interestPeriods });
+                    getPaidInterest(), false), this::getPaymentsAndInterestPeriodsVersion);
         }
         return dueInterestCalculation.get();
     }
@@ -160,17 +167,44 @@ public class RepaymentPeriod {
                         .minus(getDuePrincipal(), mc)//
                         .plus(getPaidPrincipal(), mc);//
                 return MathUtil.negativeToZero(calculatedOutStandingLoanBalance, mc);
-            }, () -> new Object[] { paidPrincipal, paidInterest, interestPeriods });
+            }, this::getPaymentsAndInterestPeriodsVersion);
         }
         return outstandingBalanceCalculation.get();
     }
 
+    public void setEmi(Money emi) {
+        this.emi = emi;
+        emiModifications++;
+    }
+
     public void addPaidPrincipalAmount(Money paidPrincipal) {
         this.paidPrincipal = MathUtil.plus(this.paidPrincipal, paidPrincipal, mc);
+        paymentModifications++;
     }
 
     public void addPaidInterestAmount(Money paidInterest) {
         this.paidInterest = MathUtil.plus(this.paidInterest, paidInterest, mc);
+        paymentModifications++;
+    }
+
+    void interestPeriodModified() {
+        interestPeriodsModifications++;
+    }
+
+    private long getInterestPeriodsVersion() {
+        return interestPeriodsModifications + interestPeriods.getModificationCount();
+    }
+
+    private long getPaymentsAndInterestPeriodsVersion() {
+        return paymentModifications + getInterestPeriodsVersion();
+    }
+
+    /**
+     * Version stamp of the own state of this period (without the previous periods). Every counter only grows, so the sum
+     * changes whenever any of them does.
+     */
+    private long getVersion() {
+        return emiModifications + getPaymentsAndInterestPeriodsVersion();
     }
 
     public Money getInitialBalanceForEmiRecalculation() {
@@ -180,8 +214,21 @@ public class RepaymentPeriod {
         } else {
             initialBalance = getZero(mc);
         }
-        Money totalDisbursedAmount = getInterestPeriods().stream().map(InterestPeriod::getDisbursementAmount).reduce(getZero(mc),
-                (m1, m2) -> m1.plus(m2, mc));
+        Money totalDisbursedAmount = getInterestPeriods().stream().map(InterestPeriod::getDisbursementAmount)
+                .collect(MoneyAccumulator.summing(emi.getCurrency(), mc));
         return initialBalance.add(totalDisbursedAmount, mc);
     }
+
+    /**
+     * Exposes the structural modification count of the list (add, remove, clear, sort, sublist clear), so the
+     * memoized calculations can be invalidated without hashing the interest periods.
+     */
+    private static final class InterestPeriodList extends ArrayList<InterestPeriod> {
+
+        private static final long serialVersionUID = 1L;
+
+        int getModificationCount() {
+            return modCount;
+        }
+    }
 }
@@ -18,86 +18,58 @@
  */
 package org.apache.fineract.portfolio.util;
 
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
- * Memo (Object value cache) for calculations
- *
+ * Memo (Object value cache) for calculations.
+ * <p>
+ * The cached value is invalidated by a version stamp: the owner of the memo provides a {@link LongSupplier} whose result
+ * changes whenever any state the calculation depends on changes (e.g. a sum of monotonic modification counters). Reading
+ * a valid value neither allocates nor takes a monitor. Concurrent readers may calculate the same value more than once,
+ * which is harmless as the calculation must be side effect free; the value and its stamp are always published together.
  */
 public final class Memo<T> {
 
-    private final Object lock = new Object();
+    private static final long NO_DEPENDENCIES = 0L;
+
     private final Supplier<? extends T> supplier;
-    private final Supplier<Object> dependenciesGetter;
-    private final boolean useReferenceCheck;
+    private final LongSupplier versionGetter;
 
-    private volatile T value;
-    private volatile int[] dependencyHashCodes = new int[0];
+    private volatile Snapshot<T> snapshot;
 
-    private Memo(Supplier<? extends T> supplier, Supplier<Object> dependenciesGetter, boolean useReferenceCheck) {
+    private Memo(Supplier<? extends T> supplier, LongSupplier versionGetter) {
         this.supplier = supplier;
-        this.dependenciesGetter = dependenciesGetter;
-        this.useReferenceCheck = useReferenceCheck;
+        this.versionGetter = versionGetter;
     }
 
     public T get() {
-        Object actualDependencies = dependenciesGetter != null ? dependenciesGetter.get() : null;
-        if (actualDependencies == null && value != null) {
-            return value;
-        }
-        synchronized (lock) {
-            if (checkDependencyChangedAndUpdate(actualDependencies)) {
-                value = supplier.get();
-            }
+        final long version = versionGetter != null ? versionGetter.getAsLong() : NO_DEPENDENCIES;
+        final Snapshot<T> current = snapshot;
+        if (current != null && current.version == version) {
+            return current.value;
         }
+        final T value = supplier.get();
+        snapshot = new Snapshot<>(version, value);
         return value;
     }
 
-    private boolean checkDependencyChangedAndUpdate(Object actualDependencies) {
-        if (actualDependencies == null) {
-            return true;
-        }
-        if (actualDependencies instanceof Object[] actualDependencyList) {
-            boolean isSame = dependencyHashCodes.length == actualDependencyList.length;
-            int[] actualDependencyHashCodes = new int[actualDependencyList.length];
-            for (int i = 0; i < actualDependencyList.length; i++) {
-                actualDependencyHashCodes[i] = getHashCode(actualDependencyList[i]);
-                if (isSame) {
-                    isSame = dependencyHashCodes[i] == actualDependencyHashCodes[i];
-                }
-            }
-            if (!isSame) {
-                dependencyHashCodes = actualDependencyHashCodes;
-            }
-            return !isSame;
-        } else {
-            final int[] actualDependencyHashCodes = { getHashCode(actualDependencies) };
-            final boolean isSame = dependencyHashCodes.length == actualDependencyHashCodes.length
-                    && dependencyHashCodes[0] == actualDependencyHashCodes[0];
-            if (!isSame) {
-                dependencyHashCodes = actualDependencyHashCodes;
-                return true;
-            }
-        }
-        return false;
+    public static <T> Memo<T> of(Supplier<? extends T> supplier) {
+        return new Memo<>(supplier, null);
     }
 
-    private int getHashCode(Object dependency) {
-        if (dependency == null) {
-            return 0;
-        }
-        return useReferenceCheck ? System.identityHashCode(dependency) : dependency.hashCode();
+    public static <T> Memo<T> of(Supplier<? extends T> supplier, LongSupplier versionGetter) {
+        return new Memo<>(supplier, versionGetter);
     }
 
-    public static <T> Memo<T> of(Supplier<? extends T> supplier) {
-        return new Memo<>(supplier, null, false);
-    }
+    private static final class Snapshot<T> {
 
-    public static <T> Memo<T> of(Supplier<? extends T> supplier, Supplier<Object> dependenciesFunction) {
-        return new Memo<>(supplier, dependenciesFunction, false);
-    }
+        private final long version;
+        private final T value;
 
-    public static <T> Memo<T> of(Supplier<? extends T> supplier, Supplier<Object> dependenciesFunction, boolean useReferenceCheck) {
-        return new Memo<>(supplier, dependenciesFunction, useReferenceCheck);
+        private Snapshot(long version, T value) {
+            this.version = version;
+            this.value = value;
+        }
     }
 }
@@ -0,0 +1,392 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractReplayCheckpointProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.ApplicationCurrency;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.charge.domain.Charge;
+import org.apache.fineract.portfolio.charge.domain.ChargeCalculationType;
+import org.apache.fineract.portfolio.charge.domain.ChargePaymentMode;
+import org.apache.fineract.portfolio.charge.domain.ChargeTimeType;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.domain.ChangedTransactionDetail;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanCharge;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanInstallmentCharge;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanPaymentAllocationRule;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanRepaymentScheduleModelData;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelPeriod;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelRepaymentPeriod;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleProcessingType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.ProgressiveLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
+import org.apache.fineract.portfolio.loanproduct.domain.AmortizationMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.FutureInstallmentAllocationRule;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestCalculationPeriodMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.apache.fineract.portfolio.loanproduct.domain.PaymentAllocationTransactionType;
+import org.apache.fineract.portfolio.loanproduct.domain.PaymentAllocationType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Replays the same loan with and without the {@link ProgressiveReplayCheckpointCache} and verifies that continuing from
+ * a checkpoint produces the same schedule and the same transaction portions as replaying every transaction.
+ */
+class AdvancedPaymentScheduleTransactionProcessorReplayCheckpointTest {
+
+    private static final ApplicationCurrency APPLICATION_CURRENCY = new ApplicationCurrency("USD", "US Dollar", 2, 1, "currency.USD",
+            "$");
+    private static final MonetaryCurrency CURRENCY = MonetaryCurrency.fromApplicationCurrency(APPLICATION_CURRENCY);
+    private static final MathContext MC = new MathContext(12, RoundingMode.HALF_EVEN);
+    private static final LocalDate DISBURSEMENT_DATE = LocalDate.of(2024, 1, 1);
+    private static final BigDecimal PRINCIPAL = BigDecimal.valueOf(10_000L);
+    private static final BigDecimal ANNUAL_NOMINAL_INTEREST_RATE = BigDecimal.valueOf(9.99);
+    private static final int NUMBER_OF_INSTALLMENTS = 12;
+    private static final int NUMBER_OF_REPAYMENTS = 8;
+    private static final int CHECKPOINT_INTERVAL = 2;
+    private static final BigDecimal INSTALLMENT_FEE = BigDecimal.valueOf(10L);
+    private static final BigDecimal PENALTY = BigDecimal.valueOf(25L);
+    private static MockedStatic<MoneyHelper> moneyHelper;
+
+    private final ProgressiveEMICalculator emiCalculator = new ProgressiveEMICalculator();
+    private ProgressiveReplayCheckpointCache replayCheckpointCache;
+
+    @BeforeAll
+    public static void init() {
+        moneyHelper = mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        moneyHelper.when(MoneyHelper::getMathContext).thenReturn(MC);
+    }
+
+    @AfterAll
+    public static void destruct() {
+        moneyHelper.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(
+                new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, DISBURSEMENT_DATE.plusMonths(NUMBER_OF_REPAYMENTS).plusDays(1))));
+        FineractReplayCheckpointProperties properties = new FineractReplayCheckpointProperties();
+        properties.setEnabled(true);
+        properties.setInterval(CHECKPOINT_INTERVAL);
+        properties.setMaxCheckpointsPerLoan(10);
+        properties.setMaxLoans(10);
+        replayCheckpointCache = new ProgressiveReplayCheckpointCache(properties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testReplayFromCheckpointMatchesFullReplayAfterBackdatedRepayment() {
+        // given
+        AdvancedPaymentScheduleTransactionProcessor checkpointingProcessor = new AdvancedPaymentScheduleTransactionProcessor(emiCalculator,
+                replayCheckpointCache);
+        AdvancedPaymentScheduleTransactionProcessor fullReplayProcessor = new AdvancedPaymentScheduleTransactionProcessor(emiCalculator);
+        LoanFixture checkpointed = createPersistedLoan(false);
+        LoanFixture replayed = createPersistedLoan(false);
+        replayInTransaction(checkpointingProcessor, checkpointed);
+
+        // a repayment between the 5th and the 6th due date, after the checkpoint of the first 6 transactions
+        LocalDate backdatedDate = checkpointed.installments().get(4).getDueDate().plusDays(10);
+        checkpointed.transactions().add(createTransaction(checkpointed.loan(), LoanTransactionType.REPAYMENT, backdatedDate,
+                BigDecimal.valueOf(500L)));
+        replayed.transactions().add(createTransaction(replayed.loan(), LoanTransactionType.REPAYMENT, backdatedDate,
+                BigDecimal.valueOf(500L)));
+        ProgressiveReplayCheckpointCache.Checkpoint checkpoint = replayCheckpointCache
+                .startReplay(checkpointed.loan(), DISBURSEMENT_DATE, sortedEntries(checkpointed), checkpointed.installments())
+                .findCheckpoint();
+        assertNotNull(checkpoint);
+        assertEquals(6, checkpoint.getProcessedCount());
+
+        // when
+        ChangedTransactionDetail checkpointedResult = replayInTransaction(checkpointingProcessor, checkpointed);
+        ChangedTransactionDetail replayedResult = replayInTransaction(fullReplayProcessor, replayed);
+
+        // then
+        assertEquals(describeInstallments(replayed), describeInstallments(checkpointed));
+        assertEquals(describeTransactions(replayed, replayedResult), describeTransactions(checkpointed, checkpointedResult));
+    }
+
+    @Test
+    public void testReplayFromCheckpointRestoresChargesPaidBeforeTheCheckpoint() {
+        // given
+        AdvancedPaymentScheduleTransactionProcessor checkpointingProcessor = new AdvancedPaymentScheduleTransactionProcessor(emiCalculator,
+                replayCheckpointCache);
+        AdvancedPaymentScheduleTransactionProcessor fullReplayProcessor = new AdvancedPaymentScheduleTransactionProcessor(emiCalculator);
+        LoanFixture checkpointed = createPersistedLoan(true);
+        LoanFixture replayed = createPersistedLoan(true);
+        replayInTransaction(checkpointingProcessor, checkpointed);
+
+        // the installment fee and the penalty are paid by the repayments before the checkpoint of the first 8 entries
+        LocalDate backdatedDate = checkpointed.installments().get(4).getDueDate().plusDays(10);
+        checkpointed.transactions().add(createTransaction(checkpointed.loan(), LoanTransactionType.REPAYMENT, backdatedDate,
+                BigDecimal.valueOf(500L)));
+        replayed.transactions().add(createTransaction(replayed.loan(), LoanTransactionType.REPAYMENT, backdatedDate,
+                BigDecimal.valueOf(500L)));
+        ProgressiveReplayCheckpointCache.Checkpoint checkpoint = replayCheckpointCache
+                .startReplay(checkpointed.loan(), DISBURSEMENT_DATE, sortedEntries(checkpointed), checkpointed.installments())
+                .findCheckpoint();
+        assertNotNull(checkpoint);
+        assertEquals(8, checkpoint.getProcessedCount());
+
+        // when
+        ChangedTransactionDetail checkpointedResult = replayInTransaction(checkpointingProcessor, checkpointed);
+        ChangedTransactionDetail replayedResult = replayInTransaction(fullReplayProcessor, replayed);
+
+        // then
+        assertTrue(checkpointed.charges().stream().allMatch(charge -> charge.getAmountPaid(CURRENCY).isGreaterThanZero()));
+        assertEquals(describeCharges(replayed), describeCharges(checkpointed));
+        assertEquals(describeInstallments(replayed), describeInstallments(checkpointed));
+        assertEquals(describeTransactions(replayed, replayedResult), describeTransactions(checkpointed, checkpointedResult));
+    }
+
+    private static List<ChargeOrTransaction> sortedEntries(LoanFixture fixture) {
+        List<ChargeOrTransaction> entries = new ArrayList<>();
+        if (fixture.charges() != null) {
+            fixture.charges().forEach(charge -> entries.add(new ChargeOrTransaction(charge)));
+        }
+        fixture.transactions().forEach(transaction -> entries.add(new ChargeOrTransaction(transaction)));
+        return entries.stream().sorted().toList();
+    }
+
+    private ChangedTransactionDetail replayInTransaction(AdvancedPaymentScheduleTransactionProcessor processor, LoanFixture fixture) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ChangedTransactionDetail changedTransactionDetail = processor.reprocessLoanTransactions(DISBURSEMENT_DATE,
+                    fixture.transactions(), CURRENCY, fixture.installments(), fixture.charges());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            return changedTransactionDetail;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * A disbursement and a repayment of the total due on each of the first due dates, optionally with an installment fee
+     * and a penalty added at the disbursement, processed once and then given ids and creation timestamps, as if they were
+     * loaded from the database.
+     */
+    private LoanFixture createPersistedLoan(boolean withCharges) {
+        Loan loan = createLoan();
+        List<LoanScheduleModelRepaymentPeriod> repaymentPeriods = generateRepaymentPeriods();
+        List<LoanRepaymentScheduleInstallment> installments = new ArrayList<>(repaymentPeriods.size());
+        for (LoanScheduleModelRepaymentPeriod period : repaymentPeriods) {
+            installments.add(new LoanRepaymentScheduleInstallment(loan, period.getPeriodNumber(), period.getFromDate(), period.getDueDate(),
+                    period.getPrincipalDue().getAmount(), period.getInterestDue().getAmount(), BigDecimal.ZERO, BigDecimal.ZERO, false,
+                    null));
+        }
+        Set<LoanCharge> charges = withCharges ? createCharges(loan, installments) : null;
+        List<LoanTransaction> transactions = new ArrayList<>();
+        transactions.add(createTransaction(loan, LoanTransactionType.DISBURSEMENT, DISBURSEMENT_DATE, PRINCIPAL));
+        for (int i = 0; i < NUMBER_OF_REPAYMENTS; i++) {
+            LoanScheduleModelRepaymentPeriod period = repaymentPeriods.get(i);
+            transactions.add(
+                    createTransaction(loan, LoanTransactionType.REPAYMENT, period.getDueDate(), period.getTotalDue().getAmount()));
+        }
+        new AdvancedPaymentScheduleTransactionProcessor(emiCalculator).reprocessLoanTransactions(DISBURSEMENT_DATE, transactions, CURRENCY,
+                installments, charges);
+        for (int i = 0; i < transactions.size(); i++) {
+            LoanTransaction transaction = transactions.get(i);
+            transaction.setId(i + 1L);
+            transaction.setCreatedDate(OffsetDateTime.of(transaction.getTransactionDate().atStartOfDay(), ZoneOffset.UTC));
+        }
+        return new LoanFixture(loan, installments, transactions, charges);
+    }
+
+    /**
+     * A flat installment fee on every installment and a flat penalty due on the 3rd due date, both submitted on the
+     * disbursement date.
+     */
+    private static Set<LoanCharge> createCharges(Loan loan, List<LoanRepaymentScheduleInstallment> installments) {
+        HashMap<BusinessDateType, LocalDate> businessDates = ThreadLocalContextUtil.getBusinessDates();
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, DISBURSEMENT_DATE)));
+        try {
+            LoanCharge fee = new LoanCharge(loan, createChargeDefinition(false), PRINCIPAL, INSTALLMENT_FEE, ChargeTimeType.INSTALMENT_FEE,
+                    ChargeCalculationType.FLAT, null, ChargePaymentMode.REGULAR, NUMBER_OF_INSTALLMENTS, null, ExternalId.empty());
+            fee.addLoanInstallmentCharges(
+                    installments.stream().map(installment -> new LoanInstallmentCharge(INSTALLMENT_FEE, fee, installment)).toList());
+            LoanCharge penalty = new LoanCharge(loan, createChargeDefinition(true), PRINCIPAL, PENALTY, ChargeTimeType.SPECIFIED_DUE_DATE,
+                    ChargeCalculationType.FLAT, installments.get(2).getDueDate(), ChargePaymentMode.REGULAR, NUMBER_OF_INSTALLMENTS,
+                    null, ExternalId.empty());
+            List<LoanCharge> charges = List.of(fee, penalty);
+            for (int i = 0; i < charges.size(); i++) {
+                charges.get(i).setId(i + 1L);
+                charges.get(i).setCreatedDate(OffsetDateTime.of(DISBURSEMENT_DATE.atStartOfDay().plusMinutes(i), ZoneOffset.UTC));
+            }
+            return new HashSet<>(charges);
+        } finally {
+            ThreadLocalContextUtil.setBusinessDates(businessDates);
+        }
+    }
+
+    private static Charge createChargeDefinition(boolean penalty) {
+        Charge charge = mock(Charge.class);
+        lenient().when(charge.isPenalty()).thenReturn(penalty);
+        return charge;
+    }
+
+    private Loan createLoan() {
+        LoanProductRelatedDetail loanProductRelatedDetail = new LoanProductRelatedDetail(CURRENCY, PRINCIPAL, ANNUAL_NOMINAL_INTEREST_RATE,
+                PeriodFrequencyType.YEARS, ANNUAL_NOMINAL_INTEREST_RATE, InterestMethod.DECLINING_BALANCE,
+                InterestCalculationPeriodMethod.DAILY, false, 1, PeriodFrequencyType.MONTHS, NUMBER_OF_INSTALLMENTS, null, null, null, null,
+                AmortizationMethod.EQUAL_INSTALLMENTS, BigDecimal.ZERO, null, DaysInMonthType.DAYS_30.getValue(),
+                DaysInYearType.DAYS_360.getValue(), true, false, false, null, false, LoanScheduleType.PROGRESSIVE,
+                LoanScheduleProcessingType.HORIZONTAL, null, false, List.of());
+        Loan loan = mock(Loan.class);
+        lenient().when(loan.getId()).thenReturn(1L);
+        lenient().when(loan.getCurrency()).thenReturn(CURRENCY);
+        lenient().when(loan.getLoanProduct()).thenReturn(mock(LoanProduct.class));
+        lenient().when(loan.getLoanRepaymentScheduleDetail()).thenReturn(loanProductRelatedDetail);
+        lenient().when(loan.getLoanProductRelatedDetail()).thenReturn(loanProductRelatedDetail);
+        lenient().when(loan.getDisbursementDate()).thenReturn(DISBURSEMENT_DATE);
+        lenient().when(loan.isInterestBearing()).thenReturn(true);
+        LoanPaymentAllocationRule defaultAllocationRule = new LoanPaymentAllocationRule(loan, PaymentAllocationTransactionType.DEFAULT,
+                Arrays.asList(PaymentAllocationType.values()), FutureInstallmentAllocationRule.NEXT_INSTALLMENT);
+        lenient().when(loan.getPaymentAllocationRules()).thenReturn(List.of(defaultAllocationRule));
+        return loan;
+    }
+
+    private List<LoanScheduleModelRepaymentPeriod> generateRepaymentPeriods() {
+        ProgressiveLoanScheduleGenerator generator = new ProgressiveLoanScheduleGenerator(new DefaultScheduledDateGenerator(),
+                emiCalculator);
+        LoanRepaymentScheduleModelData modelData = new LoanRepaymentScheduleModelData(DISBURSEMENT_DATE, APPLICATION_CURRENCY, PRINCIPAL,
+                DISBURSEMENT_DATE, NUMBER_OF_INSTALLMENTS, 1, PeriodFrequencyType.MONTHS.name(), ANNUAL_NOMINAL_INTEREST_RATE, false,
+                DaysInMonthType.DAYS_30, DaysInYearType.DAYS_360, null, null, null);
+        List<LoanScheduleModelRepaymentPeriod> repaymentPeriods = new ArrayList<>();
+        for (LoanScheduleModelPeriod period : generator.generate(MC, modelData).getPeriods()) {
+            if (period instanceof LoanScheduleModelRepaymentPeriod repaymentPeriod) {
+                repaymentPeriods.add(repaymentPeriod);
+            }
+        }
+        return repaymentPeriods;
+    }
+
+    private static LoanTransaction createTransaction(Loan loan, LoanTransactionType type, LocalDate transactionDate, BigDecimal amount) {
+        return new LoanTransaction(loan, null, type.getValue(), transactionDate, amount, null, null, null, null, null, false, null,
+                ExternalId.empty());
+    }
+
+    private static List<String> describeInstallments(LoanFixture fixture) {
+        return fixture.installments().stream()
+                .map(installment -> describe(installment.getInstallmentNumber(), installment.getDueDate(),
+                        installment.getPrincipal(CURRENCY), installment.getPrincipalCompleted(CURRENCY),
+                        installment.getInterestCharged(CURRENCY), installment.getInterestPaid(CURRENCY),
+                        installment.getFeeChargesCharged(CURRENCY), installment.getFeeChargesPaid(CURRENCY),
+                        installment.getPenaltyChargesCharged(CURRENCY), installment.getPenaltyChargesPaid(CURRENCY),
+                        installment.getTotalOutstanding(CURRENCY), installment.isObligationsMet(), installment.getObligationsMetOnDate()))
+                .toList();
+    }
+
+    private static List<String> describeCharges(LoanFixture fixture) {
+        return fixture.charges().stream().sorted(Comparator.comparing(LoanCharge::getId))
+                .map(charge -> describe(charge.getId(), charge.getAmountPaid(CURRENCY), charge.getAmountOutstanding(CURRENCY),
+                        charge.isPaid(),
+                        charge.installmentCharges().stream().sorted()
+                                .map(installmentCharge -> describe(installmentCharge.getInstallment().getInstallmentNumber(),
+                                        installmentCharge.getAmountPaid(CURRENCY), installmentCharge.isPaid()))
+                                .toList()))
+                .toList();
+    }
+
+    /**
+     * Describes the transactions as they are after the replay: a replayed transaction whose portions changed is replaced
+     * by its new version.
+     */
+    private static List<String> describeTransactions(LoanFixture fixture, ChangedTransactionDetail changedTransactionDetail) {
+        return fixture.transactions().stream().sorted(Comparator.comparing(LoanTransaction::getTransactionDate))
+                .map(transaction -> replayedVersion(transaction, changedTransactionDetail))
+                .map(transaction -> describe(transaction.getTypeOf(), transaction.getTransactionDate(), transaction.getAmount(CURRENCY),
+                        transaction.getPrincipalPortion(CURRENCY), transaction.getInterestPortion(CURRENCY),
+                        transaction.getFeeChargesPortion(CURRENCY), transaction.getPenaltyChargesPortion(CURRENCY),
+                        transaction.getOverPaymentPortion(CURRENCY)))
+                .toList();
+    }
+
+    private static LoanTransaction replayedVersion(LoanTransaction transaction, ChangedTransactionDetail changedTransactionDetail) {
+        LoanTransaction newTransaction = transaction.getId() == null ? null
+                : changedTransactionDetail.getNewTransactionMappings().get(transaction.getId());
+        return newTransaction == null ? transaction : newTransaction;
+    }
+
+    private static String describe(Object... values) {
+        StringBuilder description = new StringBuilder();
+        for (Object value : values) {
+            description.append(value instanceof Money money ? money.getAmount().stripTrailingZeros().toPlainString() : value).append('|');
+        }
+        return description.toString();
+    }
+
+    private record LoanFixture(Loan loan, List<LoanRepaymentScheduleInstallment> installments, List<LoanTransaction> transactions,
+            Set<LoanCharge> charges) {
+    }
+}
@@ -0,0 +1,240 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractReplayCheckpointProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.loanaccount.domain.ChangedTransactionDetail;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionType;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.MoneyHolder;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.ProgressiveLoanInterestScheduleModel;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ProgressiveReplayCheckpointCacheTest {
+
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, 1);
+    private static final LocalDate DISBURSEMENT_DATE = LocalDate.of(2024, 1, 1);
+    private static MockedStatic<MoneyHelper> moneyHelper;
+
+    private ProgressiveReplayCheckpointCache underTest;
+    private Loan loan;
+    private ProgressiveLoanInterestScheduleModel model;
+    private ProgressiveLoanInterestScheduleModel modelCopy;
+
+    @BeforeAll
+    public static void init() {
+        moneyHelper = mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        moneyHelper.when(MoneyHelper::getMathContext).thenReturn(new MathContext(12, RoundingMode.HALF_EVEN));
+    }
+
+    @AfterAll
+    public static void destruct() {
+        moneyHelper.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        FineractReplayCheckpointProperties properties = new FineractReplayCheckpointProperties();
+        properties.setEnabled(true);
+        properties.setInterval(2);
+        properties.setMaxCheckpointsPerLoan(10);
+        properties.setMaxLoans(10);
+        underTest = new ProgressiveReplayCheckpointCache(properties);
+
+        loan = mock(Loan.class);
+        lenient().when(loan.getId()).thenReturn(1L);
+        lenient().when(loan.getCurrency()).thenReturn(CURRENCY);
+        lenient().when(loan.getLoanRepaymentScheduleDetail()).thenReturn(mock(LoanProductRelatedDetail.class));
+        lenient().when(loan.getLoanProduct()).thenReturn(mock(LoanProduct.class));
+        lenient().when(loan.getPaymentAllocationRules()).thenReturn(List.of());
+
+        model = mock(ProgressiveLoanInterestScheduleModel.class);
+        modelCopy = mock(ProgressiveLoanInterestScheduleModel.class);
+        lenient().when(model.deepCopy(any())).thenReturn(modelCopy);
+        lenient().when(modelCopy.deepCopy(any())).thenReturn(modelCopy);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testCheckpointIsRestoredForUnchangedPrefix() {
+        // given
+        List<ChargeOrTransaction> entries = createEntries(new BigDecimal("100"), new BigDecimal("10"), new BigDecimal("10"),
+                new BigDecimal("10"));
+        List<LoanRepaymentScheduleInstallment> installments = createInstallments();
+        installments.get(0).updatePrincipal(new BigDecimal("50"));
+        MoneyHolder overpaymentHolder = new MoneyHolder(Money.of(CURRENCY, new BigDecimal("5")));
+        replayAndCommit(entries, installments, overpaymentHolder, 2);
+
+        // when
+        List<LoanRepaymentScheduleInstallment> freshInstallments = createInstallments();
+        MoneyHolder freshOverpaymentHolder = new MoneyHolder(Money.zero(CURRENCY));
+        List<ChargeOrTransaction> backdatedEntries = new ArrayList<>(entries.subList(0, 2));
+        backdatedEntries.addAll(createEntries(new BigDecimal("100"), new BigDecimal("10"), new BigDecimal("20")).subList(2, 3));
+        ProgressiveReplayCheckpointCache.Checkpoint checkpoint = underTest
+                .startReplay(loan, DISBURSEMENT_DATE, backdatedEntries, freshInstallments).findCheckpoint();
+
+        // then
+        assertNotNull(checkpoint);
+        assertEquals(2, checkpoint.getProcessedCount());
+        assertEquals(modelCopy, checkpoint.restore(freshInstallments, freshOverpaymentHolder));
+        assertEquals(0, new BigDecimal("50").compareTo(freshInstallments.get(0).getPrincipal(CURRENCY).getAmount()));
+        assertEquals(0, new BigDecimal("5").compareTo(freshOverpaymentHolder.getMoneyObject().getAmount()));
+    }
+
+    @Test
+    public void testCheckpointIsNotRestoredWhenPrefixChanged() {
+        // given
+        List<ChargeOrTransaction> entries = createEntries(new BigDecimal("100"), new BigDecimal("10"), new BigDecimal("10"));
+        replayAndCommit(entries, createInstallments(), new MoneyHolder(Money.zero(CURRENCY)), 2);
+
+        // when
+        List<ChargeOrTransaction> changedEntries = createEntries(new BigDecimal("100"), new BigDecimal("15"), new BigDecimal("10"));
+
+        // then
+        assertNull(underTest.startReplay(loan, DISBURSEMENT_DATE, changedEntries, createInstallments()).findCheckpoint());
+    }
+
+    @Test
+    public void testCheckpointIsNotRestoredWhenScheduleChanged() {
+        // given
+        List<ChargeOrTransaction> entries = createEntries(new BigDecimal("100"), new BigDecimal("10"), new BigDecimal("10"));
+        replayAndCommit(entries, createInstallments(), new MoneyHolder(Money.zero(CURRENCY)), 2);
+
+        // when
+        List<LoanRepaymentScheduleInstallment> rescheduledInstallments = createInstallments();
+        rescheduledInstallments.add(new LoanRepaymentScheduleInstallment(loan, 3, DISBURSEMENT_DATE.plusMonths(2),
+                DISBURSEMENT_DATE.plusMonths(3), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, false, null));
+
+        // then
+        assertNull(underTest.startReplay(loan, DISBURSEMENT_DATE, entries, rescheduledInstallments).findCheckpoint());
+    }
+
+    @Test
+    public void testCheckpointIsNotPublishedWithoutCommit() {
+        // given
+        List<ChargeOrTransaction> entries = createEntries(new BigDecimal("100"), new BigDecimal("10"), new BigDecimal("10"));
+        List<LoanRepaymentScheduleInstallment> installments = createInstallments();
+        ProgressiveReplayCheckpointCache.Replay replay = underTest.startReplay(loan, DISBURSEMENT_DATE, entries, installments);
+
+        // when
+        replay.onBoundary(2, createCtx(installments, new MoneyHolder(Money.zero(CURRENCY))), false);
+        replay.publish();
+
+        // then
+        assertEquals(0, underTest.size());
+    }
+
+    @Test
+    public void testNoCheckpointAfterTransactionsWhichCanBeRevisited() {
+        // given
+        List<ChargeOrTransaction> entries = createEntries(new BigDecimal("100"), new BigDecimal("10"), new BigDecimal("10"));
+
+        // when
+        replayAndCommit(entries, createInstallments(), new MoneyHolder(Money.zero(CURRENCY)), 2, true);
+
+        // then
+        assertEquals(0, underTest.size());
+    }
+
+    private void replayAndCommit(List<ChargeOrTransaction> entries, List<LoanRepaymentScheduleInstallment> installments,
+            MoneyHolder overpaymentHolder, int processedCount) {
+        replayAndCommit(entries, installments, overpaymentHolder, processedCount, false);
+    }
+
+    private void replayAndCommit(List<ChargeOrTransaction> entries, List<LoanRepaymentScheduleInstallment> installments,
+            MoneyHolder overpaymentHolder, int processedCount, boolean hasOverpaidTransactions) {
+        TransactionSynchronizationManager.initSynchronization();
+        ProgressiveReplayCheckpointCache.Replay replay = underTest.startReplay(loan, DISBURSEMENT_DATE, entries, installments);
+        assertNull(replay.findCheckpoint());
+        replay.onBoundary(processedCount, createCtx(installments, overpaymentHolder), hasOverpaidTransactions);
+        replay.publish();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private ProgressiveTransactionCtx createCtx(List<LoanRepaymentScheduleInstallment> installments, MoneyHolder overpaymentHolder) {
+        return new ProgressiveTransactionCtx(CURRENCY, installments, null, overpaymentHolder, new ChangedTransactionDetail(), model);
+    }
+
+    private List<LoanRepaymentScheduleInstallment> createInstallments() {
+        List<LoanRepaymentScheduleInstallment> installments = new ArrayList<>();
+        installments.add(new LoanRepaymentScheduleInstallment(loan, 1, DISBURSEMENT_DATE, DISBURSEMENT_DATE.plusMonths(1),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, false, null));
+        installments.add(new LoanRepaymentScheduleInstallment(loan, 2, DISBURSEMENT_DATE.plusMonths(1), DISBURSEMENT_DATE.plusMonths(2),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, false, null));
+        return installments;
+    }
+
+    private List<ChargeOrTransaction> createEntries(BigDecimal... amounts) {
+        List<ChargeOrTransaction> entries = new ArrayList<>();
+        for (int i = 0; i < amounts.length; i++) {
+            LoanTransaction transaction = mock(LoanTransaction.class);
+            lenient().when(transaction.getId()).thenReturn((long) i + 1);
+            lenient().when(transaction.getTypeOf()).thenReturn(i == 0 ? LoanTransactionType.DISBURSEMENT : LoanTransactionType.REPAYMENT);
+            lenient().when(transaction.getTransactionDate()).thenReturn(DISBURSEMENT_DATE.plusDays(i));
+            lenient().when(transaction.getSubmittedOnDate()).thenReturn(DISBURSEMENT_DATE.plusDays(i));
+            lenient().when(transaction.getCreatedDateTime())
+                    .thenReturn(OffsetDateTime.of(DISBURSEMENT_DATE.plusDays(i).atStartOfDay(), ZoneOffset.UTC));
+            lenient().when(transaction.getAmount()).thenReturn(amounts[i]);
+            entries.add(new ChargeOrTransaction(transaction));
+        }
+        return entries;
+    }
+}
@@ -1076,6 +1076,44 @@ class ProgressiveEMICalculatorTest {
         checkPeriod(interestSchedule, 5, 0, 16.89, 0.003950916667, 0.07, 16.82, 0.0);
     }
 
+    @Test
+    public void testGetPayableDetailsDoesNotChangeTheModel() {
+
+        final List<LoanScheduleModelRepaymentPeriod> expectedRepaymentPeriods = new ArrayList<>();
+
+        expectedRepaymentPeriods.add(repayment(1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)));
+        expectedRepaymentPeriods.add(repayment(2, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)));
+        expectedRepaymentPeriods.add(repayment(3, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 1)));
+
+        Mockito.when(loanProductRelatedDetail.getAnnualNominalInterestRate()).thenReturn(new BigDecimal("7"));
+        Mockito.when(loanProductRelatedDetail.getDaysInYearType()).thenReturn(DaysInYearType.DAYS_360.getValue());
+        Mockito.when(loanProductRelatedDetail.getDaysInMonthType()).thenReturn(DaysInMonthType.DAYS_30.getValue());
+        Mockito.when(loanProductRelatedDetail.getRepaymentPeriodFrequencyType()).thenReturn(PeriodFrequencyType.MONTHS);
+        Mockito.when(loanProductRelatedDetail.getRepayEvery()).thenReturn(1);
+        Mockito.when(loanProductRelatedDetail.getCurrency()).thenReturn(monetaryCurrency);
+
+        threadLocalContextUtil.when(ThreadLocalContextUtil::getBusinessDate).thenReturn(LocalDate.of(2024, 2, 15));
+
+        final ProgressiveLoanInterestScheduleModel interestSchedule = emiCalculator.generateInterestScheduleModel(expectedRepaymentPeriods,
+                loanProductRelatedDetail, null, mc);
+        emiCalculator.addDisbursement(interestSchedule, LocalDate.of(2024, 1, 1), toMoney(100.0));
+        final RepaymentPeriod secondPeriod = interestSchedule.repaymentPeriods().get(1);
+        final double dueInterestBefore = toDouble(secondPeriod.getDueInterest().getAmount());
+
+        final PayableDetails payableDetails = emiCalculator.getPayableDetails(interestSchedule, LocalDate.of(2024, 3, 1),
+                LocalDate.of(2024, 2, 15));
+
+        Assertions.assertTrue(payableDetails.getPayableInterest().isLessThan(secondPeriod.getDueInterest()));
+        Assertions.assertEquals(1, secondPeriod.getInterestPeriods().size());
+        Assertions.assertEquals(LocalDate.of(2024, 3, 1), secondPeriod.getInterestPeriods().get(0).getDueDate());
+        Assertions.assertEquals(dueInterestBefore, toDouble(secondPeriod.getDueInterest().getAmount()));
+
+        final RepaymentPeriod copy = interestSchedule.copyRepaymentPeriod(LocalDate.of(2024, 3, 1), mc).orElseThrow();
+        Assertions.assertNotSame(secondPeriod, copy);
+        Assertions.assertNotSame(secondPeriod.getInterestPeriods().get(0), copy.getInterestPeriods().get(0));
+        Assertions.assertSame(interestSchedule.repaymentPeriods().get(0), copy.getPrevious().orElseThrow());
+    }
+
     private static LoanScheduleModelRepaymentPeriod repayment(int periodNumber, LocalDate fromDate, LocalDate dueDate) {
         final Money zeroAmount = Money.zero(monetaryCurrency);
         return LoanScheduleModelRepaymentPeriod.repayment(periodNumber, fromDate, dueDate, zeroAmount, zeroAmount, zeroAmount, zeroAmount,
@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class MemoTest {
+
+    @Test
+    public void testValueWithoutDependenciesIsCalculatedOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        Memo<Integer> memo = Memo.of(calls::incrementAndGet);
+
+        assertEquals(1, memo.get());
+        assertEquals(1, memo.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testValueIsRecalculatedOnlyWhenVersionChanges() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicLong version = new AtomicLong();
+        Memo<Integer> memo = Memo.of(calls::incrementAndGet, version::get);
+
+        assertEquals(1, memo.get());
+        assertEquals(1, memo.get());
+
+        version.incrementAndGet();
+        assertEquals(2, memo.get());
+        assertEquals(2, memo.get());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testConcurrentReadersSeeTheValueOfTheCurrentVersion() throws Exception {
+        AtomicLong version = new AtomicLong(42L);
+        Memo<Long> memo = Memo.of(() -> version.get() * 2, version::get);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Long>> readers = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                readers.add(memo::get);
+            }
+            for (Future<Long> result : executor.invokeAll(readers)) {
+                assertEquals(84L, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -174,6 +174,8 @@ final class JournalEntriesApiResourceSwagger {
         @Schema(example = "2")
         public Long totalFilteredRecords;
         public List<JournalEntryTransactionItem> pageItems;
+        @Schema(example = "aWQ6MTI", description = "Cursor of the next page, only present on full pages of lists ordered by id")
+        public String nextCursor;
     }
 
 }
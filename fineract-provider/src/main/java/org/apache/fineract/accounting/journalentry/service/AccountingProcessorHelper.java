@@ -25,6 +25,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.accounting.closure.domain.GLClosure;
@@ -54,9 +55,8 @@ import org.apache.fineract.accounting.journalentry.domain.JournalEntryRepository
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
 import org.apache.fineract.accounting.journalentry.exception.JournalEntryInvalidException;
 import org.apache.fineract.accounting.journalentry.exception.JournalEntryInvalidException.GlJournalEntryInvalidReason;
-import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMapping;
-import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
 import org.apache.fineract.accounting.producttoaccountmapping.exception.ProductToGLAccountMappingNotFoundException;
+import org.apache.fineract.accounting.producttoaccountmapping.service.ProductToGLAccountMappingCache;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -90,7 +90,7 @@ public class AccountingProcessorHelper {
     public static final String SHARE_TRANSACTION_IDENTIFIER = "SH";
 
     private final JournalEntryRepository glJournalEntryRepository;
-    private final ProductToGLAccountMappingRepository accountMappingRepository;
+    private final ProductToGLAccountMappingCache accountMappingCache;
     private final FinancialActivityAccountRepositoryWrapper financialActivityAccountRepository;
     private final GLClosureRepository closureRepository;
     private final GLAccountRepository glAccountRepository;
@@ -1155,35 +1155,28 @@ public class AccountingProcessorHelper {
                     .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
             glAccount = financialActivityAccount.getGlAccount();
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(loanProductId,
-                    PortfolioProductType.LOAN.getValue(), accountMappingTypeId);
+            Optional<Long> glAccountId = Optional.empty();
 
             /****
              * Get more specific mapping for FUND source accounts (based on payment channels). Note that fund source
              * placeholder ID would be same for both cash and accrual accounts
              ***/
             if (accountMappingTypeId == CashAccountsForLoan.FUND_SOURCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(loanProductId,
-                                PortfolioProductType.LOAN.getValue(), accountMappingTypeId, paymentTypeId);
-                if (paymentChannelSpecificAccountMapping != null) {
-                    accountMapping = paymentChannelSpecificAccountMapping;
-                }
+                glAccountId = this.accountMappingCache.findPaymentTypeSpecificGLAccountId(loanProductId, PortfolioProductType.LOAN,
+                        accountMappingTypeId, paymentTypeId);
             }
-
-            if (accountMapping == null) {
-                throw new ProductToGLAccountMappingNotFoundException(PortfolioProductType.LOAN, loanProductId,
-                        AccrualAccountsForLoan.fromInt(accountMappingTypeId).toString());
-
+            if (glAccountId.isEmpty()) {
+                glAccountId = this.accountMappingCache.findCoreGLAccountId(loanProductId, PortfolioProductType.LOAN, accountMappingTypeId);
             }
-            glAccount = accountMapping.getGlAccount();
+
+            glAccount = getGLAccountById(glAccountId.orElseThrow(() -> new ProductToGLAccountMappingNotFoundException(
+                    PortfolioProductType.LOAN, loanProductId, AccrualAccountsForLoan.fromInt(accountMappingTypeId).toString())));
         }
         return glAccount;
     }
 
     private GLAccount getLinkedGLAccountForLoanCharges(final Long loanProductId, final int accountMappingTypeId, final Long chargeId) {
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(loanProductId,
-                PortfolioProductType.LOAN.getValue(), accountMappingTypeId);
+        Optional<Long> glAccountId = Optional.empty();
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
          * loan product). Note the income from fees and income from penalties placeholder ID would be the same for both
@@ -1193,21 +1186,18 @@ public class AccountingProcessorHelper {
         // Vishwas TODO: remove this condition as it should always be true
         if (accountMappingTypeId == CashAccountsForLoan.INCOME_FROM_FEES.getValue()
                 || accountMappingTypeId == CashAccountsForLoan.INCOME_FROM_PENALTIES.getValue()) {
-            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                    .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(loanProductId, PortfolioProductType.LOAN.getValue(),
-                            accountMappingTypeId, chargeId);
-            if (chargeSpecificIncomeAccountMapping != null) {
-                accountMapping = chargeSpecificIncomeAccountMapping;
-            }
+            glAccountId = this.accountMappingCache.findChargeSpecificGLAccountId(loanProductId, PortfolioProductType.LOAN,
+                    accountMappingTypeId, chargeId);
+        }
+        if (glAccountId.isEmpty()) {
+            glAccountId = this.accountMappingCache.findCoreGLAccountId(loanProductId, PortfolioProductType.LOAN, accountMappingTypeId);
         }
-        return accountMapping.getGlAccount();
+        return getMappedGLAccount(glAccountId, PortfolioProductType.LOAN, loanProductId, accountMappingTypeId);
     }
 
     private GLAccount getLinkedGLAccountForSavingsCharges(final Long savingsProductId, final int accountMappingTypeId,
             final Long chargeId) {
-
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(savingsProductId,
-                PortfolioProductType.SAVING.getValue(), accountMappingTypeId);
+        Optional<Long> glAccountId = Optional.empty();
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
          * loan product). Note the income from fees and income from penalties placeholder ID would be the same for both
@@ -1222,16 +1212,14 @@ public class AccountingProcessorHelper {
             if (glAccount != null) {
                 return glAccount;
             }
-            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                    .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(savingsProductId, PortfolioProductType.SAVING.getValue(),
-                            accountMappingTypeId, chargeId);
-            if (chargeSpecificIncomeAccountMapping != null) {
-
-                accountMapping = chargeSpecificIncomeAccountMapping;
-            }
+            glAccountId = this.accountMappingCache.findChargeSpecificGLAccountId(savingsProductId, PortfolioProductType.SAVING,
+                    accountMappingTypeId, chargeId);
         }
-
-        return accountMapping.getGlAccount();
+        if (glAccountId.isEmpty()) {
+            glAccountId = this.accountMappingCache.findCoreGLAccountId(savingsProductId, PortfolioProductType.SAVING,
+                    accountMappingTypeId);
+        }
+        return getMappedGLAccount(glAccountId, PortfolioProductType.SAVING, savingsProductId, accountMappingTypeId);
     }
 
     private GLAccount getLinkedGLAccountForSavingsProduct(final Long savingsProductId, final int accountMappingTypeId,
@@ -1242,21 +1230,20 @@ public class AccountingProcessorHelper {
                     .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
             glAccount = financialActivityAccount.getGlAccount();
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(savingsProductId,
-                    PortfolioProductType.SAVING.getValue(), accountMappingTypeId);
+            Optional<Long> glAccountId = Optional.empty();
             /****
              * Get more specific mapping for FUND source accounts (based on payment channels). Note that fund source
              * placeholder ID would be same for both cash and accrual accounts
              ***/
             if (accountMappingTypeId == CashAccountsForSavings.SAVINGS_REFERENCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(savingsProductId,
-                                PortfolioProductType.SAVING.getValue(), accountMappingTypeId, paymentTypeId);
-                if (paymentChannelSpecificAccountMapping != null) {
-                    accountMapping = paymentChannelSpecificAccountMapping;
-                }
+                glAccountId = this.accountMappingCache.findPaymentTypeSpecificGLAccountId(savingsProductId, PortfolioProductType.SAVING,
+                        accountMappingTypeId, paymentTypeId);
+            }
+            if (glAccountId.isEmpty()) {
+                glAccountId = this.accountMappingCache.findCoreGLAccountId(savingsProductId, PortfolioProductType.SAVING,
+                        accountMappingTypeId);
             }
-            glAccount = accountMapping.getGlAccount();
+            glAccount = getMappedGLAccount(glAccountId, PortfolioProductType.SAVING, savingsProductId, accountMappingTypeId);
         }
         return glAccount;
     }
@@ -1269,38 +1256,40 @@ public class AccountingProcessorHelper {
                     .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
             glAccount = financialActivityAccount.getGlAccount();
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(shareProductId,
-                    PortfolioProductType.SHARES.getValue(), accountMappingTypeId);
+            Optional<Long> glAccountId = Optional.empty();
 
             if (accountMappingTypeId == CashAccountsForShares.SHARES_REFERENCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(shareProductId,
-                                PortfolioProductType.SHARES.getValue(), accountMappingTypeId, paymentTypeId);
-                if (paymentChannelSpecificAccountMapping != null) {
-                    accountMapping = paymentChannelSpecificAccountMapping;
-                }
+                glAccountId = this.accountMappingCache.findPaymentTypeSpecificGLAccountId(shareProductId, PortfolioProductType.SHARES,
+                        accountMappingTypeId, paymentTypeId);
             }
-            glAccount = accountMapping.getGlAccount();
+            if (glAccountId.isEmpty()) {
+                glAccountId = this.accountMappingCache.findCoreGLAccountId(shareProductId, PortfolioProductType.SHARES,
+                        accountMappingTypeId);
+            }
+            glAccount = getMappedGLAccount(glAccountId, PortfolioProductType.SHARES, shareProductId, accountMappingTypeId);
         }
         return glAccount;
     }
 
     private GLAccount getLinkedGLAccountForShareCharges(final Long shareProductId, final int accountMappingTypeId, final Long chargeId) {
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(shareProductId,
-                PortfolioProductType.SHARES.getValue(), accountMappingTypeId);
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
          * loan product). Note the income from fees and income from penalties placeholder ID would be the same for both
          * cash and accrual based accounts
          *****/
-
-        final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(shareProductId, PortfolioProductType.SHARES.getValue(),
-                        accountMappingTypeId, chargeId);
-        if (chargeSpecificIncomeAccountMapping != null) {
-            accountMapping = chargeSpecificIncomeAccountMapping;
+        Optional<Long> glAccountId = this.accountMappingCache.findChargeSpecificGLAccountId(shareProductId, PortfolioProductType.SHARES,
+                accountMappingTypeId, chargeId);
+        if (glAccountId.isEmpty()) {
+            glAccountId = this.accountMappingCache.findCoreGLAccountId(shareProductId, PortfolioProductType.SHARES,
+                    accountMappingTypeId);
         }
-        return accountMapping.getGlAccount();
+        return getMappedGLAccount(glAccountId, PortfolioProductType.SHARES, shareProductId, accountMappingTypeId);
+    }
+
+    private GLAccount getMappedGLAccount(final Optional<Long> glAccountId, final PortfolioProductType productType, final Long productId,
+            final int accountMappingTypeId) {
+        return getGLAccountById(glAccountId.orElseThrow(
+                () -> new ProductToGLAccountMappingNotFoundException(productType, productId, String.valueOf(accountMappingTypeId))));
     }
 
     private boolean isOrganizationAccount(final int accountMappingTypeId) {
@@ -1377,13 +1366,20 @@ public class AccountingProcessorHelper {
         return incomeAccount;
     }
 
+    /**
+     * Registers the journal entry in the persistence context without flushing it. The entries of a posting are written
+     * together by {@link #flushJournalEntries()} (or by the commit).
+     */
     public JournalEntry persistJournalEntry(JournalEntry journalEntry) {
         boolean isNew = journalEntry.isNew();
-        JournalEntry savedJournalEntry = this.glJournalEntryRepository.saveAndFlush(journalEntry);
+        JournalEntry savedJournalEntry = this.glJournalEntryRepository.save(journalEntry);
         if (isNew && journalEntry.getLoanTransactionId() != null) {
             businessEventNotifierService.notifyPostBusinessEvent(new LoanJournalEntryCreatedBusinessEvent(savedJournalEntry));
         }
         return savedJournalEntry;
     }
 
+    public void flushJournalEntries() {
+        this.glJournalEntryRepository.flush();
+    }
 }
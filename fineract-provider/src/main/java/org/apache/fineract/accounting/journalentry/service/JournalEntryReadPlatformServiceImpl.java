@@ -239,7 +239,7 @@ public class JournalEntryReadPlatformServiceImpl implements JournalEntryReadPlat
 
         GLJournalEntryMapper rm = new GLJournalEntryMapper(associationParametersData);
         final StringBuilder sqlBuilder = new StringBuilder(200);
-        sqlBuilder.append("select ").append(sqlGenerator.calcFoundRows()).append(" ");
+        sqlBuilder.append("select ").append(paginationHelper.calcFoundRows(searchParameters)).append(" ");
         sqlBuilder.append(rm.schema());
 
         final Object[] objectArray = new Object[15];
@@ -352,9 +352,16 @@ public class JournalEntryReadPlatformServiceImpl implements JournalEntryReadPlat
                     " journalEntry.savings_transaction_id in (select id from m_savings_account_transaction where savings_account_id = ?)");
             objectArray[arrayPos] = searchParameters.getSavingsId();
             arrayPos = arrayPos + 1;
+
+            whereClose = " and ";
         }
 
-        if (searchParameters.hasOrderBy()) {
+        if (searchParameters.hasAfter()) {
+            sqlBuilder.append(whereClose).append(searchParameters.isDescending() ? " journalEntry.id < ?" : " journalEntry.id > ?");
+            objectArray[arrayPos] = searchParameters.getAfterId();
+            arrayPos = arrayPos + 1;
+            sqlBuilder.append(" order by journalEntry.id ").append(searchParameters.isDescending() ? "desc" : "asc");
+        } else if (searchParameters.hasOrderBy()) {
             sqlBuilder.append(" order by ").append(searchParameters.getOrderBy());
             this.columnValidator.validateSqlInjection(sqlBuilder.toString(), searchParameters.getOrderBy());
 
@@ -368,7 +375,7 @@ public class JournalEntryReadPlatformServiceImpl implements JournalEntryReadPlat
 
         if (searchParameters.hasLimit()) {
             sqlBuilder.append(" ");
-            if (searchParameters.hasOffset()) {
+            if (searchParameters.hasOffset() && !searchParameters.hasAfter()) {
                 sqlBuilder.append(sqlGenerator.limit(searchParameters.getLimit(), searchParameters.getOffset()));
             } else {
                 sqlBuilder.append(sqlGenerator.limit(searchParameters.getLimit()));
@@ -376,7 +383,8 @@ public class JournalEntryReadPlatformServiceImpl implements JournalEntryReadPlat
         }
 
         final Object[] finalObjectArray = Arrays.copyOf(objectArray, arrayPos);
-        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), finalObjectArray, rm);
+        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), finalObjectArray, rm, searchParameters,
+                JournalEntryData::getId);
     }
 
     @Override
@@ -22,33 +22,47 @@ import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.accounting.common.AccountingEnumerations;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
 import org.apache.fineract.accounting.journalentry.api.JournalEntryJsonInputParams;
-import org.apache.fineract.accounting.journalentry.data.JournalEntryData;
 import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
-import org.apache.fineract.infrastructure.core.data.EnumOptionData;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+/**
+ * Calculates the organization and office running balances of GL journal entries.
+ * <p>
+ * Running balances of different GL accounts do not depend on each other, so every account is processed as its own
+ * partition: the balances are seeded from the last entry dated before the account's first uncalculated entry and the
+ * remaining entries are streamed with keyset pagination on (entry_date, id). Accounts of the organization wide update
+ * are processed in parallel.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -67,16 +81,21 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
 
     private final PlatformSecurityContext platformSecurityContext;
 
+    private final FineractProperties fineractProperties;
+
+    @Qualifier(TaskExecutorConstant.CONFIGURABLE_TASK_EXECUTOR_BEAN_NAME)
+    private final ThreadPoolTaskExecutor taskExecutor;
+
     @Override
     public void updateRunningBalance() {
-        String dateFinder = "select MIN(je.entry_date) as entityDate from acc_gl_journal_entry  je "
-                + "where je.is_running_balance_calculated=false ";
-        try {
-            LocalDate entityDate = this.jdbcTemplate.queryForObject(dateFinder, LocalDate.class);
-            updateOrganizationRunningBalance(entityDate);
-        } catch (EmptyResultDataAccessException e) {
+        final String accountFinder = "select je.account_id as accountId, MIN(je.entry_date) as entityDate from acc_gl_journal_entry je "
+                + "where je.is_running_balance_calculated=false group by je.account_id";
+        final List<AccountPartition> partitions = this.jdbcTemplate.query(accountFinder, AccountPartition.MAPPER);
+        if (partitions.isEmpty()) {
             log.debug("No results found for updation of running balance ");
+            return;
         }
+        updateOrganizationRunningBalance(partitions);
     }
 
     @Override
@@ -90,140 +109,150 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
             updateRunningBalance();
         } else {
             this.officeRepositoryWrapper.findOneWithNotFoundDetection(officeId);
-            String dateFinder = "select MIN(je.entry_date) as entityDate " + "from acc_gl_journal_entry  je "
-                    + "where je.is_running_balance_calculated=false  and je.office_id=?";
-            try {
-                LocalDate entityDate = this.jdbcTemplate.queryForObject(dateFinder, LocalDate.class, officeId);
-                updateRunningBalance(officeId, entityDate);
-            } catch (EmptyResultDataAccessException e) {
+            final String accountFinder = "select je.account_id as accountId, MIN(je.entry_date) as entityDate "
+                    + "from acc_gl_journal_entry je where je.is_running_balance_calculated=false and je.office_id=? group by je.account_id";
+            final List<AccountPartition> partitions = this.jdbcTemplate.query(accountFinder, AccountPartition.MAPPER, officeId);
+            if (partitions.isEmpty()) {
                 log.debug("No results found for updation of office running balance with office id: {}", officeId);
             }
+            final Long userId = platformSecurityContext.authenticatedUser().getId();
+            for (AccountPartition partition : partitions) {
+                updateOfficeRunningBalance(officeId, partition, userId);
+            }
             commandProcessingResultBuilder.withOfficeId(officeId);
         }
         return commandProcessingResultBuilder.build();
     }
 
-    private void updateOrganizationRunningBalance(LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
-        Map<Long, Map<Long, BigDecimal>> officesRunningBalance = new HashMap<>();
-
-        final String organizationRunningBalanceQuery = "select je.organization_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
-
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(organizationRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-
-        for (Map<String, Object> entries : list) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString()); // Drizzle
-                                                                                  // is
-                                                                                  // returning
-                                                                                  // Big
-                                                                                  // Integer
-                                                                                  // where
-                                                                                  // as
-                                                                                  // MySQL
-                                                                                  // returns
-                                                                                  // Long.
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
-            }
+    private void updateOrganizationRunningBalance(List<AccountPartition> partitions) {
+        final Long userId = platformSecurityContext.authenticatedUser().getId();
+        final int threadPoolSize = fineractProperties.getAccounting().getRunningBalance().getThreadPoolSize();
+        if (partitions.size() == 1 || threadPoolSize <= 1) {
+            partitions.forEach(partition -> updateOrganizationRunningBalance(partition, userId));
+            return;
         }
-
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId,je.office_id as officeId "
-                + "from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by office_id,account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by office_id,account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
-
-        List<Map<String, Object>> officesRunningBalanceList = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-        for (Map<String, Object> entries : officesRunningBalanceList) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString());
-            Long officeId = Long.parseLong(entries.get("officeId").toString());
-            Map<Long, BigDecimal> runningBalance;
-            if (officesRunningBalance.containsKey(officeId)) {
-                runningBalance = officesRunningBalance.get(officeId);
-            } else {
-                runningBalance = new HashMap<>();
-                officesRunningBalance.put(officeId, runningBalance);
-            }
-            if (!runningBalance.containsKey(accountId)) {
-                runningBalance.put(accountId, (BigDecimal) entries.get("runningBalance"));
-            }
+        taskExecutor.setCorePoolSize(threadPoolSize);
+        taskExecutor.setMaxPoolSize(threadPoolSize);
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final List<Future<?>> responses = new ArrayList<>(partitions.size());
+        for (AccountPartition partition : partitions) {
+            responses.add(taskExecutor.submit(() -> {
+                ThreadLocalContextUtil.init(context);
+                try {
+                    updateOrganizationRunningBalance(partition, userId);
+                } finally {
+                    ThreadLocalContextUtil.reset();
+                }
+            }));
         }
+        checkCompletion(responses);
+    }
 
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.organizationRunningBalanceSchema(), entryMapper, entityDate);
-        if (entryDataList.size() > 0) {
-            // run a batch update of 1000 SQL statements at a time
-            final int batchUpdateSize = 1000;
-            List<Object[]> params = new ArrayList<>();
-            int batchIndex = 0;
-            String sql = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
-                    + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
-            for (int index = 0; index < entryDataList.size(); index++) {
-                JournalEntryData entryData = entryDataList.get(index);
-                Map<Long, BigDecimal> officeRunningBalanceMap;
-                if (officesRunningBalance.containsKey(entryData.getOfficeId())) {
-                    officeRunningBalanceMap = officesRunningBalance.get(entryData.getOfficeId());
-                } else {
-                    officeRunningBalanceMap = new HashMap<>();
-                    officesRunningBalance.put(entryData.getOfficeId(), officeRunningBalanceMap);
-                }
-                BigDecimal officeRunningBalance = calculateRunningBalance(entryData, officeRunningBalanceMap);
-                BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
-
-                params.add(new Object[] { Boolean.TRUE, runningBalance, officeRunningBalance,
-                        platformSecurityContext.authenticatedUser().getId(), DateUtils.getAuditOffsetDateTime(), entryData.getId() });
-                batchIndex++;
-                if (batchIndex == batchUpdateSize || index == entryDataList.size() - 1) {
-                    this.jdbcTemplate.batchUpdate(sql, params);
-                    // reset counter and string array
-                    batchIndex = 0;
-                    params.clear();
+    private void updateOrganizationRunningBalance(AccountPartition partition, Long userId) {
+        final Long accountId = partition.getAccountId();
+        final LocalDate entityDate = partition.getEntityDate();
+        BigDecimal organizationRunningBalance = seedRunningBalance(
+                "select je.organization_running_balance from acc_gl_journal_entry je where je.account_id=? and je.entry_date < ? "
+                        + "order by je.entry_date DESC, je.id DESC " + sqlGenerator.limit(1),
+                accountId, entityDate);
+        final Map<Long, BigDecimal> officesRunningBalance = new HashMap<>();
+
+        final String sql = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
+                + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
+        final int pageSize = fineractProperties.getAccounting().getRunningBalance().getPageSize();
+        LocalDate lastEntryDate = entityDate;
+        Long lastId = 0L;
+        List<RunningBalanceEntry> entries;
+        do {
+            entries = jdbcTemplate.query(entryMapper.organizationRunningBalanceSchema() + sqlGenerator.limit(pageSize), entryMapper,
+                    accountId, lastEntryDate, lastEntryDate, lastId);
+            final OffsetDateTime modifiedOn = DateUtils.getAuditOffsetDateTime();
+            final List<Object[]> params = new ArrayList<>(entries.size());
+            for (RunningBalanceEntry entry : entries) {
+                BigDecimal officeRunningBalance = officesRunningBalance.get(entry.getOfficeId());
+                if (officeRunningBalance == null) {
+                    officeRunningBalance = seedOfficeRunningBalance(entry.getOfficeId(), accountId, entityDate);
                 }
+                officeRunningBalance = calculateRunningBalance(entry, officeRunningBalance);
+                officesRunningBalance.put(entry.getOfficeId(), officeRunningBalance);
+                organizationRunningBalance = calculateRunningBalance(entry, organizationRunningBalance);
+
+                params.add(new Object[] { Boolean.TRUE, organizationRunningBalance, officeRunningBalance, userId, modifiedOn,
+                        entry.getId() });
             }
-        }
+            if (!entries.isEmpty()) {
+                this.jdbcTemplate.batchUpdate(sql, params);
+                final RunningBalanceEntry last = entries.get(entries.size() - 1);
+                lastEntryDate = last.getEntryDate();
+                lastId = last.getId();
+            }
+        } while (entries.size() == pageSize);
+    }
 
+    private void updateOfficeRunningBalance(Long officeId, AccountPartition partition, Long userId) {
+        final Long accountId = partition.getAccountId();
+        final LocalDate entityDate = partition.getEntityDate();
+        BigDecimal runningBalance = seedOfficeRunningBalance(officeId, accountId, entityDate);
+
+        final String sql = "UPDATE acc_gl_journal_entry SET office_running_balance=?, last_modified_by=?, last_modified_on_utc=? "
+                + "WHERE id=?";
+        final int pageSize = fineractProperties.getAccounting().getRunningBalance().getPageSize();
+        LocalDate lastEntryDate = entityDate;
+        Long lastId = 0L;
+        List<RunningBalanceEntry> entries;
+        do {
+            entries = jdbcTemplate.query(entryMapper.officeRunningBalanceSchema() + sqlGenerator.limit(pageSize), entryMapper, officeId,
+                    accountId, lastEntryDate, lastEntryDate, lastId);
+            final OffsetDateTime modifiedOn = DateUtils.getAuditOffsetDateTime();
+            final List<Object[]> params = new ArrayList<>(entries.size());
+            for (RunningBalanceEntry entry : entries) {
+                runningBalance = calculateRunningBalance(entry, runningBalance);
+                params.add(new Object[] { runningBalance, userId, modifiedOn, entry.getId() });
+            }
+            if (!entries.isEmpty()) {
+                this.jdbcTemplate.batchUpdate(sql, params);
+                final RunningBalanceEntry last = entries.get(entries.size() - 1);
+                lastEntryDate = last.getEntryDate();
+                lastId = last.getId();
+            }
+        } while (entries.size() == pageSize);
     }
 
-    private void updateRunningBalance(Long officeId, LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
+    private BigDecimal seedOfficeRunningBalance(Long officeId, Long accountId, LocalDate entityDate) {
+        return seedRunningBalance("select je.office_running_balance from acc_gl_journal_entry je "
+                + "where je.office_id=? and je.account_id=? and je.entry_date < ? order by je.entry_date DESC, je.id DESC "
+                + sqlGenerator.limit(1), officeId, accountId, entityDate);
+    }
 
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where office_id=?  and entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where office_id=? and entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
+    private BigDecimal seedRunningBalance(String sql, Object... params) {
+        final List<BigDecimal> balances = jdbcTemplate.queryForList(sql, BigDecimal.class, params); // NOSONAR
+        return balances.isEmpty() || balances.get(0) == null ? BigDecimal.ZERO : balances.get(0);
+    }
 
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                officeId, entityDate, officeId, entityDate);
-        for (Map<String, Object> entries : list) {
-            Long accountId = (Long) entries.get("accountId");
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
+    private void checkCompletion(List<Future<?>> responses) {
+        RuntimeException failure = null;
+        for (Future<?> response : responses) {
+            try {
+                response.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while updating running balances", e);
+            } catch (ExecutionException e) {
+                log.error("Execution exception while updating running balances", e.getCause());
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException ? runtimeException
+                            : new IllegalStateException(e.getCause());
+                }
             }
         }
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.officeRunningBalanceSchema(), entryMapper, officeId,
-                entityDate);
-        List<Object[]> params = new ArrayList<>();
-
-        String sql = "UPDATE acc_gl_journal_entry SET office_running_balance=?, last_modified_by=?, last_modified_on_utc=? WHERE id=?";
-        for (JournalEntryData entryData : entryDataList) {
-            BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
-            params.add(new Object[] { runningBalance, platformSecurityContext.authenticatedUser().getId(),
-                    DateUtils.getAuditOffsetDateTime(), entryData.getId() });
+        if (failure != null) {
+            throw failure;
         }
-        this.jdbcTemplate.batchUpdate(sql, params);
     }
 
-    private BigDecimal calculateRunningBalance(JournalEntryData entry, Map<Long, BigDecimal> runningBalanceMap) {
-        BigDecimal runningBalance = BigDecimal.ZERO;
-        if (runningBalanceMap.containsKey(entry.getGlAccountId())) {
-            runningBalance = runningBalanceMap.get(entry.getGlAccountId());
-        }
-        GLAccountType accountType = GLAccountType.fromInt(entry.getGlAccountType().getId().intValue());
-        JournalEntryType entryType = JournalEntryType.fromInt(entry.getEntryType().getId().intValue());
+    private BigDecimal calculateRunningBalance(RunningBalanceEntry entry, BigDecimal runningBalance) {
+        GLAccountType accountType = GLAccountType.fromInt(entry.getAccountType());
+        JournalEntryType entryType = JournalEntryType.fromInt(entry.getEntryType());
         boolean isIncrease = false;
         switch (accountType) {
             case ASSET:
@@ -241,44 +270,54 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
             break;
         }
         if (isIncrease) {
-            runningBalance = runningBalance.add(entry.getAmount());
-        } else {
-            runningBalance = runningBalance.subtract(entry.getAmount());
+            return runningBalance.add(entry.getAmount());
         }
-        runningBalanceMap.put(entry.getGlAccountId(), runningBalance);
-        return runningBalance;
+        return runningBalance.subtract(entry.getAmount());
     }
 
-    private static final class GLJournalEntryMapper implements RowMapper<JournalEntryData> {
+    @Getter
+    @RequiredArgsConstructor
+    private static final class AccountPartition {
+
+        private static final RowMapper<AccountPartition> MAPPER = (rs, rowNum) -> new AccountPartition(rs.getLong("accountId"),
+                JdbcSupport.getLocalDate(rs, "entityDate"));
+
+        private final Long accountId;
+        private final LocalDate entityDate;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class RunningBalanceEntry {
+
+        private final Long id;
+        private final Long officeId;
+        private final LocalDate entryDate;
+        private final int accountType;
+        private final int entryType;
+        private final BigDecimal amount;
+    }
+
+    private static final class GLJournalEntryMapper implements RowMapper<RunningBalanceEntry> {
+
+        private static final String SCHEMA = "select je.id as id, je.office_id as officeId, je.entry_date as entryDate, "
+                + "je.type_enum as entryType, je.amount as amount, glAccount.classification_enum as classification "
+                + "from acc_gl_journal_entry je join acc_gl_account glAccount on je.account_id = glAccount.id ";
+
+        private static final String KEYSET = "and (je.entry_date > ? or (je.entry_date = ? and je.id > ?)) order by je.entry_date, je.id ";
 
         public String officeRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId,je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.office_id=? and je.entry_date >= ? order by je.entry_date,je.id";
+            return SCHEMA + "where je.office_id=? and je.account_id=? " + KEYSET;
         }
 
         public String organizationRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId," + "je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId  "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.entry_date >= ? order by je.entry_date,je.id";
+            return SCHEMA + "where je.account_id=? " + KEYSET;
         }
 
         @Override
-        public JournalEntryData mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
-
-            final Long id = rs.getLong("id");
-            final Long glAccountId = rs.getLong("glAccountId");
-            final Long officeId = rs.getLong("officeId");
-            final int accountTypeId = JdbcSupport.getInteger(rs, "classification");
-            final EnumOptionData accountType = AccountingEnumerations.gLAccountType(accountTypeId);
-            final BigDecimal amount = rs.getBigDecimal("amount");
-            final int entryTypeId = JdbcSupport.getInteger(rs, "entryType");
-            final EnumOptionData entryType = AccountingEnumerations.journalEntryType(entryTypeId);
-
-            return new JournalEntryData(id, officeId, null, null, glAccountId, null, accountType, null, entryType, amount, null, null, null,
-                    null, null, null, null, null, null, null, null, null, null, null, null);
+        public RunningBalanceEntry mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+            return new RunningBalanceEntry(rs.getLong("id"), rs.getLong("officeId"), JdbcSupport.getLocalDate(rs, "entryDate"),
+                    rs.getInt("classification"), rs.getInt("entryType"), rs.getBigDecimal("amount"));
         }
     }
 
@@ -33,7 +33,7 @@ import org.apache.fineract.accounting.journalentry.service.JournalEntryReadPlatf
 import org.apache.fineract.accounting.journalentry.service.JournalEntryReadPlatformServiceImpl;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformServiceJpaRepositoryImpl;
-import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
+import org.apache.fineract.accounting.producttoaccountmapping.service.ProductToGLAccountMappingCache;
 import org.apache.fineract.accounting.rule.domain.AccountingRuleRepository;
 import org.apache.fineract.infrastructure.core.service.PaginationHelper;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
@@ -61,14 +61,14 @@ public class AccountingJournalEntryConfiguration {
     @Bean
     @ConditionalOnMissingBean(AccountingProcessorHelper.class)
     public AccountingProcessorHelper accountingProcessorHelper(JournalEntryRepository glJournalEntryRepository,
-            ProductToGLAccountMappingRepository accountMappingRepository,
+            ProductToGLAccountMappingCache accountMappingCache,
             FinancialActivityAccountRepositoryWrapper financialActivityAccountRepository, GLClosureRepository closureRepository,
             GLAccountRepository glAccountRepository, OfficeRepository officeRepository, LoanTransactionRepository loanTransactionRepository,
             ClientTransactionRepository clientTransactionRepository,
             SavingsAccountTransactionRepository savingsAccountTransactionRepository,
             AccountTransfersReadPlatformService accountTransfersReadPlatformService, ChargeRepositoryWrapper chargeRepositoryWrapper,
             BusinessEventNotifierService businessEventNotifierService) {
-        return new AccountingProcessorHelper(glJournalEntryRepository, accountMappingRepository, financialActivityAccountRepository,
+        return new AccountingProcessorHelper(glJournalEntryRepository, accountMappingCache, financialActivityAccountRepository,
                 closureRepository, glAccountRepository, officeRepository, loanTransactionRepository, clientTransactionRepository,
                 savingsAccountTransactionRepository, accountTransfersReadPlatformService, chargeRepositoryWrapper,
                 businessEventNotifierService);
@@ -21,6 +21,7 @@ package org.apache.fineract.cob;
 import java.util.Set;
 import java.util.TreeMap;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.cob.service.BusinessStepStatistics;
 import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
 import org.jetbrains.annotations.NotNull;
 
@@ -28,6 +29,9 @@ public interface COBBusinessStepService {
 
     <T extends COBBusinessStep<S>, S extends AbstractPersistableCustom<Long>> S run(TreeMap<Long, String> executionMap, S item);
 
+    <T extends COBBusinessStep<S>, S extends AbstractPersistableCustom<Long>> S run(TreeMap<Long, String> executionMap, S item,
+            BusinessStepStatistics statistics);
+
     @NotNull
     <T extends COBBusinessStep<S>, S extends AbstractPersistableCustom<Long>> Set<BusinessStepNameAndOrder> getCOBBusinessSteps(
             Class<T> businessStepClass, String cobJobName);
@@ -18,22 +18,30 @@
  */
 package org.apache.fineract.cob;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
 import org.apache.fineract.cob.domain.BatchBusinessStep;
 import org.apache.fineract.cob.domain.BatchBusinessStepRepository;
 import org.apache.fineract.cob.exceptions.BusinessStepException;
+import org.apache.fineract.cob.service.BusinessStepStatistics;
 import org.apache.fineract.cob.service.ReloaderService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.jetbrains.annotations.NotNull;
@@ -46,6 +54,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class COBBusinessStepServiceImpl implements COBBusinessStepService {
 
+    public static final String BUSINESS_STEP_RELOAD_METRIC = "fineract.cob.business.step.reload";
+    public static final String BUSINESS_STEP_DURATION_METRIC = "fineract.cob.business.step.duration";
+
     private final BatchBusinessStepRepository batchBusinessStepRepository;
     private final ApplicationContext applicationContext;
     private final ListableBeanFactory beanFactory;
@@ -53,10 +64,20 @@ public class COBBusinessStepServiceImpl implements COBBusinessStepService {
     private final ConfigurationDomainService configurationDomainService;
 
     private final ReloaderService reloaderService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> reloadCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> durationTimers = new ConcurrentHashMap<>();
 
-    @SuppressWarnings({ "unchecked" })
     @Override
     public <T extends COBBusinessStep<S>, S extends AbstractPersistableCustom<Long>> S run(TreeMap<Long, String> executionMap, S item) {
+        return run(executionMap, item, null);
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    @Override
+    public <T extends COBBusinessStep<S>, S extends AbstractPersistableCustom<Long>> S run(TreeMap<Long, String> executionMap, S item,
+            BusinessStepStatistics statistics) {
         if (executionMap == null || executionMap.isEmpty()) {
             throw new BusinessStepException("Execution map is empty! COB Business step execution skipped!");
         }
@@ -67,12 +88,26 @@ public class COBBusinessStepServiceImpl implements COBBusinessStepService {
                 businessEventNotifierService.startExternalEventRecording();
             }
 
+            // the item is always reloaded before the first business step, afterwards only if the previous step
+            // declared that it might have changed it
+            boolean reloadRequired = true;
             for (String businessStep : executionMap.values()) {
                 try {
                     ThreadLocalContextUtil.setActionContext(ActionContext.COB);
                     COBBusinessStep<S> businessStepBean = (COBBusinessStep<S>) applicationContext.getBean(businessStep);
-                    item = reloaderService.reload(item);
-                    item = businessStepBean.execute(item);
+                    if (reloadRequired) {
+                        item = reloaderService.reload(item);
+                    }
+                    getReloadCounter(businessStep, reloadRequired).increment();
+                    long start = System.nanoTime();
+                    S result = businessStepBean.execute(item);
+                    long duration = System.nanoTime() - start;
+                    getDurationTimer(businessStep).record(duration, TimeUnit.NANOSECONDS);
+                    if (statistics != null) {
+                        statistics.record(businessStep, duration);
+                    }
+                    reloadRequired = result != item || businessStepBean.isReloadRequired();
+                    item = result;
                 } catch (Exception e) {
                     throw new BusinessStepException("Error happened during business step execution", e);
                 } finally {
@@ -92,6 +127,21 @@ public class COBBusinessStepServiceImpl implements COBBusinessStepService {
         return item;
     }
 
+    private Counter getReloadCounter(String businessStep, boolean reloaded) {
+        return reloadCounters.computeIfAbsent(businessStep + "_" + reloaded,
+                key -> Counter.builder(BUSINESS_STEP_RELOAD_METRIC)
+                        .description("Number of COB business step executions with and without reloading the item beforehand")
+                        .tag("step", businessStep).tag("reloaded", String.valueOf(reloaded)).register(meterRegistry));
+    }
+
+    private Timer getDurationTimer(String businessStep) {
+        FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+        String tenantIdentifier = tenant == null ? "unknown" : tenant.getTenantIdentifier();
+        return durationTimers.computeIfAbsent(tenantIdentifier + "_" + businessStep,
+                key -> Timer.builder(BUSINESS_STEP_DURATION_METRIC).description("Execution time of the COB business steps")
+                        .tag("step", businessStep).tag("tenant", tenantIdentifier).publishPercentileHistogram().register(meterRegistry));
+    }
+
     @NotNull
     @Override
     public <T extends COBBusinessStep<S>, S extends AbstractPersistableCustom<Long>> Set<BusinessStepNameAndOrder> getCOBBusinessSteps(
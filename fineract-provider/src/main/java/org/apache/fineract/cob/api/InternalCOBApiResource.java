@@ -32,9 +32,15 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.UriInfo;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.data.BusinessStepExecutionSummary;
+import org.apache.fineract.cob.data.COBBusinessStepStatisticsData;
 import org.apache.fineract.cob.data.LoanCOBPartition;
 import org.apache.fineract.cob.loan.LoanCOBConstant;
 import org.apache.fineract.cob.loan.RetrieveLoanIdService;
@@ -44,8 +50,12 @@ import org.apache.fineract.infrastructure.core.boot.FineractProfiles;
 import org.apache.fineract.infrastructure.core.serialization.ApiRequestJsonSerializationSettings;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.exception.JobNotFoundException;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -63,6 +73,8 @@ public class InternalCOBApiResource implements InitializingBean {
     private final ApiRequestParameterHelper apiRequestParameterHelper;
     private final ToApiJsonSerializer<List> toApiJsonSerializerForList;
     private final LoanRepositoryWrapper loanRepositoryWrapper;
+    private final JobExplorer jobExplorer;
+    private final ToApiJsonSerializer<COBBusinessStepStatisticsData> toApiJsonSerializerForBusinessStepStatistics;
 
     protected DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(DATETIME_PATTERN);
 
@@ -103,4 +115,29 @@ public class InternalCOBApiResource implements InitializingBean {
         loanRepositoryWrapper.save(loan);
     }
 
+    @GET
+    @Consumes({ MediaType.APPLICATION_JSON })
+    @Produces({ MediaType.APPLICATION_JSON })
+    @Path("business-step-statistics/{jobExecutionId}")
+    @SuppressWarnings({ "unchecked" })
+    public String getBusinessStepStatistics(@Context final UriInfo uriInfo, @PathParam("jobExecutionId") long jobExecutionId) {
+        JobExecution jobExecution = jobExplorer.getJobExecution(jobExecutionId);
+        if (jobExecution == null) {
+            throw new JobNotFoundException(String.valueOf(jobExecutionId));
+        }
+        Map<String, BusinessStepExecutionSummary> businessSteps = new LinkedHashMap<>();
+        Map<String, List<BusinessStepExecutionSummary>> partitions = new TreeMap<>();
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            List<BusinessStepExecutionSummary> summaries = (List<BusinessStepExecutionSummary>) stepExecution.getExecutionContext()
+                    .get(LoanCOBConstant.BUSINESS_STEP_STATISTICS);
+            if (summaries != null) {
+                partitions.put(stepExecution.getStepName(), summaries);
+                summaries.forEach(summary -> businessSteps.merge(summary.getStepName(), summary, BusinessStepExecutionSummary::merge));
+            }
+        }
+        COBBusinessStepStatisticsData statistics = new COBBusinessStepStatisticsData(jobExecutionId,
+                new ArrayList<>(businessSteps.values()), partitions);
+        final ApiRequestJsonSerializationSettings settings = this.apiRequestParameterHelper.process(uriInfo.getQueryParameters());
+        return toApiJsonSerializerForBusinessStepStatistics.serialize(settings, statistics);
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.fineract.cob.loan;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -31,6 +32,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.cob.service.BusinessStepStatistics;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.ExitStatus;
@@ -48,6 +50,7 @@ public abstract class AbstractLoanItemProcessor implements ItemProcessor<Loan, L
     @Setter(AccessLevel.PROTECTED)
     private ExecutionContext executionContext;
     private LocalDate businessDate;
+    private final BusinessStepStatistics businessStepStatistics = new BusinessStepStatistics();
 
     @SuppressWarnings({ "unchecked" })
     @Override
@@ -58,7 +61,7 @@ public abstract class AbstractLoanItemProcessor implements ItemProcessor<Loan, L
         }
         TreeMap<Long, String> businessStepMap = getBusinessStepMap(businessSteps);
 
-        Loan alreadyProcessedLoan = cobBusinessStepService.run(businessStepMap, item);
+        Loan alreadyProcessedLoan = cobBusinessStepService.run(businessStepMap, item, businessStepStatistics);
         alreadyProcessedLoan.setLastClosedBusinessDate(businessDate);
         return alreadyProcessedLoan;
     }
@@ -71,6 +74,9 @@ public abstract class AbstractLoanItemProcessor implements ItemProcessor<Loan, L
 
     @AfterStep
     public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        // persisted together with the step execution, see InternalCOBApiResource
+        stepExecution.getExecutionContext().put(LoanCOBConstant.BUSINESS_STEP_STATISTICS,
+                new ArrayList<>(businessStepStatistics.getSummaries()));
         return ExitStatus.COMPLETED;
     }
 
@@ -18,9 +18,19 @@
  */
 package org.apache.fineract.cob.loan;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.exceptions.LoanReadException;
@@ -30,20 +40,57 @@ import org.apache.fineract.portfolio.loanaccount.exception.LoanNotFoundException
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterChunkError;
 import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.BeforeChunk;
+import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.item.ItemReader;
 
+/**
+ * Base reader of the Loan COB steps.
+ * <p>
+ * When the prefetch size is greater than 1, the reader takes the next batch of loan ids off the queue and loads the
+ * loans together with their repayment schedule, transactions and charges in a handful of queries instead of one select
+ * (plus the lazy loads) per loan. The prefetched loans are kept per thread, because every chunk is processed in its own
+ * thread and transaction, and whatever was not consumed by the chunk is given back to the queue before the next chunk
+ * starts, so loans are never carried over from one persistence context into another.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
 
+    public static final String LOANS_LOADED_METRIC = "fineract.cob.loan.reader.loaded";
+    public static final String LOANS_LOADED_PER_SECOND_METRIC = "fineract.cob.loan.reader.throughput";
+
     protected final LoanRepository loanRepository;
+    private final int prefetchSize;
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadLocal<Deque<Long>> prefetchedLoanIds = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Map<Long, Loan>> prefetchedLoans = ThreadLocal.withInitial(HashMap::new);
+    private final AtomicLong loadedLoanCount = new AtomicLong();
+    private final AtomicLong loadTimeInNanos = new AtomicLong();
 
     @Setter(AccessLevel.PROTECTED)
     private LinkedBlockingQueue<Long> remainingData;
 
+    @Setter(AccessLevel.PROTECTED)
+    private String partitionName;
+
+    protected AbstractLoanItemReader(LoanRepository loanRepository) {
+        this(loanRepository, 1, null);
+    }
+
+    protected AbstractLoanItemReader(LoanRepository loanRepository, int prefetchSize, MeterRegistry meterRegistry) {
+        this.loanRepository = loanRepository;
+        this.prefetchSize = prefetchSize;
+        this.meterRegistry = meterRegistry;
+    }
+
     @Override
     public Loan read() throws Exception {
+        if (prefetchSize > 1) {
+            return readPrefetched();
+        }
         final Long loanId = remainingData.poll();
         if (loanId != null) {
             try {
@@ -55,8 +102,82 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
         return null;
     }
 
+    private Loan readPrefetched() throws LoanReadException {
+        Deque<Long> loanIds = prefetchedLoanIds.get();
+        if (loanIds.isEmpty()) {
+            prefetch(loanIds);
+        }
+        final Long loanId = loanIds.poll();
+        if (loanId == null) {
+            return null;
+        }
+        Loan loan = prefetchedLoans.get().remove(loanId);
+        if (loan != null) {
+            return loan;
+        }
+        // not part of the batch result (or the batch load failed), fall back to the single loan lookup
+        try {
+            return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
+        } catch (Exception e) {
+            throw new LoanReadException(loanId, e);
+        }
+    }
+
+    private void prefetch(Deque<Long> loanIds) {
+        List<Long> nextLoanIds = new ArrayList<>(prefetchSize);
+        remainingData.drainTo(nextLoanIds, prefetchSize);
+        if (nextLoanIds.isEmpty()) {
+            return;
+        }
+        loanIds.addAll(nextLoanIds);
+        Map<Long, Loan> loans = prefetchedLoans.get();
+        long start = System.nanoTime();
+        try {
+            loanRepository.findAllByIdsWithCollections(nextLoanIds).forEach(loan -> loans.put(loan.getId(), loan));
+        } catch (Exception e) {
+            log.warn("Prefetching loans {} failed, falling back to loading them one by one", nextLoanIds, e);
+        }
+        loadTimeInNanos.addAndGet(System.nanoTime() - start);
+        loadedLoanCount.addAndGet(loans.size());
+        if (meterRegistry != null) {
+            Counter.builder(LOANS_LOADED_METRIC).description("Number of loans loaded in batches by the Loan COB item reader")
+                    .register(meterRegistry).increment(loans.size());
+        }
+    }
+
+    @BeforeChunk
+    public void beforeChunk(ChunkContext chunkContext) {
+        releasePrefetchedLoans();
+    }
+
+    @AfterChunkError
+    public void afterChunkError(ChunkContext chunkContext) {
+        releasePrefetchedLoans();
+    }
+
+    private void releasePrefetchedLoans() {
+        Deque<Long> loanIds = prefetchedLoanIds.get();
+        if (!loanIds.isEmpty()) {
+            // loans which were prefetched by the previous chunk of this thread belong to a closed persistence context
+            remainingData.addAll(loanIds);
+            loanIds.clear();
+        }
+        prefetchedLoans.get().clear();
+    }
+
     @AfterStep
     public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        long loadTimeInMillis = TimeUnit.NANOSECONDS.toMillis(loadTimeInNanos.get());
+        if (loadedLoanCount.get() > 0 && loadTimeInMillis > 0) {
+            double loansPerSecond = loadedLoanCount.get() * 1000.0 / loadTimeInMillis;
+            log.debug("Loan COB reader of {} loaded {} loans in {} ms ({} loans/s)", partitionName, loadedLoanCount.get(),
+                    loadTimeInMillis, String.format("%.2f", loansPerSecond));
+            if (meterRegistry != null) {
+                DistributionSummary.builder(LOANS_LOADED_PER_SECOND_METRIC)
+                        .description("Number of loans loaded per second by the Loan COB item reader of a partition").register(meterRegistry)
+                        .record(loansPerSecond);
+            }
+        }
         return ExitStatus.COMPLETED;
     }
 
@@ -23,7 +23,6 @@ import static org.springframework.transaction.TransactionDefinition.PROPAGATION_
 import com.google.common.collect.Lists;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
@@ -62,18 +61,24 @@ public class ApplyLoanLockTasklet implements Tasklet {
         ExecutionContext executionContext = contribution.getStepExecution().getExecutionContext();
         long numberOfExecutions = contribution.getStepExecution().getCommitCount();
         LoanCOBParameter loanCOBParameter = (LoanCOBParameter) executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER);
-        List<Long> loanIds;
+        boolean isCatchUp = customJobParameterResolver
+                .getCustomJobParameterById(contribution.getStepExecution(), LoanCOBConstant.IS_CATCH_UP_PARAMETER_NAME)
+                .map(Boolean::parseBoolean).orElse(false);
         if (Objects.isNull(loanCOBParameter)
                 || (Objects.isNull(loanCOBParameter.getMinLoanId()) && Objects.isNull(loanCOBParameter.getMaxLoanId()))
                 || (loanCOBParameter.getMinLoanId().equals(0L) && loanCOBParameter.getMaxLoanId().equals(0L))) {
-            loanIds = Collections.emptyList();
-        } else {
-            loanIds = new ArrayList<>(
-                    retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter,
-                            customJobParameterResolver
-                                    .getCustomJobParameterById(contribution.getStepExecution(), LoanCOBConstant.IS_CATCH_UP_PARAMETER_NAME)
-                                    .map(Boolean::parseBoolean).orElse(false)));
+            return RepeatStatus.FINISHED;
+        }
+        if (isSetBasedLockingEnabled()) {
+            try {
+                applySetBasedLocks(loanCOBParameter, isCatchUp);
+            } catch (Exception e) {
+                return handleLockError(numberOfExecutions, e);
+            }
+            return RepeatStatus.FINISHED;
         }
+        List<Long> loanIds = new ArrayList<>(
+                retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, isCatchUp));
         List<List<Long>> loanIdPartitions = Lists.partition(loanIds, getInClauseParameterSizeLimit());
         List<LoanAccountLock> accountLocks = new ArrayList<>();
         loanIdPartitions.forEach(loanIdPartition -> accountLocks.addAll(loanLockingService.findAllByLoanIdIn(loanIdPartition)));
@@ -85,18 +90,31 @@ public class ApplyLoanLockTasklet implements Tasklet {
         try {
             applyLocks(toBeProcessedLoanIds);
         } catch (Exception e) {
-            if (numberOfExecutions > NUMBER_OF_RETRIES) {
-                String message = "There was an error applying lock to loan accounts.";
-                log.error("{}", message, e);
-                throw new LoanLockCannotBeAppliedException(message, e);
-            } else {
-                return RepeatStatus.CONTINUABLE;
-            }
+            return handleLockError(numberOfExecutions, e);
         }
 
         return RepeatStatus.FINISHED;
     }
 
+    @SuppressFBWarnings("SLF4J_SIGN_ONLY_FORMAT")
+    private RepeatStatus handleLockError(long numberOfExecutions, Exception e) throws LoanLockCannotBeAppliedException {
+        if (numberOfExecutions > NUMBER_OF_RETRIES) {
+            String message = "There was an error applying lock to loan accounts.";
+            log.error("{}", message, e);
+            throw new LoanLockCannotBeAppliedException(message, e);
+        } else {
+            return RepeatStatus.CONTINUABLE;
+        }
+    }
+
+    private void applySetBasedLocks(LoanCOBParameter loanCOBParameter, boolean isCatchUp) {
+        transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+        List<Long> lockedLoanIds = transactionTemplate.execute(status -> loanLockingService.applyLock(loanCOBParameter.getMinLoanId(),
+                loanCOBParameter.getMaxLoanId(), isCatchUp, LockOwner.LOAN_COB_CHUNK_PROCESSING));
+        log.debug("Locked {} loan accounts between {} and {}", lockedLoanIds == null ? 0 : lockedLoanIds.size(),
+                loanCOBParameter.getMinLoanId(), loanCOBParameter.getMaxLoanId());
+    }
+
     private void applyLocks(List<Long> toBeProcessedLoanIds) {
         transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
@@ -108,6 +126,11 @@ public class ApplyLoanLockTasklet implements Tasklet {
         });
     }
 
+    private boolean isSetBasedLockingEnabled() {
+        FineractProperties.FineractJobProperties job = fineractProperties.getJob();
+        return job != null && job.getLoanCob() != null && job.getLoanCob().isSetBasedLockingEnabled();
+    }
+
     private int getInClauseParameterSizeLimit() {
         return fineractProperties.getQuery().getInClauseParameterSizeLimit();
     }
@@ -106,4 +106,10 @@ public class CheckDueInstallmentsBusinessStep implements LoanCOBBusinessStep {
         return "Check Due Installments";
     }
 
+    @Override
+    public boolean isReloadRequired() {
+        // only raises business events
+        return false;
+    }
+
 }
@@ -76,6 +76,12 @@ public class CheckLoanRepaymentDueBusinessStep implements LoanCOBBusinessStep {
         return "Check loan repayment due";
     }
 
+    @Override
+    public boolean isReloadRequired() {
+        // only raises business events
+        return false;
+    }
+
     private static boolean isDueEventNeededToBeSent(Loan loan, Long numberOfDaysBeforeDueDateToRaiseEvent, LocalDate currentDate,
             LoanRepaymentScheduleInstallment repaymentScheduleInstallment, LocalDate repaymentDate, List<LoanStatus> nonDisbursedStatuses) {
         return repaymentDate.minusDays(numberOfDaysBeforeDueDateToRaiseEvent).equals(currentDate)
@@ -80,6 +80,12 @@ public class CheckLoanRepaymentOverdueBusinessStep implements LoanCOBBusinessSte
         return "Check loan repayment overdue";
     }
 
+    @Override
+    public boolean isReloadRequired() {
+        // only raises business events
+        return false;
+    }
+
     private static boolean isOverDueEventNeededToBeSent(Loan loan, Long numberOfDaysBeforeDueDateToRaiseEvent, LocalDate currentDate,
             LoanRepaymentScheduleInstallment repaymentScheduleInstallment, LocalDate repaymentDate) {
         return repaymentDate.plusDays(numberOfDaysBeforeDueDateToRaiseEvent).equals(currentDate)
@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.cob.loan;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.concurrent.LinkedBlockingQueue;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
@@ -32,11 +33,16 @@ public class InlineCOBLoanItemReader extends AbstractLoanItemReader {
         super(loanRepository);
     }
 
+    public InlineCOBLoanItemReader(LoanRepository loanRepository, int prefetchSize, MeterRegistry meterRegistry) {
+        super(loanRepository, prefetchSize, meterRegistry);
+    }
+
     @BeforeStep
     @SuppressWarnings({ "unchecked" })
     public void beforeStep(@NotNull StepExecution stepExecution) {
         ExecutionContext executionContext = stepExecution.getJobExecution().getExecutionContext();
         List<Long> loanIds = (List<Long>) executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER);
         setRemainingData(new LinkedBlockingQueue<>(loanIds));
+        setPartitionName(stepExecution.getStepName());
     }
 }
@@ -25,6 +25,7 @@ public final class LoanCOBConstant {
     public static final String LOAN_COB_JOB_NAME = "LOAN_CLOSE_OF_BUSINESS";
     public static final String LOAN_COB_PARAMETER = "loanCobParameter";
     public static final String BUSINESS_STEPS = "businessSteps";
+    public static final String BUSINESS_STEP_STATISTICS = "businessStepStatistics";
     public static final String LOAN_COB_WORKER_STEP = "loanCOBWorkerStep";
 
     public static final String INLINE_LOAN_COB_JOB_NAME = "INLINE_LOAN_COB";
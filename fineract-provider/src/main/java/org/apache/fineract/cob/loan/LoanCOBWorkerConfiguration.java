@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.cob.loan;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.common.InitialisationTasklet;
@@ -84,6 +85,9 @@ public class LoanCOBWorkerConfiguration {
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Bean(name = LoanCOBConstant.LOAN_COB_WORKER_STEP)
     public Step loanCOBWorkerStep() {
         return stepBuilderFactory.get("Loan COB worker - Step").inputChannel(inboundRequests).flow(flow()).build();
@@ -177,7 +181,8 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemReader cobWorkerItemReader() {
-        return new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService);
+        return new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService,
+                getReaderPrefetchSize(), meterRegistry);
     }
 
     @Bean
@@ -193,4 +198,10 @@ public class LoanCOBWorkerConfiguration {
         repositoryItemWriter.setRepository(loanRepository);
         return repositoryItemWriter;
     }
+
+    private int getReaderPrefetchSize() {
+        FineractProperties.FineractJobProperties job = fineractProperties.getJob();
+        boolean prefetchEnabled = job != null && job.getLoanCob() != null && job.getLoanCob().isPrefetchEnabled();
+        return prefetchEnabled ? propertyService.getChunkSize(LoanCOBConstant.JOB_NAME) : 1;
+    }
 }
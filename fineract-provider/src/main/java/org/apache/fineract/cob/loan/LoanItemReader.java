@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.cob.loan;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -49,6 +50,15 @@ public class LoanItemReader extends AbstractLoanItemReader {
         this.loanLockingService = loanLockingService;
     }
 
+    public LoanItemReader(LoanRepository loanRepository, RetrieveLoanIdService retrieveLoanIdService,
+            CustomJobParameterResolver customJobParameterResolver, LoanLockingService loanLockingService, int prefetchSize,
+            MeterRegistry meterRegistry) {
+        super(loanRepository, prefetchSize, meterRegistry);
+        this.retrieveLoanIdService = retrieveLoanIdService;
+        this.customJobParameterResolver = customJobParameterResolver;
+        this.loanLockingService = loanLockingService;
+    }
+
     @BeforeStep
     @SuppressWarnings({ "unchecked" })
     public void beforeStep(@NotNull StepExecution stepExecution) {
@@ -69,6 +79,7 @@ public class LoanItemReader extends AbstractLoanItemReader {
             }
         }
         setRemainingData(new LinkedBlockingQueue<>(loanIds));
+        setPartitionName(stepExecution.getStepName());
     }
 
     private List<Long> getLoanIdsLockedWithChunkProcessingLock(List<Long> loanIds) {
@@ -20,6 +20,7 @@ package org.apache.fineract.cob.loan;
 
 import org.apache.fineract.cob.domain.LoanAccountLockRepository;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -35,10 +36,12 @@ public class LoanLockingConfiguration {
     private FineractProperties fineractProperties;
     @Autowired
     private LoanAccountLockRepository loanAccountLockRepository;
+    @Autowired
+    private DatabaseSpecificSQLGenerator sqlGenerator;
 
     @Bean
     @ConditionalOnMissingBean
     public LoanLockingService retrieveLoanLockingService() {
-        return new LoanLockingServiceImpl(jdbcTemplate, fineractProperties, loanAccountLockRepository);
+        return new LoanLockingServiceImpl(jdbcTemplate, fineractProperties, loanAccountLockRepository, sqlGenerator);
     }
 }
@@ -35,4 +35,10 @@ public interface LoanLockingService {
     List<LoanAccountLock> findAllByLoanIdInAndLockOwner(List<Long> loanIds, LockOwner lockOwner);
 
     void applyLock(List<Long> loanIds, LockOwner lockOwner);
+
+    /**
+     * Places a lock on every lockable loan between the given ids which is not locked yet, in a single set based
+     * statement, and returns the ids of the loans which got locked by this call.
+     */
+    List<Long> applyLock(Long minLoanId, Long maxLoanId, boolean isCatchUp, LockOwner lockOwner);
 }
@@ -20,6 +20,8 @@ package org.apache.fineract.cob.loan;
 
 import java.sql.PreparedStatement;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,27 +32,32 @@ import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 @RequiredArgsConstructor
 @Slf4j
 public class LoanLockingServiceImpl implements LoanLockingService {
 
-    private static final String NORMAL_LOAN_INSERT = """
-                INSERT INTO m_loan_account_locks (loan_id, version, lock_owner, lock_placed_on, lock_placed_on_cob_business_date)
+    private static final String LOAN_LOCK_COLUMNS = """
+                loan_id, version, lock_owner, lock_placed_on, lock_placed_on_cob_business_date
+            """;
+    private static final String NORMAL_LOAN_SELECT = """
                 SELECT loan.id, ?, ?, ?, ? FROM m_loan loan
-                    WHERE loan.id NOT IN (SELECT loan_id FROM m_loan_account_locks)
-                    AND loan.id BETWEEN ? AND ?
+                    WHERE loan.id BETWEEN ? AND ?
                     AND loan.loan_status_id IN (100,200,300,303,304)
                     AND (? = loan.last_closed_business_date OR loan.last_closed_business_date IS NULL)
+                    AND NOT EXISTS (SELECT 1 FROM m_loan_account_locks lck WHERE lck.loan_id = loan.id)
             """;
-    private static final String CATCH_UP_LOAN_INSERT = """
-                INSERT INTO m_loan_account_locks (loan_id, version, lock_owner, lock_placed_on, lock_placed_on_cob_business_date)
+    private static final String CATCH_UP_LOAN_SELECT = """
                 SELECT loan.id, ?, ?, ?, ? FROM m_loan loan
-                    WHERE loan.id NOT IN (SELECT loan_id FROM m_loan_account_locks)
-                    AND loan.id BETWEEN ? AND ?
+                    WHERE loan.id BETWEEN ? AND ?
                     AND loan.loan_status_id IN (100,200,300,303,304)
-                    AND (? = loan.last_closed_business_date)
+                    AND ? = loan.last_closed_business_date
+                    AND NOT EXISTS (SELECT 1 FROM m_loan_account_locks lck WHERE lck.loan_id = loan.id)
+            """;
+    private static final String APPLIED_LOAN_LOCKS_SELECT = """
+                SELECT loan_id FROM m_loan_account_locks WHERE loan_id BETWEEN ? AND ? AND lock_owner = ? AND lock_placed_on = ?
             """;
 
     private static final String BATCH_LOAN_LOCK_INSERT = """
@@ -60,6 +67,7 @@ public class LoanLockingServiceImpl implements LoanLockingService {
     private final JdbcTemplate jdbcTemplate;
     private final FineractProperties fineractProperties;
     private final LoanAccountLockRepository loanAccountLockRepository;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
 
     @Override
     public void upgradeLock(List<Long> accountsToLock, LockOwner lockOwner) {
@@ -102,6 +110,23 @@ public class LoanLockingServiceImpl implements LoanLockingService {
         });
     }
 
+    @Override
+    public List<Long> applyLock(Long minLoanId, Long maxLoanId, boolean isCatchUp, LockOwner lockOwner) {
+        LocalDate cobBusinessDate = ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
+        LocalDate lastClosedBusinessDate = cobBusinessDate.minusDays(LoanCOBConstant.NUMBER_OF_DAYS_BEHIND);
+        // the lock placed on timestamp identifies the locks placed by this statement, it is truncated to the precision
+        // of the column so the follow-up select can match it exactly
+        OffsetDateTime lockPlacedOn = DateUtils.getAuditOffsetDateTime().truncatedTo(ChronoUnit.MICROS);
+        String sql = sqlGenerator.buildInsertIgnoringDuplicates("m_loan_account_locks", LOAN_LOCK_COLUMNS,
+                isCatchUp ? CATCH_UP_LOAN_SELECT : NORMAL_LOAN_SELECT);
+        Object[] params = { 1L, lockOwner.name(), lockPlacedOn, cobBusinessDate, minLoanId, maxLoanId, lastClosedBusinessDate };
+        if (sqlGenerator.getDialect().isPostgres()) {
+            return jdbcTemplate.queryForList(sql + " RETURNING loan_id", Long.class, params);
+        }
+        jdbcTemplate.update(sql, params);
+        return jdbcTemplate.queryForList(APPLIED_LOAN_LOCKS_SELECT, Long.class, minLoanId, maxLoanId, lockOwner.name(), lockPlacedOn);
+    }
+
     @Override
     public void deleteByLoanIdInAndLockOwner(List<Long> loanIds, LockOwner lockOwner) {
         loanAccountLockRepository.deleteByLoanIdInAndLockOwner(loanIds, lockOwner);
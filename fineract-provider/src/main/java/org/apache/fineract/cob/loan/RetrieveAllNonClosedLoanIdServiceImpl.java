@@ -40,9 +40,18 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
 
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
+    private final boolean costBalancedPartitioning;
+
+    public RetrieveAllNonClosedLoanIdServiceImpl(LoanRepository loanRepository, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this(loanRepository, namedParameterJdbcTemplate, false);
+    }
+
     @Override
     public List<LoanCOBPartition> retrieveLoanCOBPartitions(Long numberOfDays, LocalDate businessDate, boolean isCatchUp,
             int partitionSize) {
+        if (costBalancedPartitioning) {
+            return retrieveCostBalancedLoanCOBPartitions(numberOfDays, businessDate, isCatchUp, partitionSize);
+        }
         StringBuilder sql = new StringBuilder();
         sql.append("select min(id) as min, max(id) as max, page, count(id) as count from ");
         sql.append("  (select floor(((row_number() over(order by id))-1) / :pageSize) as page, t.* from ");
@@ -63,6 +72,36 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
         return namedParameterJdbcTemplate.query(sql.toString(), parameters, RetrieveAllNonClosedLoanIdServiceImpl::mapRow);
     }
 
+    /**
+     * Creates the same number of partitions as the count based partitioning would, but instead of putting the same
+     * number of loans into each of them, the id ranges are cut so that every partition gets roughly the same processing
+     * cost. The cost of a loan is estimated by the number of its transactions and repayment schedule installments.
+     */
+    private List<LoanCOBPartition> retrieveCostBalancedLoanCOBPartitions(Long numberOfDays, LocalDate businessDate, boolean isCatchUp,
+            int partitionSize) {
+        StringBuilder sql = new StringBuilder();
+        sql.append("select min(id) as min, max(id) as max, page, count(id) as count from ");
+        sql.append("  (select floor((sum(weight) over(order by id) - weight) * ceil(count(id) over() / cast(:pageSize as decimal)) ");
+        sql.append("      / sum(weight) over()) as page, t.id from ");
+        sql.append("      (select l.id, 1 + (select count(lt.id) from m_loan_transaction lt where lt.loan_id = l.id) ");
+        sql.append("          + (select count(rs.id) from m_loan_repayment_schedule rs where rs.loan_id = l.id) as weight ");
+        sql.append("       from m_loan l where l.loan_status_id in (:statusIds) and ");
+        if (isCatchUp) {
+            sql.append("l.last_closed_business_date = :businessDate");
+        } else {
+            sql.append("(l.last_closed_business_date = :businessDate or l.last_closed_business_date is null)");
+        }
+        sql.append(") t) t2 ");
+        sql.append("group by page ");
+        sql.append("order by page");
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("pageSize", partitionSize);
+        parameters.addValue("statusIds", List.of(100, 200, 300, 303, 304));
+        parameters.addValue("businessDate", businessDate.minusDays(numberOfDays));
+        return namedParameterJdbcTemplate.query(sql.toString(), parameters, RetrieveAllNonClosedLoanIdServiceImpl::mapRow);
+    }
+
     private static LoanCOBPartition mapRow(ResultSet rs, int rowNum) throws SQLException {
         return new LoanCOBPartition(rs.getLong("min"), rs.getLong("max"), rs.getLong("page"), rs.getLong("count"));
     }
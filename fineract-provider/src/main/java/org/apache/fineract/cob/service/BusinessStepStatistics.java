@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.fineract.cob.data.BusinessStepExecutionSummary;
+
+/**
+ * Thread safe accumulator of the business step execution times of one COB step execution (partition).
+ */
+public class BusinessStepStatistics {
+
+    private final Map<String, StepStatistics> statistics = new ConcurrentHashMap<>();
+
+    public void record(String businessStep, long durationInNanos) {
+        StepStatistics stepStatistics = statistics.computeIfAbsent(businessStep, key -> new StepStatistics());
+        stepStatistics.count.increment();
+        stepStatistics.totalTime.add(durationInNanos);
+        stepStatistics.maxTime.accumulate(durationInNanos);
+    }
+
+    public List<BusinessStepExecutionSummary> getSummaries() {
+        return statistics.entrySet().stream()
+                .map(entry -> new BusinessStepExecutionSummary(entry.getKey(), entry.getValue().count.sum(),
+                        TimeUnit.NANOSECONDS.toMillis(entry.getValue().totalTime.sum()),
+                        TimeUnit.NANOSECONDS.toMillis(entry.getValue().maxTime.get())))
+                .sorted(Comparator.comparing(BusinessStepExecutionSummary::getStepName)).toList();
+    }
+
+    private static final class StepStatistics {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0L);
+    }
+}
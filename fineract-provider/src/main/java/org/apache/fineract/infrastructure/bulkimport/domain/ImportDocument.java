@@ -101,6 +101,11 @@ public class ImportDocument extends AbstractPersistableCustom<Long> {
         this.failureCount = errorCount;
     }
 
+    public void updateProgress(final Integer successCount, final Integer errorCount) {
+        this.successCount = successCount;
+        this.failureCount = errorCount;
+    }
+
     public Document getDocument() {
         return this.document;
     }
@@ -18,10 +18,19 @@
  */
 package org.apache.fineract.infrastructure.bulkimport.importhandler;
 
+import java.util.function.Consumer;
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
 import org.apache.poi.ss.usermodel.Workbook;
 
 public interface ImportHandler {
 
     Count process(Workbook workbook, String locale, String dateFormat);
+
+    /**
+     * Processes the workbook, passing the counts so far to the progress listener after each row. Handlers without row level
+     * progress only return the final counts.
+     */
+    default Count process(Workbook workbook, String locale, String dateFormat, Consumer<Count> progressListener) {
+        return process(workbook, locale, dateFormat);
+    }
 }
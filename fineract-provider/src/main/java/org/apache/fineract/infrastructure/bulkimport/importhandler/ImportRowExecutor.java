@@ -0,0 +1,169 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes the rows of a bulk import, concurrently when more than one row thread is configured.
+ * <p>
+ * Rows are processed on the worker threads, their commands run in their own transactions, while the results are handed
+ * back on the import thread in row order. The workbook, which is not thread safe, must only be touched by the result
+ * writer. At most twice as many rows as threads are in flight, the rest of the sheet waits unread. When the import
+ * stops early, the rows in flight which have not started yet are skipped.
+ * <p>
+ * Rows sharing a partition key, e.g. the same client, form one partition whose rows are processed one after the other in
+ * row order, only rows of different partitions run concurrently.
+ */
+@Component
+public class ImportRowExecutor {
+
+    private final ThreadPoolTaskExecutor taskExecutor;
+    private final int rowThreadCount;
+
+    public ImportRowExecutor(@Qualifier(TaskExecutorConstant.BULK_IMPORT_ROW_TASK_EXECUTOR_BEAN_NAME) ThreadPoolTaskExecutor taskExecutor,
+            FineractProperties fineractProperties) {
+        this.taskExecutor = taskExecutor;
+        this.rowThreadCount = fineractProperties.getBulkImport().getRowThreadCount();
+    }
+
+    public <R> void execute(final int rowCount, final IntFunction<R> rowProcessor, final ObjIntConsumer<R> resultWriter) {
+        execute(rowCount, rowIndex -> List.of(), rowProcessor, resultWriter);
+    }
+
+    public <R> void execute(final int rowCount, final IntFunction<? extends Collection<?>> partitionKeys, final IntFunction<R> rowProcessor,
+            final ObjIntConsumer<R> resultWriter) {
+        if (rowThreadCount <= 1) {
+            for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+                resultWriter.accept(rowProcessor.apply(rowIndex), rowIndex);
+            }
+            return;
+        }
+
+        // pool threads are reused across imports, so the contexts are set explicitly instead of being inherited
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final int[] partitions = partitions(rowCount, partitionKeys);
+        final Map<Integer, CompletableFuture<R>> lastRowOfPartition = new HashMap<>();
+        final int maxRowsInFlight = rowThreadCount * 2;
+        final Deque<Future<R>> rowsInFlight = new ArrayDeque<>(maxRowsInFlight);
+        // a running row is not interrupted in the middle of its command, the rows not started yet are skipped
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        int submittedRows = 0;
+        try {
+            for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+                while (submittedRows < rowCount && rowsInFlight.size() < maxRowsInFlight) {
+                    final int submittedRowIndex = submittedRows++;
+                    // a row starts only once the previous row of its partition is done, whether that one failed or not
+                    final CompletableFuture<R> previousRow = lastRowOfPartition.get(partitions[submittedRowIndex]);
+                    final CompletableFuture<R> row = previousRow == null
+                            ? CompletableFuture.supplyAsync(
+                                    () -> processRow(context, securityContext, cancelled, rowProcessor, submittedRowIndex), taskExecutor)
+                            : previousRow.handleAsync((result, failure) -> processRow(context, securityContext, cancelled, rowProcessor,
+                                    submittedRowIndex), taskExecutor);
+                    lastRowOfPartition.put(partitions[submittedRowIndex], row);
+                    rowsInFlight.add(row);
+                }
+                resultWriter.accept(awaitRow(rowsInFlight.remove()), rowIndex);
+            }
+        } finally {
+            cancelled.set(true);
+        }
+    }
+
+    /**
+     * Assigns every row to a partition, rows are in one partition when they share a key directly or through other rows.
+     */
+    private static int[] partitions(final int rowCount, final IntFunction<? extends Collection<?>> partitionKeys) {
+        final int[] parents = new int[rowCount];
+        final Map<Object, Integer> firstRowOfKey = new HashMap<>();
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            parents[rowIndex] = rowIndex;
+            for (final Object key : partitionKeys.apply(rowIndex)) {
+                final Integer firstRow = firstRowOfKey.putIfAbsent(key, rowIndex);
+                if (firstRow != null) {
+                    parents[root(parents, rowIndex)] = root(parents, firstRow);
+                }
+            }
+        }
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            parents[rowIndex] = root(parents, rowIndex);
+        }
+        return parents;
+    }
+
+    private static int root(final int[] parents, final int rowIndex) {
+        int root = rowIndex;
+        while (parents[root] != root) {
+            parents[root] = parents[parents[root]];
+            root = parents[root];
+        }
+        return root;
+    }
+
+    private static <R> R processRow(final FineractContext context, final SecurityContext securityContext, final AtomicBoolean cancelled,
+            final IntFunction<R> rowProcessor, final int rowIndex) {
+        if (cancelled.get()) {
+            throw new CancellationException("Bulk import was aborted before row " + rowIndex);
+        }
+        ThreadLocalContextUtil.init(context);
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            return rowProcessor.apply(rowIndex);
+        } finally {
+            SecurityContextHolder.clearContext();
+            ThreadLocalContextUtil.reset();
+        }
+    }
+
+    private static <R> R awaitRow(final Future<R> row) {
+        try {
+            return row.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk import was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Bulk import row failed", e.getCause());
+        }
+    }
+}
@@ -28,8 +28,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.commands.domain.CommandWrapper;
 import org.apache.fineract.commands.service.CommandWrapperBuilder;
 import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
@@ -38,6 +41,7 @@ import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateI
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRowExecutor;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.DateSerializer;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.EnumOptionDataValueSerializer;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
@@ -71,16 +75,22 @@ public class LoanImportHandler implements ImportHandler {
     private final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
 
     private final LoanRepaymentScheduleTransactionProcessorFactory loanRepaymentScheduleTransactionProcessorFactory;
+    private final ImportRowExecutor importRowExecutor;
 
     @Override
     public Count process(final Workbook workbook, final String locale, final String dateFormat) {
+        return process(workbook, locale, dateFormat, progress -> {});
+    }
+
+    @Override
+    public Count process(final Workbook workbook, final String locale, final String dateFormat, final Consumer<Count> progressListener) {
         List<LoanAccountData> loans = new ArrayList<>();
         List<LoanApprovalData> approvalDates = new ArrayList<>();
         List<LoanTransactionData> loanRepayments = new ArrayList<>();
         List<DisbursementData> disbursalDates = new ArrayList<>();
         List<String> statuses = new ArrayList<>();
         readExcelFile(workbook, loans, approvalDates, loanRepayments, disbursalDates, statuses, locale, dateFormat);
-        return importEntity(workbook, loans, approvalDates, loanRepayments, disbursalDates, statuses, dateFormat);
+        return importEntity(workbook, loans, approvalDates, loanRepayments, disbursalDates, statuses, dateFormat, progressListener);
     }
 
     private void readExcelFile(final Workbook workbook, final List<LoanAccountData> loans, final List<LoanApprovalData> approvalDates,
@@ -378,56 +388,88 @@ public class LoanImportHandler implements ImportHandler {
 
     private Count importEntity(final Workbook workbook, final List<LoanAccountData> loans, final List<LoanApprovalData> approvalDates,
             final List<LoanTransactionData> loanRepayments, final List<DisbursementData> disbursalDates, final List<String> statuses,
-            final String dateFormat) {
+            final String dateFormat, final Consumer<Count> progressListener) {
         Sheet loanSheet = workbook.getSheet(TemplatePopulateImportConstants.LOANS_SHEET_NAME);
-        int successCount = 0;
-        int errorCount = 0;
-        int progressLevel = 0;
-        String loanId;
-        String errorMessage;
-        for (int i = 0; i < loans.size(); i++) {
-            Row row = loanSheet.getRow(loans.get(i).getRowIndex());
-            Cell errorReportCell = row.createCell(LoanConstants.FAILURE_REPORT_COL);
-            Cell statusCell = row.createCell(LoanConstants.STATUS_COL);
-            CommandProcessingResult result = null;
-            loanId = EMPTY_STR;
-            try {
-                String status = statuses.get(i);
-                progressLevel = getProgressLevel(status);
-
-                if (progressLevel == 0 && loans.get(i) != null) {
-                    result = importLoan(loans, i, dateFormat);
-                    loanId = result.getLoanId().toString();
-                    progressLevel = 1;
-                } else {
-                    loanId = ImportHandlerUtils.readAsString(LoanConstants.LOAN_ID_COL, loanSheet.getRow(loans.get(i).getRowIndex()));
-                }
+        // the rows may be imported concurrently, so what they need from the workbook is read up front
+        final List<String> loanIds = new ArrayList<>(loans.size());
+        for (LoanAccountData loan : loans) {
+            loanIds.add(ImportHandlerUtils.readAsString(LoanConstants.LOAN_ID_COL, loanSheet.getRow(loan.getRowIndex())));
+        }
+        final AtomicInteger successCount = new AtomicInteger();
+        final AtomicInteger errorCount = new AtomicInteger();
+        importRowExecutor.execute(loans.size(), i -> partitionKeys(loans.get(i), disbursalDates.get(i)),
+                i -> importRow(loans, approvalDates, loanRepayments, disbursalDates, statuses, loanIds.get(i), i, dateFormat),
+                (rowResult, i) -> {
+                    Row row = loanSheet.getRow(loans.get(i).getRowIndex());
+                    Cell errorReportCell = row.createCell(LoanConstants.FAILURE_REPORT_COL);
+                    Cell statusCell = row.createCell(LoanConstants.STATUS_COL);
+                    if (rowResult.errorMessage() == null) {
+                        successCount.incrementAndGet();
+                        statusCell.setCellValue(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED);
+                        statusCell.setCellStyle(ImportHandlerUtils.getCellStyle(workbook, IndexedColors.LIGHT_GREEN));
+                    } else {
+                        errorCount.incrementAndGet();
+                        writeLoanErrorMessage(workbook, rowResult.loanId(), rowResult.errorMessage(), rowResult.progressLevel(), statusCell,
+                                errorReportCell, row);
+                    }
+                    progressListener.accept(Count.instance(successCount.get(), errorCount.get()));
+                });
+        setReportHeaders(loanSheet);
+        return Count.instance(successCount.get(), errorCount.get());
+    }
 
-                if (progressLevel <= 1 && approvalDates.get(i) != null) {
-                    progressLevel = importLoanApproval(approvalDates, result, i, dateFormat);
-                }
+    /**
+     * Loans of one client or linked to one savings account update the same records, so they are imported one after the
+     * other.
+     */
+    private static List<String> partitionKeys(final LoanAccountData loan, final DisbursementData disbursalData) {
+        final List<String> keys = new ArrayList<>(3);
+        if (loan != null && loan.getClientId() != null) {
+            keys.add("client:" + loan.getClientId());
+        }
+        if (loan != null && StringUtils.isNotBlank(loan.getLinkAccountId())) {
+            keys.add("savings:" + loan.getLinkAccountId());
+        }
+        if (disbursalData != null && StringUtils.isNotBlank(disbursalData.getLinkAccountId())) {
+            keys.add("savings:" + disbursalData.getLinkAccountId());
+        }
+        return keys;
+    }
 
-                if (progressLevel <= 2 && disbursalDates.get(i) != null) {
-                    progressLevel = importDisbursalData(approvalDates, disbursalDates, result, i, dateFormat);
-                }
+    private LoanRowResult importRow(final List<LoanAccountData> loans, final List<LoanApprovalData> approvalDates,
+            final List<LoanTransactionData> loanRepayments, final List<DisbursementData> disbursalDates, final List<String> statuses,
+            final String importedLoanId, final int i, final String dateFormat) {
+        CommandProcessingResult result = null;
+        String loanId = EMPTY_STR;
+        int progressLevel = 0;
+        try {
+            String status = statuses.get(i);
+            progressLevel = getProgressLevel(status);
+
+            if (progressLevel == 0 && loans.get(i) != null) {
+                result = importLoan(loans, i, dateFormat);
+                loanId = result.getLoanId().toString();
+                progressLevel = 1;
+            } else {
+                loanId = importedLoanId;
+            }
 
-                if (loanRepayments.get(i) != null) {
-                    progressLevel = importLoanRepayment(loanRepayments, result, i, dateFormat);
-                }
+            if (progressLevel <= 1 && approvalDates.get(i) != null) {
+                progressLevel = importLoanApproval(approvalDates, result, i, dateFormat);
+            }
 
-                successCount++;
-                statusCell.setCellValue(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED);
-                statusCell.setCellStyle(ImportHandlerUtils.getCellStyle(workbook, IndexedColors.LIGHT_GREEN));
-            } catch (RuntimeException ex) {
-                errorCount++;
-                log.error("Problem occurred in importEntity function", ex);
-                errorMessage = ImportHandlerUtils.getErrorMessage(ex);
-                writeLoanErrorMessage(workbook, loanId, errorMessage, progressLevel, statusCell, errorReportCell, row);
+            if (progressLevel <= 2 && disbursalDates.get(i) != null) {
+                progressLevel = importDisbursalData(approvalDates, disbursalDates, result, i, dateFormat);
             }
 
+            if (loanRepayments.get(i) != null) {
+                progressLevel = importLoanRepayment(loanRepayments, result, i, dateFormat);
+            }
+            return new LoanRowResult(loanId, progressLevel, null);
+        } catch (RuntimeException ex) {
+            log.error("Problem occurred in importEntity function", ex);
+            return new LoanRowResult(loanId, progressLevel, ImportHandlerUtils.getErrorMessage(ex));
         }
-        setReportHeaders(loanSheet);
-        return Count.instance(successCount, errorCount);
     }
 
     private void writeLoanErrorMessage(final Workbook workbook, final String loanId, final String errorMessage, final int progressLevel,
@@ -562,4 +604,6 @@ public class LoanImportHandler implements ImportHandler {
         return 0;
     }
 
+    private record LoanRowResult(String loanId, int progressLevel, String errorMessage) {
+    }
 }
@@ -47,4 +47,15 @@ public class TaskExecutorConfig {
         threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorMaxPoolSize());
         return threadPoolTaskExecutor;
     }
+
+    @Bean(TaskExecutorConstant.BULK_IMPORT_ROW_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor bulkImportRowThreadPoolTaskExecutor() {
+        // every import keeps at most twice as many rows in flight as there are threads, that bounds the queue
+        int rowThreadCount = Math.max(1, fineractProperties.getBulkImport().getRowThreadCount());
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(rowThreadCount);
+        threadPoolTaskExecutor.setMaxPoolSize(rowThreadCount);
+        threadPoolTaskExecutor.setThreadNamePrefix("bulkImportRow");
+        return threadPoolTaskExecutor;
+    }
 }
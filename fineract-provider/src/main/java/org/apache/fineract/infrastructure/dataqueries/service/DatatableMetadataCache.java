@@ -0,0 +1,128 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the column definitions of the datatables in memory, per tenant, so reading and writing datatable entries does
+ * not query the database schema every time.
+ * <p>
+ * The cached definitions belong to a version of the tenant's datatable metadata, stored in
+ * {@code m_datatable_metadata_version}. Every schema change of a datatable increments the version, and each instance
+ * compares its cached version with the stored one at most once per configured check interval, so definitions cached
+ * on other instances are dropped shortly after the change commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatatableMetadataCache {
+
+    private static final String VERSION_SQL = "select version from m_datatable_metadata_version where id = 1";
+    private static final String INCREMENT_VERSION_SQL = "update m_datatable_metadata_version set version = version + 1 where id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+    private final Map<String, TenantMetadata> metadataByTenant = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached column definitions of the table, the loader is called when they are not cached yet.
+     */
+    public List<ColumnDefinition> getColumnDefinitions(final String tableName, final Function<String, List<ColumnDefinition>> loader) {
+        final TenantMetadata tenantMetadata = getTenantMetadata();
+        List<ColumnDefinition> columnDefinitions = tenantMetadata.columnsByTable.get(tableName);
+        if (columnDefinitions == null) {
+            columnDefinitions = List.copyOf(loader.apply(tableName));
+            tenantMetadata.columnsByTable.put(tableName, columnDefinitions);
+        }
+        return columnDefinitions;
+    }
+
+    /**
+     * Increments the metadata version of the current tenant and drops its definitions on this instance right away and,
+     * when called within a transaction, once more after the commit, so definitions loaded before the commit are not
+     * kept.
+     */
+    public void invalidate() {
+        jdbcTemplate.update(INCREMENT_VERSION_SQL);
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        metadataByTenant.remove(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    metadataByTenant.remove(tenantIdentifier);
+                }
+            });
+        }
+    }
+
+    private TenantMetadata getTenantMetadata() {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        TenantMetadata tenantMetadata = metadataByTenant.get(tenantIdentifier);
+        final long now = System.nanoTime();
+        if (tenantMetadata == null || now - tenantMetadata.checkedAt >= getVersionCheckIntervalInNanos()) {
+            final Long version = jdbcTemplate.queryForObject(VERSION_SQL, Long.class);
+            if (tenantMetadata == null || !tenantMetadata.version.equals(version)) {
+                tenantMetadata = new TenantMetadata(version);
+                metadataByTenant.put(tenantIdentifier, tenantMetadata);
+            }
+            tenantMetadata.checkedAt = now;
+        }
+        return tenantMetadata;
+    }
+
+    private long getVersionCheckIntervalInNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(fineractProperties.getDatatable().getMetadataVersionCheckIntervalInMillis());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class ColumnDefinition {
+
+        private final String columnName;
+        private final String columnType;
+        private final Long columnLength;
+        private final boolean nullable;
+        private final boolean primaryKey;
+        private final boolean unique;
+        private final boolean indexed;
+        private final String codeName;
+    }
+
+    @RequiredArgsConstructor
+    private static final class TenantMetadata {
+
+        private final Long version;
+        private final Map<String, List<ColumnDefinition>> columnsByTable = new ConcurrentHashMap<>();
+        private volatile long checkedAt;
+    }
+}
@@ -27,7 +27,13 @@ import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColum
 import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.INTEGER;
 import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.TIME;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -36,6 +42,7 @@ import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseIndependentQueryService;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
@@ -48,12 +55,14 @@ import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeader
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnValueData;
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.exception.DatatableNotFoundException;
+import org.apache.fineract.infrastructure.dataqueries.service.DatatableMetadataCache.ColumnDefinition;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.jdbc.support.rowset.SqlRowSetMetaData;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
@@ -65,6 +74,8 @@ public class GenericDataServiceImpl implements GenericDataService {
     private final DatabaseIndependentQueryService databaseIndependentQueryService;
     private final DatatableKeywordGenerator datatableKeywordGenerator;
     private final DatabaseTypeResolver databaseTypeResolver;
+    private final FineractProperties fineractProperties;
+    private final DatatableMetadataCache datatableMetadataCache;
 
     @Override
     public GenericResultsetData fillGenericResultSet(final String sql) {
@@ -92,13 +103,81 @@ public class GenericDataServiceImpl implements GenericDataService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long streamGenericResultSet(final String sql, final ResultsetRowHandler rowHandler) {
+        // a read-only transaction lets PostgreSQL use a server side cursor, MariaDB streams the rows with the fetch size alone
+        final int fetchSize = fineractProperties.getReport().getExport().getFetchSize();
+        try {
+            final Long rowCount = this.jdbcTemplate.query(connection -> {
+                final PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, // NOSONAR
+                        ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, rs -> {
+                final ResultSetMetaData rsmd = rs.getMetaData();
+                final List<ResultsetColumnHeaderData> columnHeaders = new ArrayList<>();
+                for (int i = 0; i < rsmd.getColumnCount(); i++) {
+                    columnHeaders.add(ResultsetColumnHeaderData.basic(rsmd.getColumnName(i + 1), rsmd.getColumnTypeName(i + 1),
+                            databaseTypeResolver.databaseType()));
+                }
+                try {
+                    rowHandler.handleColumnHeaders(columnHeaders);
+                    long count = 0;
+                    while (rs.next()) {
+                        rowHandler.handleRow(readRow(rs, columnHeaders));
+                        count++;
+                    }
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return rowCount == null ? 0 : rowCount;
+        } catch (DataAccessException e) {
+            log.error("Reporting error: {}", e.getMessage());
+            throw ErrorHandler.getMappable(e, "error.msg.report.unknown.data.integrity.issue", e.getClass().getName(), null, e);
+        }
+    }
+
+    private static List<Object> readRow(final ResultSet rs, final List<ResultsetColumnHeaderData> columnHeaders) throws SQLException {
+        final List<Object> columnValues = new ArrayList<>(columnHeaders.size());
+        for (int i = 0; i < columnHeaders.size(); i++) {
+            final JdbcJavaType colType = columnHeaders.get(i).getColumnType();
+            final Object value = rs.getObject(i + 1);
+            if (colType == DATE) {
+                columnValues.add(value == null ? null : ((Date) value).toLocalDate());
+            } else if (colType == DATETIME || colType == TIMESTAMP) {
+                columnValues.add(value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value);
+            } else {
+                columnValues.add(value);
+            }
+        }
+        return columnValues;
+    }
+
     @Override
     public List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(final String tableName) {
+        final DatabaseType dialect = databaseTypeResolver.databaseType();
+        final List<ResultsetColumnHeaderData> columnHeaders = new ArrayList<>();
+
+        for (final ColumnDefinition column : datatableMetadataCache.getColumnDefinitions(tableName, this::retrieveColumnDefinitions)) {
+            final String codeName = column.getCodeName();
+            final List<ResultsetColumnValueData> columnValues = codeName == null ? new ArrayList<>() : retrieveCodeValues(codeName);
+
+            columnHeaders.add(ResultsetColumnHeaderData.detailed(column.getColumnName(), column.getColumnType(), column.getColumnLength(),
+                    column.isNullable(), column.isPrimaryKey(), columnValues, codeName, column.isUnique(), column.isIndexed(), dialect));
+        }
+
+        return columnHeaders;
+    }
+
+    private List<ColumnDefinition> retrieveColumnDefinitions(final String tableName) {
         final SqlRowSet columnDefinitions = getTableMetaData(tableName);
         final List<IndexDetail> indexDefinitions = getDatatableIndexData(tableName);
 
         DatabaseType dialect = databaseTypeResolver.databaseType();
-        final List<ResultsetColumnHeaderData> columnHeaders = new ArrayList<>();
+        final List<ColumnDefinition> columns = new ArrayList<>();
 
         columnDefinitions.beforeFirst();
         while (columnDefinitions.next()) {
@@ -119,19 +198,17 @@ public class GenericDataServiceImpl implements GenericDataService {
                     || isExplicitlyIndexed(tableName, columnName, indexDefinitions);
             JdbcJavaType jdbcType = JdbcJavaType.getByTypeName(dialect, columnType, false);
 
-            List<ResultsetColumnValueData> columnValues = new ArrayList<>();
             String codeName = null;
             final int codePosition = columnName.indexOf("_cd");
             if (codePosition > 0 && jdbcType != null && (jdbcType.isVarcharType() || jdbcType.isIntegerType())) {
                 codeName = columnName.substring(0, codePosition);
-                columnValues = retrieveCodeValues(codeName);
             }
 
-            columnHeaders.add(ResultsetColumnHeaderData.detailed(columnName, columnType, columnLength, columnNullable, columnIsPrimaryKey,
-                    columnValues, codeName, columnIsUnique, columnIsIndexed, dialect));
+            columns.add(new ColumnDefinition(columnName, columnType, columnLength, columnNullable, columnIsPrimaryKey, columnIsUnique,
+                    columnIsIndexed, codeName));
         }
 
-        return columnHeaders;
+        return columns;
     }
 
     @NotNull
@@ -204,53 +281,9 @@ public class GenericDataServiceImpl implements GenericDataService {
         final List<ResultsetColumnHeaderData> columnHeaders = grs.getColumnHeaders();
 
         final List<ResultsetRowData> data = grs.getData();
-        List<Object> row;
-        Integer rSize;
-        final String doubleQuote = "\"";
-        final String slashDoubleQuote = "\\\"";
-        ResultsetColumnHeaderData.DisplayType colDisplayType;
-        Object currVal;
-
         for (int i = 0; i < data.size(); i++) {
             writer.append("\n{");
-
-            row = data.get(i).getRow();
-            rSize = row.size();
-            for (int j = 0; j < rSize; j++) {
-                ResultsetColumnHeaderData columnHeader = columnHeaders.get(j);
-                writer.append(doubleQuote + columnHeader.getColumnName() + doubleQuote + ": ");
-                colDisplayType = columnHeader.getColumnDisplayType();
-                final JdbcJavaType colType = columnHeader.getColumnType();
-                if (colDisplayType == null) {
-                    colDisplayType = ResultsetColumnHeaderData.calcColumnDisplayType(colType);
-                }
-                currVal = row.get(j);
-                if (currVal != null && colDisplayType != null) {
-                    if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATE) {
-                        final LocalDate localDate = (LocalDate) currVal;
-                        writer.append(format("[%d,%d,%d]", localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
-                    } else if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATETIME) {
-                        final LocalDateTime localDateTime = (LocalDateTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d,%d,%d,%d]", localDateTime.getYear(), localDateTime.getMonthValue(),
-                                localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(),
-                                localDateTime.getSecond(), localDateTime.getNano()));
-                    } else if (colDisplayType == TIME) {
-                        final LocalTime localTime = (LocalTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d]", localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
-                                localTime.getNano()));
-                    } else if (colDisplayType == DECIMAL || colDisplayType == INTEGER || colDisplayType == CODELOOKUP) {
-                        writer.append(currVal);
-                    } else {
-                        writer.append(doubleQuote + replace(String.valueOf(currVal), doubleQuote, slashDoubleQuote) + doubleQuote);
-                    }
-                } else {
-                    writer.append("null");
-                }
-                if (j < (rSize - 1)) {
-                    writer.append(",\n");
-                }
-            }
-
+            appendJsonRow(writer, columnHeaders, data.get(i).getRow());
             if (i < (data.size() - 1)) {
                 writer.append("},");
             } else {
@@ -262,6 +295,56 @@ public class GenericDataServiceImpl implements GenericDataService {
         return writer.toString();
     }
 
+    @Override
+    public String generateJsonFromGenericResultsetRow(final List<ResultsetColumnHeaderData> columnHeaders, final List<Object> row) {
+        final StringBuilder writer = new StringBuilder();
+        appendJsonRow(writer, columnHeaders, row);
+        return writer.toString();
+    }
+
+    private void appendJsonRow(final StringBuilder writer, final List<ResultsetColumnHeaderData> columnHeaders, final List<Object> row) {
+        final String doubleQuote = "\"";
+        final String slashDoubleQuote = "\\\"";
+        ResultsetColumnHeaderData.DisplayType colDisplayType;
+        Object currVal;
+
+        final int rSize = row.size();
+        for (int j = 0; j < rSize; j++) {
+            ResultsetColumnHeaderData columnHeader = columnHeaders.get(j);
+            writer.append(doubleQuote + columnHeader.getColumnName() + doubleQuote + ": ");
+            colDisplayType = columnHeader.getColumnDisplayType();
+            final JdbcJavaType colType = columnHeader.getColumnType();
+            if (colDisplayType == null) {
+                colDisplayType = ResultsetColumnHeaderData.calcColumnDisplayType(colType);
+            }
+            currVal = row.get(j);
+            if (currVal != null && colDisplayType != null) {
+                if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATE) {
+                    final LocalDate localDate = (LocalDate) currVal;
+                    writer.append(format("[%d,%d,%d]", localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
+                } else if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATETIME) {
+                    final LocalDateTime localDateTime = (LocalDateTime) currVal;
+                    writer.append(format("[%d,%d,%d,%d,%d,%d,%d]", localDateTime.getYear(), localDateTime.getMonthValue(),
+                            localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(),
+                            localDateTime.getNano()));
+                } else if (colDisplayType == TIME) {
+                    final LocalTime localTime = (LocalTime) currVal;
+                    writer.append(format("[%d,%d,%d,%d]", localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
+                            localTime.getNano()));
+                } else if (colDisplayType == DECIMAL || colDisplayType == INTEGER || colDisplayType == CODELOOKUP) {
+                    writer.append(currVal);
+                } else {
+                    writer.append(doubleQuote + replace(String.valueOf(currVal), doubleQuote, slashDoubleQuote) + doubleQuote);
+                }
+            } else {
+                writer.append("null");
+            }
+            if (j < (rSize - 1)) {
+                writer.append(",\n");
+            }
+        }
+    }
+
     private boolean isExplicitlyUnique(String tableName, String columnName, List<IndexDetail> indexDefinitions) {
         String keyNameToCheck = datatableKeywordGenerator.generateUniqueKeyName(tableName, columnName);
         return checkKeyPresent(keyNameToCheck, indexDefinitions);
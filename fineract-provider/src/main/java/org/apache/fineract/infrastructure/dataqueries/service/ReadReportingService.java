@@ -47,6 +47,15 @@ public interface ReadReportingService {
     GenericResultsetData retrieveGenericResultset(String name, String type, Map<String, String> extractedQueryParams,
             boolean isSelfServiceUserReport);
 
+    /**
+     * Runs the report like {@link #retrieveGenericResultset(String, String, Map, boolean)}, but hands the rows to the row
+     * handler one by one as they are read from the database.
+     *
+     * @return the number of rows read
+     */
+    long streamGenericResultset(String name, String type, Map<String, String> extractedQueryParams, boolean isSelfServiceUserReport,
+            ResultsetRowHandler rowHandler);
+
     // TODO This is weird, could they not be using the retrieveGenericResultset() above after all?
     // needed for smsCampaign and emailCampaign jobs where securityContext is null
     GenericResultsetData retrieveGenericResultSetForSmsEmailCampaign(String name, String type, Map<String, String> extractedQueryParams);
@@ -27,7 +27,6 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
@@ -41,19 +40,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
-import org.apache.fineract.infrastructure.core.service.database.JdbcJavaType;
 import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
 import org.apache.fineract.infrastructure.dataqueries.data.ReportData;
 import org.apache.fineract.infrastructure.dataqueries.data.ReportParameterData;
 import org.apache.fineract.infrastructure.dataqueries.data.ReportParameterJoinData;
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
-import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.exception.ReportNotFoundException;
+import org.apache.fineract.infrastructure.dataqueries.service.export.ReportExportMetrics;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.infrastructure.security.service.SqlInjectionPreventerService;
 import org.apache.fineract.infrastructure.security.utils.LogParameterEscapeUtil;
@@ -70,41 +69,46 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ReadReportingServiceImpl implements ReadReportingService {
 
+    private static final int PDF_ROWS_PER_WRITE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
     private final PlatformSecurityContext context;
     private final GenericDataService genericDataService;
     private final SqlInjectionPreventerService sqlInjectionPreventerService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final FineractProperties fineractProperties;
+    private final ReportExportMetrics reportExportMetrics;
 
     @Override
     public StreamingOutput retrieveReportCSV(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
         return out -> {
-            try {
-                final GenericResultsetData result = retrieveGenericResultset(name, type, queryParams, isSelfServiceUserReport);
-                generateCsvFileBuffer(result, out);
+            final CountingOutputStream countingOut = new CountingOutputStream(out);
+            try (CSVPrinter printer = new CSVPrinter(new OutputStreamWriter(countingOut, StandardCharsets.UTF_8), CSVFormat.EXCEL)) {
+                final long rowCount = streamGenericResultset(name, type, queryParams, isSelfServiceUserReport, new ResultsetRowHandler() {
+
+                    @Override
+                    public void handleColumnHeaders(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+                        final List<String> header = new ArrayList<>();
+                        for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
+                            header.add(columnHeader.getColumnName());
+                        }
+                        printer.printRecord(header);
+                    }
+
+                    @Override
+                    public void handleRow(final List<Object> row) throws IOException {
+                        printer.printRecord(row);
+                    }
+                });
+                printer.flush();
+                reportExportMetrics.recordExport("csv", rowCount, countingOut.getByteCount());
             } catch (final Exception e) {
                 throw ErrorHandler.getMappable(e);
             }
         };
     }
 
-    private void generateCsvFileBuffer(final GenericResultsetData result, OutputStream out) throws IOException {
-        try (CSVPrinter printer = new CSVPrinter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSVFormat.EXCEL)) {
-            final List<ResultsetColumnHeaderData> columnHeaders = result.getColumnHeaders();
-            final List<ResultsetRowData> data = result.getData();
-            final List<String> header = new ArrayList<>();
-            for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
-                header.add(columnHeader.getColumnName());
-            }
-            printer.printRecord(header);
-            for (final ResultsetRowData row : data) {
-                printer.printRecord(row.getRow());
-            }
-        }
-    }
-
     @Override
     public GenericResultsetData retrieveGenericResultset(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
@@ -127,6 +131,27 @@ public class ReadReportingServiceImpl implements ReadReportingService {
         return result;
     }
 
+    @Override
+    public long streamGenericResultset(final String name, final String type, final Map<String, String> queryParams,
+            final boolean isSelfServiceUserReport, final ResultsetRowHandler rowHandler) {
+        final long startTime = System.currentTimeMillis();
+        if (log.isDebugEnabled()) {
+            log.debug("STARTING REPORT STREAM: {}   Type: {}", LogParameterEscapeUtil.escapeLogParameter(name),
+                    LogParameterEscapeUtil.escapeLogParameter(type));
+        }
+
+        final String sql = getSQLtoRun(name, type, queryParams, isSelfServiceUserReport);
+
+        final long rowCount = this.genericDataService.streamGenericResultSet(sql, rowHandler);
+
+        final long elapsed = System.currentTimeMillis() - startTime;
+        if (log.isDebugEnabled()) {
+            log.debug("FINISHING Report/Request Name: {} - {}     Rows: {}     Elapsed Time: {}",
+                    LogParameterEscapeUtil.escapeLogParameter(name), type.replaceAll("[\n\r\t]", "_"), rowCount, elapsed);
+        }
+        return rowCount;
+    }
+
     private String getSQLtoRun(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
 
@@ -201,47 +226,16 @@ public class ReadReportingServiceImpl implements ReadReportingService {
         final String genaratePdf = fileLocation + File.separator + reportName + ".pdf";
 
         try {
-            final GenericResultsetData result = retrieveGenericResultset(reportName, type, queryParams, isSelfServiceUserReport);
-
-            final List<ResultsetColumnHeaderData> columnHeaders = result.getColumnHeaders();
-            final List<ResultsetRowData> data = result.getData();
-            List<Object> row;
-
-            log.debug("NO. of Columns: {}", columnHeaders.size());
-            final Integer chSize = columnHeaders.size();
-
             final Document document = new Document(PageSize.B0.rotate());
 
             String validatedFileName = ESAPI.encoder().encodeForOS(new UnixCodec(), reportName);
             PdfWriter.getInstance(document, new FileOutputStream(fileLocation + validatedFileName + ".pdf"));
             document.open();
 
-            final PdfPTable table = new PdfPTable(chSize);
-            table.setWidthPercentage(100);
-
-            for (int i = 0; i < chSize; i++) {
-
-                table.addCell(columnHeaders.get(i).getColumnName());
-
-            }
-            table.completeRow();
-
-            Integer rSize;
-            JdbcJavaType currColType;
-            String currVal;
-            log.debug("NO. of Rows: {}", data.size());
-            for (ResultsetRowData element : data) {
-                row = element.getRow();
-                rSize = row.size();
-                for (int j = 0; j < rSize; j++) {
-                    currVal = (String) row.get(j);
-                    if (currVal != null) {
-                        table.addCell(currVal);
-                    }
-                }
-            }
-            table.completeRow();
-            document.add(table);
+            final PdfTableRowHandler pdfTableRowHandler = new PdfTableRowHandler(document);
+            final long rowCount = streamGenericResultset(reportName, type, queryParams, isSelfServiceUserReport, pdfTableRowHandler);
+            log.debug("NO. of Rows: {}", rowCount);
+            pdfTableRowHandler.finish();
             document.close();
             return genaratePdf;
         } catch (final Exception e) {
@@ -513,4 +507,58 @@ public class ReadReportingServiceImpl implements ReadReportingService {
          */
         return null;
     }
+
+    /**
+     * Adds the report rows to an incomplete PDF table which is written to the document every
+     * {@value #PDF_ROWS_PER_WRITE} rows, so that the rows already written can be released.
+     */
+    @RequiredArgsConstructor
+    private static final class PdfTableRowHandler implements ResultsetRowHandler {
+
+        private final Document document;
+        private PdfPTable table;
+        private int pendingRows;
+
+        @Override
+        public void handleColumnHeaders(final List<ResultsetColumnHeaderData> columnHeaders) {
+            log.debug("NO. of Columns: {}", columnHeaders.size());
+            table = new PdfPTable(columnHeaders.size());
+            table.setWidthPercentage(100);
+            table.setComplete(false);
+            for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
+                table.addCell(columnHeader.getColumnName());
+            }
+            table.completeRow();
+        }
+
+        @Override
+        public void handleRow(final List<Object> row) throws IOException {
+            for (final Object value : row) {
+                final String currVal = (String) value;
+                if (currVal != null) {
+                    table.addCell(currVal);
+                }
+            }
+            if (++pendingRows == PDF_ROWS_PER_WRITE) {
+                addTableToDocument();
+                pendingRows = 0;
+            }
+        }
+
+        void finish() throws IOException {
+            table.completeRow();
+            table.setComplete(true);
+            addTableToDocument();
+        }
+
+        private void addTableToDocument() throws IOException {
+            try {
+                document.add(table);
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new IOException(e);
+            }
+        }
+    }
 }
@@ -21,15 +21,25 @@ package org.apache.fineract.infrastructure.dataqueries.service.export;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.fineract.infrastructure.core.api.ApiParameterHelper;
+import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
-import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
 import org.apache.fineract.infrastructure.dataqueries.data.ReportData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.service.DatatableExportTargetParameter;
 import org.apache.fineract.infrastructure.dataqueries.service.GenericDataService;
 import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
+import org.apache.fineract.infrastructure.dataqueries.service.ResultsetRowHandler;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -39,33 +49,108 @@ public class JsonDatatableReportExportService implements DatatableReportExportSe
     private final ReadReportingService readExtraDataAndReportingService;
     private final ToApiJsonSerializer<ReportData> toApiJsonSerializer;
     private final GenericDataService genericDataService;
+    private final ReportExportMetrics reportExportMetrics;
 
     @Override
     public ResponseHolder export(String reportName, MultivaluedMap<String, String> queryParams, Map<String, String> reportParams,
             boolean isSelfServiceUserReport, String parameterTypeValue) {
-
-        final GenericResultsetData result = this.readExtraDataAndReportingService.retrieveGenericResultset(reportName, parameterTypeValue,
-                reportParams, isSelfServiceUserReport);
         DatatableExportTargetParameter exportMode = DatatableExportTargetParameter.resolverExportTarget(queryParams);
         boolean prettyPrint = exportMode == DatatableExportTargetParameter.PRETTY_JSON;
-        String json;
         final boolean genericResultSetIsPassed = ApiParameterHelper.genericResultSetPassed(queryParams);
         final boolean genericResultSet = ApiParameterHelper.genericResultSet(queryParams);
-        if (genericResultSetIsPassed) {
-            if (genericResultSet) {
-                json = this.toApiJsonSerializer.serializePretty(prettyPrint, result);
-            } else {
-                json = this.genericDataService.generateJsonFromGenericResultsetData(result);
-            }
-        } else {
-            json = this.toApiJsonSerializer.serializePretty(prettyPrint, result);
-        }
-        return new ResponseHolder(Response.Status.OK).entity(json).contentType(MediaType.APPLICATION_JSON);
+        final boolean plainJson = genericResultSetIsPassed && !genericResultSet;
 
+        final StreamingOutput result = out -> {
+            final CountingOutputStream countingOut = new CountingOutputStream(out);
+            try (Writer writer = new OutputStreamWriter(countingOut, StandardCharsets.UTF_8)) {
+                final JsonRowHandler rowHandler = plainJson ? new PlainJsonRowHandler(writer)
+                        : new GenericResultsetJsonRowHandler(writer, prettyPrint);
+                final long rowCount = this.readExtraDataAndReportingService.streamGenericResultset(reportName, parameterTypeValue,
+                        reportParams, isSelfServiceUserReport, rowHandler);
+                rowHandler.finish();
+                writer.flush();
+                reportExportMetrics.recordExport("json", rowCount, countingOut.getByteCount());
+            } catch (final Exception e) {
+                throw ErrorHandler.getMappable(e);
+            }
+        };
+        return new ResponseHolder(Response.Status.OK).entity(result).contentType(MediaType.APPLICATION_JSON);
     }
 
     @Override
     public boolean supports(DatatableExportTargetParameter exportType) {
         return exportType == DatatableExportTargetParameter.JSON || exportType == DatatableExportTargetParameter.PRETTY_JSON;
     }
+
+    private abstract static class JsonRowHandler implements ResultsetRowHandler {
+
+        abstract void finish() throws IOException;
+    }
+
+    /**
+     * Writes the rows in the format of {@link GenericDataService#generateJsonFromGenericResultsetData}.
+     */
+    @RequiredArgsConstructor
+    private final class PlainJsonRowHandler extends JsonRowHandler {
+
+        private final Writer writer;
+        private List<ResultsetColumnHeaderData> columnHeaders;
+        private boolean first = true;
+
+        @Override
+        public void handleColumnHeaders(List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+            this.columnHeaders = columnHeaders;
+            writer.write("[");
+        }
+
+        @Override
+        public void handleRow(List<Object> row) throws IOException {
+            if (!first) {
+                writer.write("},");
+            }
+            first = false;
+            writer.write("\n{");
+            writer.write(genericDataService.generateJsonFromGenericResultsetRow(columnHeaders, row));
+        }
+
+        @Override
+        void finish() throws IOException {
+            if (!first) {
+                writer.write("}");
+            }
+            writer.write("\n]");
+        }
+    }
+
+    /**
+     * Writes the rows in the format of the serialized {@code GenericResultsetData}, every row is serialized on its own.
+     */
+    @RequiredArgsConstructor
+    private final class GenericResultsetJsonRowHandler extends JsonRowHandler {
+
+        private final Writer writer;
+        private final boolean prettyPrint;
+        private boolean first = true;
+
+        @Override
+        public void handleColumnHeaders(List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+            writer.write("{\"columnHeaders\":");
+            writer.write(toApiJsonSerializer.serializePretty(prettyPrint, columnHeaders));
+            writer.write(",\"data\":[");
+        }
+
+        @Override
+        public void handleRow(List<Object> row) throws IOException {
+            if (!first) {
+                writer.write(",");
+            }
+            first = false;
+            writer.write(toApiJsonSerializer.serializePretty(prettyPrint, ResultsetRowData.create(row)));
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.write("]}");
+        }
+    }
 }
@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service.export;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReportExportMetrics {
+
+    public static final String ROWS_METRIC = "fineract.report.export.rows";
+    public static final String BYTES_METRIC = "fineract.report.export.bytes";
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordExport(String format, long rowCount, long byteCount) {
+        Counter.builder(ROWS_METRIC).description("Number of exported report rows").tag("format", format).register(meterRegistry)
+                .increment(rowCount);
+        Counter.builder(BYTES_METRIC).description("Size of the exported reports").baseUnit("bytes").tag("format", format)
+                .register(meterRegistry).increment(byteCount);
+    }
+}
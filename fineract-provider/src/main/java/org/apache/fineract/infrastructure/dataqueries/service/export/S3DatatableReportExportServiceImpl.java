@@ -21,7 +21,6 @@ package org.apache.fineract.infrastructure.dataqueries.service.export;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -29,7 +28,6 @@ import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDoma
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.dataqueries.service.DatatableExportTargetParameter;
 import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
-import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 
 @RequiredArgsConstructor
@@ -46,21 +44,23 @@ public class S3DatatableReportExportServiceImpl implements DatatableReportExport
     @Override
     public ResponseHolder export(String reportName, MultivaluedMap<String, String> queryParams, Map<String, String> reportParams,
             boolean isSelfServiceUserReport, String parameterTypeValue) {
+        StreamingOutput output = this.readExtraDataAndReportingService.retrieveReportCSV(reportName, parameterTypeValue, reportParams,
+                isSelfServiceUserReport);
+        String folder = configurationDomainService.retrieveReportExportS3FolderName();
+        String filePath = DatatableExportUtil.generateS3DatatableExportFileName(AWS_S3_MAXIMUM_KEY_LENGTH, folder, "csv", reportName,
+                reportParams);
+        S3MultipartUploadOutputStream uploadStream = new S3MultipartUploadOutputStream(s3Client,
+                properties.getReport().getExport().getS3().getBucketName(), filePath);
         try {
-            StreamingOutput output = this.readExtraDataAndReportingService.retrieveReportCSV(reportName, parameterTypeValue, reportParams,
-                    isSelfServiceUserReport);
-            try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
-                output.write(byteArrayOutputStream);
-                String folder = configurationDomainService.retrieveReportExportS3FolderName();
-                String filePath = DatatableExportUtil.generateS3DatatableExportFileName(AWS_S3_MAXIMUM_KEY_LENGTH, folder, "csv",
-                        reportName, reportParams);
-                s3Client.putObject(
-                        builder -> builder.bucket(properties.getReport().getExport().getS3().getBucketName()).key(filePath).build(),
-                        RequestBody.fromBytes(byteArrayOutputStream.toByteArray()));
-                return new ResponseHolder(Response.Status.NO_CONTENT);
-            }
+            output.write(uploadStream);
+            uploadStream.complete();
+            return new ResponseHolder(Response.Status.NO_CONTENT);
         } catch (IOException e) {
+            uploadStream.abort();
             throw new IllegalStateException("Error while exporting to S3", e);
+        } catch (RuntimeException e) {
+            uploadStream.abort();
+            throw e;
         }
     }
 
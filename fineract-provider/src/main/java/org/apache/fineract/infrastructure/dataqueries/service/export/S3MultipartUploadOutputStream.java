@@ -0,0 +1,152 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * Output stream uploading the written bytes to S3 in parts, so only a single part is kept in memory at a time.
+ *
+ * Closing the stream does not finish the upload, because writers close the stream on failures as well: the caller has to
+ * {@link #complete()} the upload on success or {@link #abort()} it otherwise. If less than a single part was written, the content
+ * is uploaded with a simple put instead of a multipart upload.
+ */
+@Slf4j
+public class S3MultipartUploadOutputStream extends OutputStream {
+
+    /**
+     * S3 requires every part except the last one to be at least 5 MiB.
+     */
+    public static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String key;
+    private final byte[] buffer;
+    private final List<CompletedPart> completedParts = new ArrayList<>();
+    private int position;
+    private String uploadId;
+    private boolean closed;
+
+    public S3MultipartUploadOutputStream(S3Client s3Client, String bucketName, String key) {
+        this(s3Client, bucketName, key, DEFAULT_PART_SIZE);
+    }
+
+    public S3MultipartUploadOutputStream(S3Client s3Client, String bucketName, String key, int partSize) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.buffer = new byte[partSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (position == buffer.length) {
+            uploadPart();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (position == buffer.length) {
+                uploadPart();
+            }
+            int count = Math.min(len, buffer.length - position);
+            System.arraycopy(b, off, buffer, position, count);
+            position += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Uploads the remaining buffered bytes and finishes the upload.
+     */
+    public void complete() {
+        closed = true;
+        if (uploadId == null) {
+            s3Client.putObject(PutObjectRequest.builder().bucket(bucketName).key(key).build(),
+                    RequestBody.fromBytes(Arrays.copyOf(buffer, position)));
+        } else {
+            if (position > 0) {
+                uploadPart();
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder().bucket(bucketName).key(key).uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build()).build());
+        }
+        position = 0;
+    }
+
+    /**
+     * Discards the already uploaded parts, so S3 does not keep them around.
+     */
+    public void abort() {
+        closed = true;
+        if (uploadId != null) {
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(bucketName).key(key).uploadId(uploadId).build());
+            } catch (RuntimeException e) {
+                log.warn("Failed to abort multipart upload {} of {}", uploadId, key, e);
+            }
+        }
+        position = 0;
+    }
+
+    private void uploadPart() {
+        if (uploadId == null) {
+            CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder().bucket(bucketName).key(key).build();
+            uploadId = s3Client.createMultipartUpload(request).uploadId();
+        }
+        int partNumber = completedParts.size() + 1;
+        UploadPartRequest request = UploadPartRequest.builder().bucket(bucketName).key(key).uploadId(uploadId).partNumber(partNumber)
+                .build();
+        String eTag = s3Client.uploadPart(request, RequestBody.fromBytes(Arrays.copyOf(buffer, position))).eTag();
+        completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+        position = 0;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -18,12 +18,18 @@
  */
 package org.apache.fineract.infrastructure.event.external.config;
 
+import static org.apache.kafka.clients.producer.ProducerConfig.BATCH_SIZE_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.COMPRESSION_TYPE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.LINGER_MS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION;
 import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
 
 import java.util.HashMap;
 import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.LongSerializer;
@@ -50,6 +56,22 @@ public class ExternalEventKafkaConfiguration {
         props.put(BOOTSTRAP_SERVERS_CONFIG, kafkaProp.getBootstrapServers());
         props.put(KEY_SERIALIZER_CLASS_CONFIG, LongSerializer.class);
         props.put(VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        // the dedicated tuning properties take precedence over the extra properties
+        if (StringUtils.isNotBlank(kafkaProp.getCompressionType())) {
+            props.put(COMPRESSION_TYPE_CONFIG, kafkaProp.getCompressionType());
+        }
+        if (kafkaProp.getLingerMs() != null) {
+            props.put(LINGER_MS_CONFIG, kafkaProp.getLingerMs());
+        }
+        if (kafkaProp.getBatchSize() != null) {
+            props.put(BATCH_SIZE_CONFIG, kafkaProp.getBatchSize());
+        }
+        if (kafkaProp.getMaxInFlightRequestsPerConnection() != null) {
+            props.put(MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, kafkaProp.getMaxInFlightRequestsPerConnection());
+        }
+        if (kafkaProp.getIdempotenceEnabled() != null) {
+            props.put(ENABLE_IDEMPOTENCE_CONFIG, kafkaProp.getIdempotenceEnabled());
+        }
         return new DefaultKafkaProducerFactory<>(props);
     }
 
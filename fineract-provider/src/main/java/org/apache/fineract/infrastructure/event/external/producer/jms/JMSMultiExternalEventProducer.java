@@ -20,6 +20,9 @@ package org.apache.fineract.infrastructure.event.external.producer.jms;
 
 import static org.apache.fineract.infrastructure.core.diagnostics.performance.MeasuringUtil.measure;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.Destination;
@@ -28,21 +31,25 @@ import jakarta.jms.MessageProducer;
 import jakarta.jms.Session;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsProducerJmsProperties;
 import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
 import org.apache.fineract.infrastructure.core.messaging.jms.MessageFactory;
 import org.apache.fineract.infrastructure.core.service.HashingService;
 import org.apache.fineract.infrastructure.event.external.exception.AcknowledgementTimeoutException;
 import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.task.AsyncTaskExecutor;
@@ -52,7 +59,10 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @RequiredArgsConstructor
 @ConditionalOnProperty(value = "fineract.events.external.producer.jms.enabled", havingValue = "true")
-public class JMSMultiExternalEventProducer implements ExternalEventProducer {
+public class JMSMultiExternalEventProducer implements ExternalEventProducer, DisposableBean {
+
+    public static final String SENT_METRIC = "fineract.external.events.jms.sent";
+    public static final String SEND_DURATION_METRIC = "fineract.external.events.jms.send.duration";
 
     @Qualifier("externalEventDestination")
     private final Destination destination;
@@ -69,20 +79,30 @@ public class JMSMultiExternalEventProducer implements ExternalEventProducer {
 
     private final FineractProperties fineractProperties;
 
+    private final MeterRegistry meterRegistry;
+
+    // Sessions kept alive between the batches when the pooled mode is enabled
+    private final Deque<JmsProducer> idleProducers = new ConcurrentLinkedDeque<>();
+
+    private FineractExternalEventsProducerJmsProperties getJmsProperties() {
+        return fineractProperties.getEvents().getExternal().getProducer().getJms();
+    }
+
     private int getProducerCount() {
-        return fineractProperties.getEvents().getExternal().getProducer().getJms().getProducerCount();
+        return getJmsProperties().getProducerCount();
     }
 
     @Override
     public void sendEvents(Map<Long, List<byte[]>> partitions) throws AcknowledgementTimeoutException {
         Map<Integer, List<byte[]>> indexedPartitions = mapPartitionsToProducers(partitions);
         measure(() -> {
-            List<Pair<Session, MessageProducer>> producersWithSessions = obtainProducers();
-            List<MessageProducer> producers = producersWithSessions.stream().map(Pair::getRight).collect(Collectors.toList());
-            List<Session> sessions = producersWithSessions.stream().map(Pair::getLeft).collect(Collectors.toList());
-            List<Future<?>> tasks = sendPartitions(indexedPartitions, producers);
-            waitForSendingCompletion(tasks);
-            closeSessions(sessions);
+            List<JmsProducer> producers = obtainProducers();
+            try {
+                List<Future<?>> tasks = sendPartitions(indexedPartitions, producers);
+                waitForSendingCompletion(tasks);
+            } finally {
+                releaseProducers(producers);
+            }
         }, timeTaken -> {
             if (log.isDebugEnabled()) {
                 int eventCount = partitions.values().stream().map(Collection::size).reduce(0, Integer::sum);
@@ -92,62 +112,121 @@ public class JMSMultiExternalEventProducer implements ExternalEventProducer {
         });
     }
 
-    private void closeSessions(List<Session> sessions) {
+    @Override
+    public void destroy() {
+        JmsProducer producer;
+        while ((producer = idleProducers.poll()) != null) {
+            closeSession(producer);
+        }
+    }
+
+    private void releaseProducers(List<JmsProducer> producers) {
+        boolean pooled = getJmsProperties().isPooledProducersEnabled();
+        for (JmsProducer producer : producers) {
+            if (pooled && !producer.isBroken() && idleProducers.size() < getProducerCount()) {
+                idleProducers.offer(producer);
+            } else {
+                closeSession(producer);
+            }
+        }
+    }
+
+    private void closeSession(JmsProducer producer) {
         // The sessions retrieved from a CachingConnectionFactory needs to be explicitly closed, otherwise we're making
         // orphan sessions, leaking memory
-        for (Session session : sessions) {
-            try {
-                session.close();
-            } catch (JMSException e) {
-                log.error("Exception while trying to close sessions", e);
-            }
+        try {
+            producer.getSession().close();
+        } catch (JMSException e) {
+            log.error("Exception while trying to close sessions", e);
         }
     }
 
-    private List<Pair<Session, MessageProducer>> obtainProducers() {
-        List<Pair<Session, MessageProducer>> result = new ArrayList<>();
+    private List<JmsProducer> obtainProducers() {
+        List<JmsProducer> result = new ArrayList<>();
         int producerCount = getProducerCount();
-        try {
-            // No need to close the connection since it's a pooled one
-            Connection connection = connectionFactory.createConnection();
-            for (int i = 0; i < producerCount; i++) {
-                // It's crucial to create the session within the loop, otherwise the producers won't be handled as
-                // parallel
-                // producers
-                Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-                MessageProducer producer = session.createProducer(destination);
-                result.add(new ImmutablePair<>(session, producer));
+        if (getJmsProperties().isPooledProducersEnabled()) {
+            JmsProducer producer;
+            while (result.size() < producerCount && (producer = idleProducers.poll()) != null) {
+                result.add(producer);
+            }
+        }
+        if (result.size() < producerCount) {
+            try {
+                // No need to close the connection since it's a pooled one
+                Connection connection = connectionFactory.createConnection();
+                boolean transacted = getJmsProperties().isTransactedSendEnabled();
+                while (result.size() < producerCount) {
+                    // It's crucial to create the session within the loop, otherwise the producers won't be handled as
+                    // parallel producers
+                    Session session = transacted ? connection.createSession(true, Session.SESSION_TRANSACTED)
+                            : connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+                    MessageProducer producer = session.createProducer(destination);
+                    result.add(new JmsProducer(session, producer));
+                }
+            } catch (JMSException e) {
+                releaseProducers(result);
+                throw new RuntimeException("Error while obtaining message producers", e);
             }
-        } catch (JMSException e) {
-            throw new RuntimeException("Error while obtaining message producers", e);
         }
         return result;
     }
 
-    private List<Future<?>> sendPartitions(Map<Integer, List<byte[]>> indexedPartitions, List<MessageProducer> producers) {
+    private List<Future<?>> sendPartitions(Map<Integer, List<byte[]>> indexedPartitions, List<JmsProducer> producers) {
         List<Future<?>> tasks = new ArrayList<>();
         for (Map.Entry<Integer, List<byte[]>> entry : indexedPartitions.entrySet()) {
             Integer producerIndex = entry.getKey();
-            MessageProducer producer = producers.get(producerIndex);
+            JmsProducer producer = producers.get(producerIndex);
             List<byte[]> messages = entry.getValue();
-            Future<?> future = createSendingTask(producer, messages);
+            Future<?> future = createSendingTask(producerIndex, producer, messages);
             tasks.add(future);
         }
         return tasks;
     }
 
-    private Future<?> createSendingTask(MessageProducer messageProducer, List<byte[]> messages) {
+    private Future<?> createSendingTask(Integer producerIndex, JmsProducer jmsProducer, List<byte[]> messages) {
         return taskExecutor.submit(() -> {
-            for (byte[] message : messages) {
-                try {
-                    messageProducer.send(destination, messageFactory.createByteMessage(message));
-                } catch (JMSException e) {
-                    throw new RuntimeException("Error while sending the message", e);
+            long start = System.nanoTime();
+            Session session = jmsProducer.getSession();
+            try {
+                for (byte[] message : messages) {
+                    jmsProducer.getProducer().send(destination, messageFactory.createByteMessage(message));
+                }
+                if (session.getTransacted()) {
+                    // the messages of a producer are delivered to the broker at once
+                    session.commit();
                 }
+            } catch (JMSException | RuntimeException e) {
+                jmsProducer.setBroken(true);
+                rollback(session);
+                throw new RuntimeException("Error while sending the message", e);
+            } finally {
+                recordThroughput(producerIndex, messages.size(), System.nanoTime() - start);
             }
         });
     }
 
+    private void rollback(Session session) {
+        try {
+            if (session.getTransacted()) {
+                session.rollback();
+            }
+        } catch (JMSException e) {
+            log.warn("Exception while rolling back the session", e);
+        }
+    }
+
+    private void recordThroughput(Integer producerIndex, int messageCount, long timeTakenInNanos) {
+        String producer = String.valueOf(producerIndex);
+        Counter.builder(SENT_METRIC).description("Number of external events sent to the JMS broker").tag("producer", producer)
+                .register(meterRegistry).increment(messageCount);
+        Timer.builder(SEND_DURATION_METRIC).description("Time taken by a JMS producer to send its share of a batch")
+                .tag("producer", producer).register(meterRegistry).record(timeTakenInNanos, TimeUnit.NANOSECONDS);
+        if (log.isDebugEnabled()) {
+            int msgPerSec = (int) (messageCount / Math.max(timeTakenInNanos / 1_000_000_000.0, 0.001));
+            log.debug("Producer {} sent {} messages with {} msg/s", producerIndex, messageCount, msgPerSec);
+        }
+    }
+
     private Map<Integer, List<byte[]>> mapPartitionsToProducers(Map<Long, List<byte[]>> partitions) {
         Map<Integer, List<byte[]>> indexedPartitions = new HashMap<>();
         for (Map.Entry<Long, List<byte[]>> partition : partitions.entrySet()) {
@@ -162,12 +241,29 @@ public class JMSMultiExternalEventProducer implements ExternalEventProducer {
     }
 
     private void waitForSendingCompletion(List<Future<?>> tasks) {
-        try {
-            for (Future<?> task : tasks) {
+        // every task has to finish before its producer is released, even if another one failed already
+        Exception failure = null;
+        for (Future<?> task : tasks) {
+            try {
                 task.get();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = e;
+                }
             }
-        } catch (Exception e) {
-            throw new RuntimeException(e);
         }
+        if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class JmsProducer {
+
+        private final Session session;
+        private final MessageProducer producer;
+        @Setter
+        private volatile boolean broken;
     }
 }
@@ -20,19 +20,23 @@ package org.apache.fineract.infrastructure.event.external.producer.kafka;
 
 import static org.apache.fineract.infrastructure.core.diagnostics.performance.MeasuringUtil.measure;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.event.external.exception.AcknowledgementTimeoutException;
+import org.apache.fineract.infrastructure.event.external.exception.PartialAcknowledgementException;
 import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -41,35 +45,52 @@ import org.springframework.stereotype.Component;
 @Component
 @Slf4j
 @ConditionalOnProperty(value = "fineract.events.external.producer.kafka.enabled", havingValue = "true")
-@AllArgsConstructor
 public class KafkaExternalEventProducer implements ExternalEventProducer {
 
-    @Autowired
-    private KafkaTemplate<Long, byte[]> externalEventsKafkaTemplate;
+    public static final String SENT_METRIC = "fineract.external.events.kafka.sent";
+    public static final String ACK_LATENCY_METRIC = "fineract.external.events.kafka.ack.latency";
 
-    @Autowired
-    private FineractProperties fineractProperties;
+    private final KafkaTemplate<Long, byte[]> externalEventsKafkaTemplate;
+    private final FineractProperties fineractProperties;
+    private final Timer ackLatencyTimer;
+    private final Counter sentSuccessCounter;
+    private final Counter sentFailureCounter;
 
+    public KafkaExternalEventProducer(KafkaTemplate<Long, byte[]> externalEventsKafkaTemplate, FineractProperties fineractProperties,
+            MeterRegistry meterRegistry) {
+        this.externalEventsKafkaTemplate = externalEventsKafkaTemplate;
+        this.fineractProperties = fineractProperties;
+        this.ackLatencyTimer = Timer.builder(ACK_LATENCY_METRIC).description("Time until a sent external event is acknowledged by Kafka")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.sentSuccessCounter = sentCounter(meterRegistry, "success");
+        this.sentFailureCounter = sentCounter(meterRegistry, "failure");
+    }
+
+    private static Counter sentCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(SENT_METRIC).description("Number of external events sent to Kafka").tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends the messages of every partition and waits for their acknowledgement until the configured timeout. When the
+     * messages of only some of the partitions could not be acknowledged, a {@link PartialAcknowledgementException} tells
+     * which partitions have to be sent again.
+     */
     @Override
     public void sendEvents(Map<Long, List<byte[]>> partitions) throws AcknowledgementTimeoutException {
         FineractProperties.FineractExternalEventsProducerKafkaProperties kafkaProperties = fineractProperties.getEvents().getExternal()
                 .getProducer().getKafka();
         String topicName = kafkaProperties.getTopic().getName();
-        List<CompletableFuture<SendResult<Long, byte[]>>> sendResults = new ArrayList<>();
+        Map<Long, List<CompletableFuture<SendResult<Long, byte[]>>>> sendResults = new LinkedHashMap<>();
         measure(() -> {
-            Set<Long> keys = partitions.keySet();
             for (Map.Entry<Long, List<byte[]>> entry : partitions.entrySet()) {
+                List<CompletableFuture<SendResult<Long, byte[]>>> partitionSendResults = new ArrayList<>();
                 for (byte[] message : entry.getValue()) {
-                    sendResults.add(externalEventsKafkaTemplate.send(topicName, entry.getKey(), message));
+                    partitionSendResults.add(send(topicName, entry.getKey(), message));
                 }
+                sendResults.put(entry.getKey(), partitionSendResults);
             }
-
-            try {
-                CompletableFuture<Void> allOf = CompletableFuture.allOf(sendResults.toArray(new CompletableFuture[0]));
-                allOf.get(kafkaProperties.getTimeoutInSeconds(), TimeUnit.SECONDS);
-            } catch (Exception exception) {
-                throw new RuntimeException("Could not send the messages", exception);
-            }
+            awaitAcknowledgements(sendResults, kafkaProperties.getTimeoutInSeconds());
         }, timeTaken -> {
             if (log.isDebugEnabled()) {
                 int eventCount = partitions.values().stream().map(Collection::size).reduce(0, Integer::sum);
@@ -78,4 +99,39 @@ public class KafkaExternalEventProducer implements ExternalEventProducer {
             }
         });
     }
+
+    private CompletableFuture<SendResult<Long, byte[]>> send(String topicName, Long key, byte[] message) {
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<Long, byte[]>> sendResult = externalEventsKafkaTemplate.send(topicName, key, message);
+        sendResult.whenComplete((result, exception) -> {
+            ackLatencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            (exception == null ? sentSuccessCounter : sentFailureCounter).increment();
+        });
+        return sendResult;
+    }
+
+    private void awaitAcknowledgements(Map<Long, List<CompletableFuture<SendResult<Long, byte[]>>>> sendResults, int timeoutInSeconds) {
+        // all partitions share the same deadline, a slow partition does not extend the wait for the others
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+        Set<Long> unacknowledgedPartitions = new HashSet<>();
+        Exception failure = null;
+        for (Map.Entry<Long, List<CompletableFuture<SendResult<Long, byte[]>>>> entry : sendResults.entrySet()) {
+            try {
+                CompletableFuture.allOf(entry.getValue().toArray(new CompletableFuture[0]))
+                        .get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while sending the messages", e);
+            } catch (Exception e) {
+                unacknowledgedPartitions.add(entry.getKey());
+                failure = e;
+            }
+        }
+        if (unacknowledgedPartitions.size() == sendResults.size() && failure != null) {
+            throw new RuntimeException("Could not send the messages", failure);
+        } else if (!unacknowledgedPartitions.isEmpty()) {
+            throw new PartialAcknowledgementException("Could not send the messages of " + unacknowledgedPartitions.size() + " partitions",
+                    unacknowledgedPartitions, failure);
+        }
+    }
 }
@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lease of the tenant on which the external events are streamed, so that only one instance of a cluster streams the
+ * events of a tenant even when streaming is enabled on every instance. The lease is a single row of the tenant
+ * database, it is taken over by another instance once its holder did not renew it until it expired.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "fineract.events.external.streaming.enabled", havingValue = "true")
+public class ExternalEventStreamingLease {
+
+    private static final String ACQUIRE_SQL = "update m_external_event_streaming_lease set owner = ?, expires_on_utc = ? where id = 1 "
+            + "and (owner is null or owner = ? or expires_on_utc < ?)";
+    private static final String RELEASE_SQL = "update m_external_event_streaming_lease set owner = null, expires_on_utc = null "
+            + "where id = 1 and owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Acquires or renews the lease of the current tenant.
+     *
+     * @return whether the given owner holds the lease for the given duration
+     */
+    public boolean acquire(final String owner, final long durationInSeconds) {
+        final LocalDateTime now = DateUtils.getAuditLocalDateTime();
+        return jdbcTemplate.update(ACQUIRE_SQL, owner, now.plusSeconds(durationInSeconds), owner, now) == 1;
+    }
+
+    public void release(final String owner) {
+        jdbcTemplate.update(RELEASE_SQL, owner);
+    }
+}
@@ -0,0 +1,416 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.businessdate.service.BusinessDateReadPlatformService;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.apache.fineract.infrastructure.event.external.exception.PartialAcknowledgementException;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Sends the external events continuously instead of one batch per scheduled job run. For every tenant a reader thread
+ * keeps loading the events to be sent with keyset pagination on the id, a sender thread creates and sends the messages
+ * and a third thread marks them as sent, so reading, sending and marking of consecutive batches overlap.
+ * <p>
+ * A sweep reads the events from the lowest id until no more are found, then the next sweep starts from the beginning
+ * again, which picks up the events of transactions that committed after the sweep already passed their ids. A new sweep
+ * only starts when every batch of the previous one was processed, and the rest of a sweep is dropped when sending a
+ * batch fails, so the events of an aggregate root are never sent out of order.
+ * <p>
+ * Streaming may be enabled on every instance of a cluster, the events of a tenant are only read by the instance holding
+ * the {@link ExternalEventStreamingLease} of the tenant, the others stand by until the lease expires. The tenants are
+ * looked up periodically, so tenants added later get their stream without a restart. The scheduled send job skips
+ * sending while streaming is enabled.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "fineract.events.external.streaming.enabled", havingValue = "true")
+public class ExternalEventStreamingSender implements SmartLifecycle {
+
+    public static final String LAG_METRIC = "fineract.external.events.lag";
+    public static final String SENT_METRIC = "fineract.external.events.sent";
+    public static final String THREAD_NAME_PREFIX = "externalEventStreaming-";
+    private static final int QUEUE_CAPACITY = 2;
+    private static final int THREADS_PER_TENANT = 3;
+    private static final int AWAIT_TERMINATION_SECONDS = 30;
+
+    private final FineractProperties fineractProperties;
+    private final TenantDetailsService tenantDetailsService;
+    private final BusinessDateReadPlatformService businessDateReadPlatformService;
+    private final ConfigurationDomainService configurationDomainService;
+    private final ExternalEventRepository repository;
+    private final ExternalEventSendingService sendingService;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final ExternalEventStreamingLease lease;
+
+    private final String leaseOwner = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<String, TenantEventStream> streams = new ConcurrentHashMap<>();
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    @Override
+    public void start() {
+        if (!fineractProperties.getEvents().getExternal().isEnabled() || !sendingService.isDownstreamChannelEnabled()) {
+            log.info("External event streaming is enabled, but there is no enabled external event channel");
+            return;
+        }
+        running.set(true);
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        // one thread looks up the tenants, the pool grows with every tenant stream started by it
+        taskExecutor.setCorePoolSize(1);
+        taskExecutor.setMaxPoolSize(1);
+        // the stream threads are interrupted on shutdown, waiting for them only covers the batch being marked as sent
+        taskExecutor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        taskExecutor.initialize();
+        taskExecutor.execute(this::watchTenants);
+    }
+
+    @Override
+    public void stop() {
+        running.set(false);
+        if (taskExecutor != null) {
+            taskExecutor.shutdown();
+            taskExecutor = null;
+        }
+        streams.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void watchTenants() {
+        while (running.get()) {
+            try {
+                startNewTenantStreams();
+            } catch (Exception e) {
+                log.error("Error while looking up the tenants of the external event streaming", e);
+            }
+            try {
+                TimeUnit.SECONDS.sleep(fineractProperties.getEvents().getExternal().getStreaming().getTenantRefreshIntervalInSeconds());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void startNewTenantStreams() {
+        for (FineractPlatformTenant tenant : tenantDetailsService.findAllTenants()) {
+            if (running.get() && !streams.containsKey(tenant.getTenantIdentifier())) {
+                TenantEventStream stream = new TenantEventStream(tenant);
+                streams.put(tenant.getTenantIdentifier(), stream);
+                int poolSize = 1 + streams.size() * THREADS_PER_TENANT;
+                // the maximum may never be lower than the core size, so it is raised first
+                taskExecutor.setMaxPoolSize(poolSize);
+                taskExecutor.setCorePoolSize(poolSize);
+                stream.start();
+                log.info("External event streaming started for tenant {}", tenant.getTenantIdentifier());
+            }
+        }
+    }
+
+    private long getIdleInterval() {
+        return fineractProperties.getEvents().getExternal().getStreaming().getIdleIntervalInMillis();
+    }
+
+    private void initContext(FineractPlatformTenant tenant) {
+        ThreadLocalContextUtil.setTenant(tenant);
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(businessDateReadPlatformService.getBusinessDates());
+    }
+
+    private final class TenantEventStream {
+
+        private final FineractPlatformTenant tenant;
+        private final BlockingQueue<List<ExternalEventView>> sendQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final BlockingQueue<List<Long>> markQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final Lock inFlightLock = new ReentrantLock();
+        private final Condition noBatchInFlight = inFlightLock.newCondition();
+        private int inFlightBatches;
+        private final AtomicBoolean sweepFailed = new AtomicBoolean();
+        private final AtomicLong lagInMillis = new AtomicLong();
+        private final Counter sentCounter;
+        private boolean leaseHeld;
+        private long leaseRenewalDueNanos;
+
+        private TenantEventStream(FineractPlatformTenant tenant) {
+            this.tenant = tenant;
+            Gauge.builder(LAG_METRIC, lagInMillis, AtomicLong::get).description("Age of the oldest external event to be sent")
+                    .baseUnit("milliseconds").tag("tenant", tenant.getTenantIdentifier()).register(meterRegistry);
+            this.sentCounter = Counter.builder(SENT_METRIC).description("Number of sent external events")
+                    .tag("tenant", tenant.getTenantIdentifier()).register(meterRegistry);
+        }
+
+        private void start() {
+            taskExecutor.execute(this::read);
+            taskExecutor.execute(this::send);
+            taskExecutor.execute(this::markSent);
+        }
+
+        private void read() {
+            boolean interrupted = false;
+            try {
+                readSweeps();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } finally {
+                releaseLease();
+                ThreadLocalContextUtil.reset();
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /**
+         * Acquires the lease of the tenant, or renews it once half of its duration passed.
+         */
+        private boolean holdsLease() {
+            long now = System.nanoTime();
+            if (leaseHeld && now - leaseRenewalDueNanos < 0) {
+                return true;
+            }
+            long leaseDuration = fineractProperties.getEvents().getExternal().getStreaming().getLeaseDurationInSeconds();
+            boolean acquired = lease.acquire(leaseOwner, leaseDuration);
+            if (acquired != leaseHeld) {
+                log.info("External event streaming {} the lease of tenant {}", acquired ? "acquired" : "lost",
+                        tenant.getTenantIdentifier());
+            }
+            leaseHeld = acquired;
+            leaseRenewalDueNanos = now + TimeUnit.SECONDS.toNanos(leaseDuration) / 2;
+            return acquired;
+        }
+
+        private void releaseLease() {
+            if (!leaseHeld) {
+                return;
+            }
+            leaseHeld = false;
+            try {
+                lease.release(leaseOwner);
+            } catch (Exception e) {
+                // the lease expires anyway
+                log.warn("Error while releasing the external event streaming lease of tenant {}", tenant.getTenantIdentifier(), e);
+            }
+        }
+
+        private void readSweeps() throws InterruptedException {
+            long lastId = 0L;
+            while (running.get()) {
+                try {
+                    if (sweepFailed.get()) {
+                        endSweep();
+                        lastId = 0L;
+                        continue;
+                    }
+                    if (lastId == 0L) {
+                        initContext(tenant);
+                    }
+                    if (!holdsLease()) {
+                        // another instance streams the events of the tenant, its lag is reported there
+                        lagInMillis.set(0L);
+                        endSweep();
+                        lastId = 0L;
+                        continue;
+                    }
+                    List<ExternalEventView> events = repository.findByStatusAndIdGreaterThanOrderById(ExternalEventStatus.TO_BE_SENT,
+                            lastId, PageRequest.ofSize(configurationDomainService.retrieveExternalEventBatchSize().intValue()));
+                    if (lastId == 0L) {
+                        lagInMillis.set(events.isEmpty() ? 0L
+                                : Duration.between(events.get(0).getCreatedAt(), DateUtils.getAuditOffsetDateTime()).toMillis());
+                    }
+                    if (events.isEmpty()) {
+                        endSweep();
+                        lastId = 0L;
+                    } else {
+                        lastId = events.get(events.size() - 1).getId();
+                        batchQueued();
+                        sendQueue.put(events);
+                    }
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.error("Error while reading the external events of tenant {}", tenant.getTenantIdentifier(), e);
+                    sweepFailed.set(true);
+                }
+            }
+        }
+
+        private void endSweep() throws InterruptedException {
+            awaitNoBatchInFlight();
+            sweepFailed.set(false);
+            TimeUnit.MILLISECONDS.sleep(getIdleInterval());
+        }
+
+        private void batchQueued() {
+            inFlightLock.lock();
+            try {
+                inFlightBatches++;
+            } finally {
+                inFlightLock.unlock();
+            }
+        }
+
+        private void batchProcessed() {
+            inFlightLock.lock();
+            try {
+                if (--inFlightBatches == 0) {
+                    noBatchInFlight.signalAll();
+                }
+            } finally {
+                inFlightLock.unlock();
+            }
+        }
+
+        private void awaitNoBatchInFlight() throws InterruptedException {
+            inFlightLock.lock();
+            try {
+                while (inFlightBatches > 0) {
+                    noBatchInFlight.await();
+                }
+            } finally {
+                inFlightLock.unlock();
+            }
+        }
+
+        private void send() {
+            ThreadLocalContextUtil.setTenant(tenant);
+            try {
+                sendBatches();
+            } finally {
+                ThreadLocalContextUtil.reset();
+            }
+        }
+
+        private void sendBatches() {
+            while (running.get()) {
+                List<ExternalEventView> events;
+                try {
+                    events = sendQueue.poll(getIdleInterval(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (events == null) {
+                    continue;
+                }
+                boolean handedOver = false;
+                try {
+                    if (!sweepFailed.get()) {
+                        Map<Long, List<byte[]>> partitions = sendingService.generatePartitions(events);
+                        List<Long> sentEventIds;
+                        try {
+                            sendingService.sendEventsToProducer(partitions);
+                            sentEventIds = events.stream().map(ExternalEventView::getId).toList();
+                        } catch (PartialAcknowledgementException e) {
+                            log.error("Some external events of tenant {} were not acknowledged", tenant.getTenantIdentifier(), e);
+                            sweepFailed.set(true);
+                            sentEventIds = sendingService.getAcknowledgedEventIds(events, e.getUnacknowledgedPartitions());
+                        }
+                        sentCounter.increment(sentEventIds.size());
+                        markQueue.put(new ArrayList<>(sentEventIds));
+                        handedOver = true;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    log.error("Error while sending the external events of tenant {}", tenant.getTenantIdentifier(), e);
+                    sweepFailed.set(true);
+                } finally {
+                    if (!handedOver) {
+                        batchProcessed();
+                    }
+                }
+            }
+        }
+
+        private void markSent() {
+            ThreadLocalContextUtil.setTenant(tenant);
+            try {
+                markBatchesAsSent();
+            } finally {
+                ThreadLocalContextUtil.reset();
+            }
+        }
+
+        private void markBatchesAsSent() {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            while (running.get()) {
+                List<Long> eventIds;
+                try {
+                    eventIds = markQueue.poll(getIdleInterval(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (eventIds == null) {
+                    continue;
+                }
+                try {
+                    transactionTemplate.executeWithoutResult(status -> sendingService.markEventsAsSent(eventIds));
+                } catch (Exception e) {
+                    // the events are sent again in the next sweep
+                    log.error("Error while marking the external events of tenant {} as sent", tenant.getTenantIdentifier(), e);
+                } finally {
+                    batchProcessed();
+                }
+            }
+        }
+    }
+}
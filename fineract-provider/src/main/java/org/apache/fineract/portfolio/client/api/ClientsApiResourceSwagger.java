@@ -168,6 +168,8 @@ final class ClientsApiResourceSwagger {
         @Schema(example = "2")
         public Integer totalFilteredRecords;
         public Set<GetClientsPageItemsResponse> pageItems;
+        @Schema(example = "aWQ6MTI", description = "Cursor of the next page, only present on full pages of lists ordered by id")
+        public String nextCursor;
     }
 
     @Schema(description = "GetClientsClientIdResponse")
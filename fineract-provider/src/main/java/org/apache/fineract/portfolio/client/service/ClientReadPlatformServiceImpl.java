@@ -187,7 +187,7 @@ public class ClientReadPlatformServiceImpl implements ClientReadPlatformService
         // }
         List<Object> paramList = new ArrayList<>(Arrays.asList(underHierarchySearchString, underHierarchySearchString));
         final StringBuilder sqlBuilder = new StringBuilder(200);
-        sqlBuilder.append("select " + sqlGenerator.calcFoundRows() + " ");
+        sqlBuilder.append("select " + paginationHelper.calcFoundRows(searchParameters) + " ");
         sqlBuilder.append(this.clientToDataMapper.schema());
         sqlBuilder.append(" where (o.hierarchy like ? or transferToOffice.hierarchy like ?) ");
 
@@ -204,7 +204,11 @@ public class ClientReadPlatformServiceImpl implements ClientReadPlatformService
                 sqlBuilder.append(" and (").append(extraCriteria).append(")");
             }
 
-            if (searchParameters.hasOrderBy()) {
+            if (searchParameters.hasAfter()) {
+                sqlBuilder.append(searchParameters.isDescending() ? " and c.id < ?" : " and c.id > ?");
+                paramList.add(searchParameters.getAfterId());
+                sqlBuilder.append(" order by c.id ").append(searchParameters.isDescending() ? "desc" : "asc");
+            } else if (searchParameters.hasOrderBy()) {
                 sqlBuilder.append(" order by ").append(searchParameters.getOrderBy());
                 this.columnValidator.validateSqlInjection(sqlBuilder.toString(), searchParameters.getOrderBy());
                 if (searchParameters.hasSortOrder()) {
@@ -215,14 +219,15 @@ public class ClientReadPlatformServiceImpl implements ClientReadPlatformService
 
             if (searchParameters.hasLimit()) {
                 sqlBuilder.append(" ");
-                if (searchParameters.hasOffset()) {
+                if (searchParameters.hasOffset() && !searchParameters.hasAfter()) {
                     sqlBuilder.append(sqlGenerator.limit(searchParameters.getLimit(), searchParameters.getOffset()));
                 } else {
                     sqlBuilder.append(sqlGenerator.limit(searchParameters.getLimit()));
                 }
             }
         }
-        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), paramList.toArray(), this.clientToDataMapper);
+        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), paramList.toArray(), this.clientToDataMapper,
+                searchParameters, ClientData::getId);
     }
 
     private String buildSqlStringFromClientCriteria(String schemaSql, final SearchParameters searchParameters, List<Object> paramList) {
@@ -86,6 +86,8 @@ import org.apache.fineract.portfolio.note.domain.Note;
 import org.apache.fineract.portfolio.note.domain.NoteRepository;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
+import org.apache.fineract.portfolio.search.service.GlobalSearchIndexService;
+import org.apache.fineract.portfolio.search.service.SearchIndexEntityType;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.jpa.JpaSystemException;
@@ -115,6 +117,7 @@ public class GroupingTypesWritePlatformServiceJpaRepositoryImpl implements Group
     private final AccountNumberGenerator accountNumberGenerator;
     private final EntityDatatableChecksWritePlatformService entityDatatableChecksWritePlatformService;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final GlobalSearchIndexService globalSearchIndexService;
 
     private CommandProcessingResult createGroupingType(final JsonCommand command, final GroupTypes groupingType, final Long centerId) {
         try {
@@ -434,6 +437,9 @@ public class GroupingTypesWritePlatformServiceJpaRepositoryImpl implements Group
              */
 
             this.groupRepository.saveAndFlush(groupForUpdate);
+            if (!actualChanges.isEmpty()) {
+                this.globalSearchIndexService.reindex(SearchIndexEntityType.GROUP, groupForUpdate.getId());
+            }
 
             return new CommandProcessingResultBuilder() //
                     .withCommandId(command.commandId()) //
@@ -560,6 +566,7 @@ public class GroupingTypesWritePlatformServiceJpaRepositoryImpl implements Group
 
             this.groupRepository.delete(groupForDelete);
             this.groupRepository.flush();
+            this.globalSearchIndexService.remove(SearchIndexEntityType.GROUP, groupId);
             return new CommandProcessingResultBuilder() //
                     .withOfficeId(groupForDelete.getId()) //
                     .withGroupId(groupForDelete.officeId()) //
@@ -1212,6 +1212,8 @@ final class LoansApiResourceSwagger {
         @Schema(example = "1")
         public Integer totalFilteredRecords;
         public Set<GetLoansLoanIdResponse> pageItems;
+        @Schema(example = "aWQ6MTI", description = "Cursor of the next page, only present on full pages of lists ordered by id")
+        public String nextCursor;
     }
 
     @Schema(description = "PostLoansRequest")
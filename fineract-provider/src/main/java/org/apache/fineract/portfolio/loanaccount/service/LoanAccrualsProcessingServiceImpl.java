@@ -37,6 +37,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
 import org.apache.fineract.infrastructure.core.exception.MultiException;
@@ -83,6 +84,7 @@ import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Component
@@ -105,18 +107,55 @@ public class LoanAccrualsProcessingServiceImpl implements LoanAccrualsProcessing
     private final LoanRepository loanRepository;
     private final OfficeRepository officeRepository;
     private final LoanChargeRepository loanChargeRepository;
+    private final FineractProperties fineractProperties;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * method adds accrual for batch job "Add Periodic Accrual Transactions" and add accruals api for Loan
      */
     @Override
-    @Transactional
     public void addPeriodicAccruals(final LocalDate tillDate) throws JobExecutionException {
-        Collection<LoanScheduleAccrualData> loanScheduleAccrualDataList = this.loanReadPlatformService
-                .retrievePeriodicAccrualData(tillDate);
+        // the portfolio is processed in loan id ranges, so only the schedule rows of one range are held in memory and every
+        // range is committed in its own transaction
+        final int chunkSize = fineractProperties.getJob().getPeriodicAccrual().getChunkSize();
+        List<Throwable> errors = new ArrayList<>();
+        Long lastLoanId = 0L;
+        List<Long> loanIds = retrieveLoanIdsForPeriodicAccrual(lastLoanId, chunkSize);
+        while (!loanIds.isEmpty()) {
+            final Long fromLoanId = lastLoanId;
+            final Long toLoanId = loanIds.get(loanIds.size() - 1);
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    addPeriodicAccruals(tillDate, fromLoanId, toLoanId);
+                } catch (JobExecutionException e) {
+                    errors.addAll(e.getCauses());
+                }
+            });
+            lastLoanId = toLoanId;
+            loanIds = retrieveLoanIdsForPeriodicAccrual(lastLoanId, chunkSize);
+        }
+        if (!errors.isEmpty()) {
+            throw new JobExecutionException(errors);
+        }
+    }
+
+    /**
+     * method adds accrual for the loans of a loan id range, used by the chunked "Add Periodic Accrual Transactions" job
+     */
+    @Override
+    @Transactional
+    public void addPeriodicAccruals(final LocalDate tillDate, final Long fromLoanIdExclusive, final Long toLoanIdInclusive)
+            throws JobExecutionException {
+        Collection<LoanScheduleAccrualData> loanScheduleAccrualDataList = this.loanReadPlatformService.retrievePeriodicAccrualData(tillDate,
+                fromLoanIdExclusive, toLoanIdInclusive);
         addPeriodicAccruals(tillDate, loanScheduleAccrualDataList);
     }
 
+    @Override
+    public List<Long> retrieveLoanIdsForPeriodicAccrual(final Long afterLoanId, final int limit) {
+        return this.loanReadPlatformService.retrieveLoanIdsForPeriodicAccrual(afterLoanId, limit);
+    }
+
     /**
      * method adds accrual for Loan COB business step
      */
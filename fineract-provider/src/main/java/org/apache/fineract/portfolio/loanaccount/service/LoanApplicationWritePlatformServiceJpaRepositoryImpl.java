@@ -93,6 +93,8 @@ import org.apache.fineract.portfolio.savings.data.GroupSavingsIndividualMonitori
 import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
 import org.apache.fineract.portfolio.savings.service.GSIMReadPlatformService;
+import org.apache.fineract.portfolio.search.service.GlobalSearchIndexService;
+import org.apache.fineract.portfolio.search.service.SearchIndexEntityType;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.jpa.JpaSystemException;
@@ -124,6 +126,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
     private final GSIMReadPlatformService gsimReadPlatformService;
     private final LoanLifecycleStateMachine defaultLoanLifecycleStateMachine;
     private final LoanAccrualsProcessingService loanAccrualsProcessingService;
+    private final GlobalSearchIndexService globalSearchIndexService;
 
     @Transactional
     @Override
@@ -278,6 +281,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
             // http://stackoverflow.com/questions/17151757/hibernate-cascade-update-gives-null-pointer/17334374#17334374
             // TODO: check whether this is needed!
             this.loanRepositoryWrapper.saveAndFlush(loan);
+            this.globalSearchIndexService.reindex(SearchIndexEntityType.LOAN, loanId);
             // Save interest recalculation calendar
             if (loan.getLoanProductRelatedDetail().isInterestRecalculationEnabled()
                     && changes.containsKey(LoanProductConstants.IS_INTEREST_RECALCULATION_ENABLED_PARAMETER_NAME)) {
@@ -490,6 +494,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
         }
 
         this.loanRepositoryWrapper.delete(loanId);
+        this.globalSearchIndexService.remove(SearchIndexEntityType.LOAN, loanId);
 
         return new CommandProcessingResultBuilder() //
                 .withEntityId(loanId) //
@@ -108,6 +108,10 @@ public interface LoanReadPlatformService {
 
     Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(LocalDate tillDate, Loan loan);
 
+    Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(LocalDate tillDate, Long fromLoanIdExclusive, Long toLoanIdInclusive);
+
+    List<Long> retrieveLoanIdsForPeriodicAccrual(Long afterLoanId, int limit);
+
     LoanTransactionData retrieveLoanChargeOffTemplate(Long loanId);
 
     Collection<Long> fetchLoansForInterestRecalculation();
@@ -311,7 +311,7 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         final LoanMapper loanMapper = new LoanMapper(sqlGenerator, delinquencyReadPlatformService);
 
         final StringBuilder sqlBuilder = new StringBuilder(200);
-        sqlBuilder.append("select " + sqlGenerator.calcFoundRows() + " ");
+        sqlBuilder.append("select " + paginationHelper.calcFoundRows(searchParameters) + " ");
         sqlBuilder.append(loanMapper.loanSchema());
 
         // TODO - for time being this will data scope list of loans returned to
@@ -353,7 +353,12 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
                 arrayPos = arrayPos + 1;
             }
 
-            if (searchParameters.hasOrderBy()) {
+            if (searchParameters.hasAfter()) {
+                sqlBuilder.append(searchParameters.isDescending() ? " and l.id < ?" : " and l.id > ?");
+                extraCriterias.add(searchParameters.getAfterId());
+                arrayPos = arrayPos + 1;
+                sqlBuilder.append(" order by l.id ").append(searchParameters.isDescending() ? "desc" : "asc");
+            } else if (searchParameters.hasOrderBy()) {
                 sqlBuilder.append(" order by ").append(searchParameters.getOrderBy());
                 this.columnValidator.validateSqlInjection(sqlBuilder.toString(), searchParameters.getOrderBy());
 
@@ -365,7 +370,7 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
 
             if (searchParameters.hasLimit()) {
                 sqlBuilder.append(" ");
-                if (searchParameters.hasOffset()) {
+                if (searchParameters.hasOffset() && !searchParameters.hasAfter()) {
                     sqlBuilder.append(sqlGenerator.limit(searchParameters.getLimit(), searchParameters.getOffset()));
                 } else {
                     sqlBuilder.append(sqlGenerator.limit(searchParameters.getLimit()));
@@ -374,7 +379,8 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         }
         final Object[] objectArray = extraCriterias.toArray();
         final Object[] finalObjectArray = Arrays.copyOf(objectArray, arrayPos);
-        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), finalObjectArray, loanMapper);
+        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), finalObjectArray, loanMapper, searchParameters,
+                LoanAccountData::getId);
     }
 
     @Override
@@ -1802,14 +1808,38 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
 
     @Override
     public Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(final LocalDate tillDate, final Loan loan) {
+        return retrievePeriodicAccrualData(tillDate, loan, null, null);
+    }
+
+    @Override
+    public Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(final LocalDate tillDate, final Long fromLoanIdExclusive,
+            final Long toLoanIdInclusive) {
+        return retrievePeriodicAccrualData(tillDate, null, fromLoanIdExclusive, toLoanIdInclusive);
+    }
+
+    @Override
+    public List<Long> retrieveLoanIdsForPeriodicAccrual(final Long afterLoanId, final int limit) {
+        final String sql = "select loan.id from m_loan loan join m_product_loan mpl on mpl.id = loan.product_id"
+                + " where loan.loan_status_id = :active and mpl.accounting_type = :type and loan.is_npa = false"
+                + " and loan.is_charged_off = false and loan.id > :afterLoanId order by loan.id " + sqlGenerator.limit(limit);
+        Map<String, Object> paramMap = new HashMap<>(3);
+        paramMap.put("active", LoanStatus.ACTIVE.getValue());
+        paramMap.put("type", AccountingRuleType.ACCRUAL_PERIODIC.getValue());
+        paramMap.put("afterLoanId", afterLoanId);
+        return this.namedParameterJdbcTemplate.queryForList(sql, paramMap, Long.class);
+    }
+
+    private Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(final LocalDate tillDate, final Loan loan,
+            final Long fromLoanIdExclusive, final Long toLoanIdInclusive) {
         final String chargeAccrualDateCriteria = configurationDomainService.getAccrualDateConfigForCharge();
         if (chargeAccrualDateCriteria.equalsIgnoreCase(ACCRUAL_ON_CHARGE_SUBMITTED_ON_DATE)) {
-            return retrievePeriodicAccrualDataForChargeSubmittedDateProcessing(tillDate, loan);
+            return retrievePeriodicAccrualDataForChargeSubmittedDateProcessing(tillDate, loan, fromLoanIdExclusive, toLoanIdInclusive);
         }
-        return retrievePeriodicAccrualDataForDefaultProcessing(tillDate, loan);
+        return retrievePeriodicAccrualDataForDefaultProcessing(tillDate, loan, fromLoanIdExclusive, toLoanIdInclusive);
     }
 
-    private Collection<LoanScheduleAccrualData> retrievePeriodicAccrualDataForDefaultProcessing(final LocalDate tillDate, final Loan loan) {
+    private Collection<LoanScheduleAccrualData> retrievePeriodicAccrualDataForDefaultProcessing(final LocalDate tillDate, final Loan loan,
+            final Long fromLoanIdExclusive, final Long toLoanIdInclusive) {
         LoanSchedulePeriodicAccrualMapper mapper = new LoanSchedulePeriodicAccrualMapper();
         LocalDate organisationStartDate = this.configurationDomainService.retrieveOrganisationStartDate();
         final StringBuilder sqlBuilder = new StringBuilder(400);
@@ -1821,7 +1851,7 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
                 .append(" and loan.loan_status_id=:active and mpl.accounting_type=:type and (loan.closedon_date <= :tillDate or loan.closedon_date is null)")
                 .append(" and loan.is_npa=false and loan.is_charged_off = false and (ls.duedate <= :tillDate or (ls.duedate > :tillDate and ls.fromdate < :tillDate)")
                 .append(" or (ls.installment = 1 and ls.fromdate = :tillDate))) ");
-        Map<String, Object> paramMap = new HashMap<>(5);
+        Map<String, Object> paramMap = new HashMap<>(7);
         if (organisationStartDate != null) {
             sqlBuilder.append(" and ls.duedate > :organisationStartDate ");
             paramMap.put("organisationStartDate", organisationStartDate);
@@ -1830,6 +1860,7 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
             sqlBuilder.append(" and loan.id= :loanId ");
             paramMap.put("loanId", loan.getId());
         }
+        appendLoanIdRange(sqlBuilder, paramMap, fromLoanIdExclusive, toLoanIdInclusive);
         sqlBuilder.append(" order by loan.id,ls.duedate ");
         paramMap.put("active", LoanStatus.ACTIVE.getValue());
         paramMap.put("type", AccountingRuleType.ACCRUAL_PERIODIC.getValue());
@@ -1838,7 +1869,7 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
     }
 
     private Collection<LoanScheduleAccrualData> retrievePeriodicAccrualDataForChargeSubmittedDateProcessing(final LocalDate tillDate,
-            final Loan loan) {
+            final Loan loan, final Long fromLoanIdExclusive, final Long toLoanIdInclusive) {
         LoanSchedulePeriodicAccrualMapper mapper = new LoanSchedulePeriodicAccrualMapper();
         LocalDate organisationStartDate = this.configurationDomainService.retrieveOrganisationStartDate();
         final StringBuilder sqlBuilder = new StringBuilder(400);
@@ -1849,7 +1880,7 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
                 .append(" or (ls.interest_amount <> COALESCE(ls.accrual_interest_derived, 0)))")
                 .append(" and loan.loan_status_id=:active and mpl.accounting_type=:type and (loan.closedon_date <= :tillDate or loan.closedon_date is null)")
                 .append(" and loan.is_npa=false and loan.is_charged_off = false)");
-        Map<String, Object> paramMap = new HashMap<>(5);
+        Map<String, Object> paramMap = new HashMap<>(7);
         if (organisationStartDate != null) {
             sqlBuilder.append(" and ls.duedate > :organisationStartDate ");
             paramMap.put("organisationStartDate", organisationStartDate);
@@ -1858,6 +1889,7 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
             sqlBuilder.append(" and loan.id= :loanId ");
             paramMap.put("loanId", loan.getId());
         }
+        appendLoanIdRange(sqlBuilder, paramMap, fromLoanIdExclusive, toLoanIdInclusive);
         sqlBuilder.append(" order by loan.id,ls.duedate ");
         paramMap.put("active", LoanStatus.ACTIVE.getValue());
         paramMap.put("type", AccountingRuleType.ACCRUAL_PERIODIC.getValue());
@@ -1865,6 +1897,18 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         return this.namedParameterJdbcTemplate.query(sqlBuilder.toString(), paramMap, mapper);
     }
 
+    private void appendLoanIdRange(final StringBuilder sqlBuilder, final Map<String, Object> paramMap, final Long fromLoanIdExclusive,
+            final Long toLoanIdInclusive) {
+        if (fromLoanIdExclusive != null) {
+            sqlBuilder.append(" and loan.id > :fromLoanId ");
+            paramMap.put("fromLoanId", fromLoanIdExclusive);
+        }
+        if (toLoanIdInclusive != null) {
+            sqlBuilder.append(" and loan.id <= :toLoanId ");
+            paramMap.put("toLoanId", toLoanIdInclusive);
+        }
+    }
+
     private static final class LoanSchedulePeriodicAccrualMapper implements RowMapper<LoanScheduleAccrualData> {
 
         public String schema() {
@@ -214,6 +214,8 @@ final class SavingsAccountsApiResourceSwagger {
         @Schema(example = "1")
         public Integer totalFilteredRecords;
         public Set<GetSavingsPageItems> pageItems;
+        @Schema(example = "aWQ6MTI", description = "Cursor of the next page, only present on full pages of lists ordered by id")
+        public String nextCursor;
     }
 
     @Schema(description = "PostSavingsAccountsRequest")
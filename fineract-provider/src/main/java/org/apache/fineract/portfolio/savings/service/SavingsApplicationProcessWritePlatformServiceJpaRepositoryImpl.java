@@ -84,6 +84,8 @@ import org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType;
 import org.apache.fineract.portfolio.savings.domain.SavingsProduct;
 import org.apache.fineract.portfolio.savings.domain.SavingsProductRepository;
 import org.apache.fineract.portfolio.savings.exception.SavingsProductNotFoundException;
+import org.apache.fineract.portfolio.search.service.GlobalSearchIndexService;
+import org.apache.fineract.portfolio.search.service.SearchIndexEntityType;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.dao.DataAccessException;
 import org.springframework.transaction.annotation.Transactional;
@@ -113,6 +115,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
     private final GSIMRepositoy gsimRepository;
     private final GroupRepositoryWrapper groupRepositoryWrapper;
     private final GroupSavingsIndividualMonitoringWritePlatformService gsimWritePlatformService;
+    private final GlobalSearchIndexService globalSearchIndexService;
 
     @Transactional
     @Override
@@ -352,6 +355,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
                 }
 
                 this.savingAccountRepository.saveAndFlush(account);
+                this.globalSearchIndexService.reindex(SearchIndexEntityType.SAVING, savingsId);
             }
 
             return new CommandProcessingResultBuilder() //
@@ -397,6 +401,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
         this.noteRepository.deleteAllInBatch(relatedNotes);
 
         this.savingAccountRepository.delete(account);
+        this.globalSearchIndexService.remove(SearchIndexEntityType.SAVING, savingsId);
 
         return new CommandProcessingResultBuilder() //
                 .withEntityId(savingsId) //
@@ -670,6 +675,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
         this.savingAccountRepository.saveAndFlush(account);
 
         generateAccountNumber(account);
+        this.globalSearchIndexService.reindex(SearchIndexEntityType.SAVING, account.getId());
         // post journal entries for activation charges
         this.savingsAccountDomainService.postJournalEntries(account, existingTransactionIds, existingReversedTransactionIds, false);
 
@@ -0,0 +1,62 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.deposit.FixedDepositAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.deposit.RecurringDepositAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.GroupsBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.share.ShareAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indexes the entities of the global search when their business events are raised.
+ */
+@Component
+@RequiredArgsConstructor
+public class GlobalSearchIndexBusinessEventListener {
+
+    private final BusinessEventNotifierService businessEventNotifierService;
+    private final GlobalSearchIndexService globalSearchIndexService;
+
+    @PostConstruct
+    public void addListeners() {
+        if (!globalSearchIndexService.isEnabled()) {
+            return;
+        }
+        addListener(ClientBusinessEvent.class, SearchIndexEntityType.CLIENT);
+        addListener(GroupsBusinessEvent.class, SearchIndexEntityType.GROUP);
+        addListener(LoanCreatedBusinessEvent.class, SearchIndexEntityType.LOAN);
+        addListener(SavingsCreateBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(FixedDepositAccountCreateBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(RecurringDepositAccountCreateBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(ShareAccountCreateBusinessEvent.class, SearchIndexEntityType.SHARE);
+    }
+
+    private <T extends BusinessEvent<?>> void addListener(final Class<T> eventType, final SearchIndexEntityType entityType) {
+        businessEventNotifierService.addPostBusinessEventListener(eventType,
+                event -> globalSearchIndexService.reindex(entityType, event.getAggregateRootId()));
+    }
+}
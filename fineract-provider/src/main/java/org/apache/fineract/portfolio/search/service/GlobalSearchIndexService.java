@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+/**
+ * Maintains the index used by the global search instead of scanning the searched tables.
+ */
+public interface GlobalSearchIndexService {
+
+    boolean isEnabled();
+
+    /**
+     * Replaces the indexed terms of the entity with the ones derived from its current values, within the current
+     * transaction.
+     */
+    void reindex(SearchIndexEntityType entityType, Long entityId);
+
+    void remove(SearchIndexEntityType entityType, Long entityId);
+
+    /**
+     * Reindexes all the entities page by page, every page in its own transaction, and drops the terms of the entities
+     * which no longer exist.
+     */
+    void rebuild();
+}
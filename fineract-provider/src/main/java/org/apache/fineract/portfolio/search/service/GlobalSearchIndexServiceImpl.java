@@ -0,0 +1,154 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GlobalSearchIndexServiceImpl implements GlobalSearchIndexService {
+
+    private static final String DELETE_ENTITY_SQL = "delete from m_search_index where entity_type = ? and entity_id = ?";
+    private static final String DELETE_RANGE_SQL = "delete from m_search_index where entity_type = ? and entity_id > ? and entity_id <= ?";
+    private static final String DELETE_AFTER_SQL = "delete from m_search_index where entity_type = ? and entity_id > ?";
+    private static final String INSERT_SQL = "insert into m_search_index (entity_type, entity_id, term) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final PlatformTransactionManager transactionManager;
+    private final FineractProperties fineractProperties;
+
+    @Override
+    public boolean isEnabled() {
+        return fineractProperties.getSearch().getIndex().isEnabled();
+    }
+
+    @Override
+    public void reindex(final SearchIndexEntityType entityType, final Long entityId) {
+        if (!isEnabled() || entityId == null) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_ENTITY_SQL, entityType.name(), entityId);
+        final List<Object[]> terms = jdbcTemplate.query(entityType.getSelectSql() + " where id = ?", termsExtractor(entityType),
+                entityId);
+        insertTerms(terms);
+    }
+
+    @Override
+    public void remove(final SearchIndexEntityType entityType, final Long entityId) {
+        if (!isEnabled() || entityId == null) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_ENTITY_SQL, entityType.name(), entityId);
+    }
+
+    @Override
+    public void rebuild() {
+        final int batchSize = fineractProperties.getSearch().getIndex().getRebuildBatchSize();
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (final SearchIndexEntityType entityType : SearchIndexEntityType.values()) {
+            long lastId = 0L;
+            long entityCount = 0L;
+            while (true) {
+                final long fromId = lastId;
+                final IndexedPage page = transactionTemplate.execute(status -> reindexPage(entityType, fromId, batchSize));
+                if (page == null || page.entityCount == 0) {
+                    break;
+                }
+                lastId = page.lastId;
+                entityCount += page.entityCount;
+            }
+            final long lastIndexedId = lastId;
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(DELETE_AFTER_SQL, entityType.name(), lastIndexedId));
+            log.info("Global search index rebuilt for {} {} entities", entityCount, entityType);
+        }
+    }
+
+    private IndexedPage reindexPage(final SearchIndexEntityType entityType, final long fromId, final int batchSize) {
+        final String sql = entityType.getSelectSql() + " where id > ? order by id " + sqlGenerator.limit(batchSize);
+        final IndexedPage page = new IndexedPage();
+        final List<Object[]> terms = jdbcTemplate.query(sql, rs -> {
+            final List<Object[]> result = new ArrayList<>();
+            while (rs.next()) {
+                page.lastId = rs.getLong(1);
+                page.entityCount++;
+                addTerms(entityType, rs, result);
+            }
+            return result;
+        }, fromId);
+        if (page.entityCount > 0) {
+            jdbcTemplate.update(DELETE_RANGE_SQL, entityType.name(), fromId, page.lastId);
+            insertTerms(terms);
+        }
+        return page;
+    }
+
+    private static ResultSetExtractor<List<Object[]>> termsExtractor(final SearchIndexEntityType entityType) {
+        return rs -> {
+            final List<Object[]> result = new ArrayList<>();
+            while (rs.next()) {
+                addTerms(entityType, rs, result);
+            }
+            return result;
+        };
+    }
+
+    private static void addTerms(final SearchIndexEntityType entityType, final ResultSet rs, final List<Object[]> result)
+            throws SQLException {
+        final long entityId = rs.getLong(1);
+        final int columnCount = rs.getMetaData().getColumnCount();
+        final Set<String> entityTerms = new LinkedHashSet<>();
+        for (int i = 2; i <= columnCount; i++) {
+            entityTerms.addAll(SearchIndexTerms.terms(rs.getString(i)));
+        }
+        for (final String term : entityTerms) {
+            result.add(new Object[] { entityType.name(), entityId, term });
+        }
+    }
+
+    private void insertTerms(final List<Object[]> terms) {
+        if (terms != null && !terms.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, terms);
+        }
+    }
+
+    private static final class IndexedPage {
+
+        private long lastId;
+        private int entityCount;
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import lombok.Getter;
+
+/**
+ * Entities covered by the global search index, with the columns their search terms are taken from.
+ */
+@Getter
+public enum SearchIndexEntityType {
+
+    CLIENT("m_client", "account_no", "display_name", "external_id", "mobile_no"), //
+    GROUP("m_group", "account_no", "display_name", "external_id"), //
+    LOAN("m_loan", "account_no", "external_id"), //
+    SAVING("m_savings_account", "account_no", "external_id"), //
+    SHARE("m_share_account", "account_no", "external_id"), //
+    CLIENTIDENTIFIER("m_client_identifier", "document_key"), //
+    ;
+
+    private final String selectSql;
+
+    SearchIndexEntityType(final String tableName, final String... searchedColumns) {
+        this.selectSql = "select id, " + String.join(", ", searchedColumns) + " from " + tableName;
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Derives the terms of the global search index from the searched values.
+ * <p>
+ * Every value is indexed in full and word by word, lower cased, so a search matches the prefix of a value or of one of
+ * its words. Numbers padded with zeros (e.g. account numbers) are also indexed without the padding.
+ */
+public final class SearchIndexTerms {
+
+    public static final int MAX_TERM_LENGTH = 200;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern ZERO_PADDED_NUMBER = Pattern.compile("0+[0-9]+");
+
+    private SearchIndexTerms() {}
+
+    public static Set<String> terms(final String value) {
+        final Set<String> terms = new LinkedHashSet<>();
+        final String normalized = normalize(value);
+        if (normalized.isEmpty()) {
+            return terms;
+        }
+        terms.add(normalized);
+        for (final String word : WHITESPACE.split(normalized)) {
+            terms.add(word);
+            if (ZERO_PADDED_NUMBER.matcher(word).matches()) {
+                terms.add(word.replaceFirst("^0+", ""));
+            }
+        }
+        terms.remove("");
+        return terms;
+    }
+
+    /**
+     * LIKE pattern matching the terms starting with the searched text.
+     */
+    public static String prefixPattern(final String searchQuery) {
+        final String normalized = normalize(searchQuery);
+        return normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    static String normalize(final String value) {
+        if (value == null) {
+            return "";
+        }
+        final String normalized = WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_TERM_LENGTH ? normalized.substring(0, MAX_TERM_LENGTH) : normalized;
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.fineract.portfolio.search.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -51,11 +53,15 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 @RequiredArgsConstructor
 public class SearchReadPlatformServiceImpl implements SearchReadPlatformService {
 
+    public static final String SEARCH_METRIC = "fineract.search.global";
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
     private final PlatformSecurityContext context;
     private final LoanProductReadPlatformService loanProductReadPlatformService;
     private final OfficeReadPlatformService officeReadPlatformService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final GlobalSearchIndexService globalSearchIndexService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public Collection<SearchData> retriveMatchingData(final SearchConditions searchConditions) {
@@ -66,47 +72,77 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
 
         final MapSqlParameterSource params = new MapSqlParameterSource();
         params.addValue("hierarchy", hierarchy + "%");
+        // exact matches can use the indexes of the searched columns, the rest is looked up in the search index if enabled
+        final boolean useSearchIndex = !searchConditions.getExactMatch() && globalSearchIndexService.isEnabled();
         if (searchConditions.getExactMatch()) {
             params.addValue("search", searchConditions.getSearchQuery());
+        } else if (useSearchIndex) {
+            params.addValue("term", SearchIndexTerms.prefixPattern(searchConditions.getSearchQuery()));
         } else {
             params.addValue("search", "%" + searchConditions.getSearchQuery() + "%");
         }
-        return namedParameterJdbcTemplate.query(searchSchema(searchConditions), params, rm);
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return namedParameterJdbcTemplate.query(searchSchema(searchConditions, useSearchIndex), params, rm);
+        } finally {
+            sample.stop(meterRegistry.timer(SEARCH_METRIC, "source", useSearchIndex ? "index" : "table"));
+        }
     }
 
     public String searchSchema(final SearchConditions searchConditions) {
+        return searchSchema(searchConditions, false);
+    }
+
+    private static String searchIndexCondition(final SearchIndexEntityType entityType, final String idColumn) {
+        return idColumn + " in (select si.entity_id from m_search_index si where si.entity_type = '" + entityType.name()
+                + "' and si.term like :term)";
+    }
+
+    private String searchSchema(final SearchConditions searchConditions, final boolean useSearchIndex) {
+        final String clientCondition = useSearchIndex ? searchIndexCondition(SearchIndexEntityType.CLIENT, "c.id")
+                : "(c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)";
+        final String loanCondition = useSearchIndex ? searchIndexCondition(SearchIndexEntityType.LOAN, "l.id")
+                : "(l.account_no like :search or l.external_id like :search)";
+        final String savingCondition = useSearchIndex ? searchIndexCondition(SearchIndexEntityType.SAVING, "s.id")
+                : "(s.account_no like :search or s.external_id like :search)";
+        final String shareCondition = useSearchIndex ? searchIndexCondition(SearchIndexEntityType.SHARE, "s.id")
+                : "(s.account_no like :search or s.external_id like :search)";
+        final String clientIdentifierCondition = useSearchIndex ? searchIndexCondition(SearchIndexEntityType.CLIENTIDENTIFIER, "ci.id")
+                : "ci.document_key like :search";
+        final String groupCondition = useSearchIndex ? searchIndexCondition(SearchIndexEntityType.GROUP, "g.id")
+                : "(g.account_no like :search or g.display_name like :search or g.external_id like :search )";
 
         final String union = " union ";
         final String clientMatchSql = "( (select 'CLIENT' as entityType, c.id as entityId, c.display_name as entityName, c.external_id as entityExternalId, c.account_no as entityAccountNo "
                 + " , c.office_id as parentId, o.name as parentName, c.mobile_no as entityMobileNo,c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_client c join m_office o on o.id = c.office_id where o.hierarchy like :hierarchy and (c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)) "
+                + " from m_client c join m_office o on o.id = c.office_id where o.hierarchy like :hierarchy and " + clientCondition + ") "
                 + " order by c.id desc)";
 
         final String loanMatchSql = "( (select 'LOAN' as entityType, l.id as entityId, pl.name as entityName, l.external_id as entityExternalId, l.account_no as entityAccountNo "
                 + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name,g.display_name) as parentName, null as entityMobileNo, l.loan_status_id as entityStatusEnum, null as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
-                + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (l.account_no like :search or l.external_id like :search)) "
+                + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and " + loanCondition + ") "
                 + " order by l.id desc)";
 
         final String savingMatchSql = "( (select 'SAVING' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
                 + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name, g.display_name) as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, concat(s.deposit_type_enum, '') as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
                 + " from m_savings_account s left join m_client c on s.client_id = c.id left join m_group g ON s.group_id = g.id left join m_office o on o.id = c.office_id left join m_savings_product sp on sp.id=s.product_id "
-                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
+                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and " + savingCondition + ") "
                 + " order by s.id desc)";
 
         final String shareMatchSql = "( (select 'SHARE' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
                 + " , c.id as parentId, c.display_name as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, null as subEntityType, 'client' as parentType "
                 + " from m_share_account s left join m_client c on s.client_id = c.id left join m_office o on o.id = c.office_id left join m_share_product sp on sp.id=s.product_id "
-                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
+                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and " + shareCondition + ") "
                 + " order by s.id desc)";
 
         final String clientIdentifierMatchSql = "( (select 'CLIENTIDENTIFIER' as entityType, ci.id as entityId, ci.document_key as entityName, "
                 + " null as entityExternalId, null as entityAccountNo, c.id as parentId, c.display_name as parentName,null as entityMobileNo, c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
                 + " from m_client_identifier ci join m_client c on ci.client_id=c.id join m_office o on o.id = c.office_id "
-                + " where o.hierarchy like :hierarchy and ci.document_key like :search ) " + " order by ci.id desc)";
+                + " where o.hierarchy like :hierarchy and " + clientIdentifierCondition + " ) " + " order by ci.id desc)";
 
         final String groupMatchSql = "( (select CASE WHEN g.level_id=1 THEN 'CENTER' ELSE 'GROUP' END as entityType, g.id as entityId, g.display_name as entityName, g.external_id as entityExternalId, g.account_no as entityAccountNo, "
                 + " g.office_id as parentId, o.name as parentName, null as entityMobileNo, g.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_group g join m_office o on o.id = g.office_id where o.hierarchy like :hierarchy and (g.account_no like :search or g.display_name like :search or g.external_id like :search )) "
+                + " from m_group g join m_office o on o.id = g.office_id where o.hierarchy like :hierarchy and " + groupCondition + ") "
                 + " order by g.id desc)";
 
         final StringBuilder sql = new StringBuilder();
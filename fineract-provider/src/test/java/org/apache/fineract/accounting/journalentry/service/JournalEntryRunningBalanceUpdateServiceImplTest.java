@@ -0,0 +1,164 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
+import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+class JournalEntryRunningBalanceUpdateServiceImplTest {
+
+    private static final Long ACCOUNT_ID = 10L;
+    private static final LocalDate ENTITY_DATE = LocalDate.of(2024, 3, 1);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private PlatformSecurityContext platformSecurityContext;
+
+    private JournalEntryRunningBalanceUpdateServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties fineractProperties = new FineractProperties();
+        FineractProperties.FineractRunningBalanceProperties runningBalance = new FineractProperties.FineractRunningBalanceProperties();
+        runningBalance.setThreadPoolSize(1);
+        runningBalance.setPageSize(2);
+        FineractProperties.FineractAccountingProperties accountingProperties = new FineractProperties.FineractAccountingProperties();
+        accountingProperties.setRunningBalance(runningBalance);
+        fineractProperties.setAccounting(accountingProperties);
+        underTest = new JournalEntryRunningBalanceUpdateServiceImpl(jdbcTemplate, mock(OfficeRepositoryWrapper.class),
+                mock(JournalEntryDataValidator.class), mock(FromJsonHelper.class), sqlGenerator, platformSecurityContext,
+                fineractProperties, mock(ThreadPoolTaskExecutor.class));
+
+        AppUser user = mock(AppUser.class);
+        lenient().when(user.getId()).thenReturn(1L);
+        lenient().when(platformSecurityContext.authenticatedUser()).thenReturn(user);
+        lenient().when(sqlGenerator.limit(anyInt())).thenAnswer(invocation -> "LIMIT " + invocation.getArgument(0));
+    }
+
+    @Test
+    public void testRunningBalancesAreCarriedAcrossPagesAndSeededPerOffice() {
+        // given
+        when(jdbcTemplate.query(startsWith("select je.account_id"), any(RowMapper.class)))
+                .thenAnswer(rows(Map.of("accountId", ACCOUNT_ID, "entityDate", Date.valueOf(ENTITY_DATE))));
+        when(jdbcTemplate.queryForList(contains("organization_running_balance"), eq(BigDecimal.class), eq(ACCOUNT_ID), eq(ENTITY_DATE)))
+                .thenReturn(List.of(new BigDecimal("100")));
+        when(jdbcTemplate.queryForList(contains("office_running_balance"), eq(BigDecimal.class), eq(1L), eq(ACCOUNT_ID), eq(ENTITY_DATE)))
+                .thenReturn(List.of(new BigDecimal("40")));
+        when(jdbcTemplate.queryForList(contains("office_running_balance"), eq(BigDecimal.class), eq(2L), eq(ACCOUNT_ID), eq(ENTITY_DATE)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.query(contains("where je.account_id=?"), any(RowMapper.class), eq(ACCOUNT_ID), eq(ENTITY_DATE), eq(ENTITY_DATE),
+                eq(0L))).thenAnswer(rows(entry(5L, 1L, ENTITY_DATE, JournalEntryType.DEBIT, "10"),
+                        entry(6L, 2L, ENTITY_DATE, JournalEntryType.CREDIT, "5")));
+        when(jdbcTemplate.query(contains("where je.account_id=?"), any(RowMapper.class), eq(ACCOUNT_ID), eq(ENTITY_DATE), eq(ENTITY_DATE),
+                eq(6L))).thenAnswer(rows(entry(8L, 1L, ENTITY_DATE.plusDays(1), JournalEntryType.DEBIT, "1")));
+
+        // when
+        underTest.updateRunningBalance();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> paramsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE acc_gl_journal_entry"), paramsCaptor.capture());
+        List<Object[]> params = new ArrayList<>();
+        paramsCaptor.getAllValues().forEach(params::addAll);
+        assertThat(params).hasSize(3);
+        assertUpdate(params.get(0), 5L, "110", "50");
+        assertUpdate(params.get(1), 6L, "105", "-5");
+        assertUpdate(params.get(2), 8L, "106", "51");
+    }
+
+    @Test
+    public void testNothingIsUpdatedWhenAllRunningBalancesAreCalculated() {
+        // given
+        when(jdbcTemplate.query(startsWith("select je.account_id"), any(RowMapper.class))).thenReturn(List.of());
+
+        // when
+        underTest.updateRunningBalance();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(any(String.class), any(List.class));
+    }
+
+    private static void assertUpdate(Object[] params, Long id, String organizationRunningBalance, String officeRunningBalance) {
+        assertThat(params[0]).isEqualTo(Boolean.TRUE);
+        assertThat((BigDecimal) params[1]).isEqualByComparingTo(organizationRunningBalance);
+        assertThat((BigDecimal) params[2]).isEqualByComparingTo(officeRunningBalance);
+        assertThat(params[5]).isEqualTo(id);
+    }
+
+    private static Map<String, Object> entry(Long id, Long officeId, LocalDate entryDate, JournalEntryType entryType, String amount) {
+        return Map.of("id", id, "officeId", officeId, "entryDate", Date.valueOf(entryDate), "classification",
+                GLAccountType.ASSET.getValue(), "entryType", entryType.getValue(), "amount", new BigDecimal(amount));
+    }
+
+    @SafeVarargs
+    private static Answer<List<Object>> rows(Map<String, Object>... rows) {
+        return invocation -> {
+            RowMapper<?> rowMapper = invocation.getArgument(1);
+            List<Object> result = new ArrayList<>();
+            for (int i = 0; i < rows.length; i++) {
+                Map<String, Object> row = rows[i];
+                ResultSet rs = mock(ResultSet.class, columnInvocation -> row.get(columnInvocation.<String>getArgument(0)));
+                result.add(rowMapper.mapRow(rs, i));
+            }
+            return result;
+        };
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.producttoaccountmapping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMapping;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.PortfolioProductType;
+import org.apache.fineract.portfolio.charge.domain.Charge;
+import org.apache.fineract.portfolio.paymenttype.domain.PaymentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProductToGLAccountMappingCacheTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final int FUND_SOURCE = 1;
+    private static final int INCOME_FROM_FEES = 4;
+
+    @Mock
+    private ProductToGLAccountMappingRepository repository;
+
+    private ProductToGLAccountMappingCache underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties fineractProperties = new FineractProperties();
+        FineractProperties.FineractAccountingProperties accountingProperties = new FineractProperties.FineractAccountingProperties();
+        accountingProperties.setProductAccountMappingCacheTtlInSeconds(60);
+        fineractProperties.setAccounting(accountingProperties);
+        underTest = new ProductToGLAccountMappingCache(repository, fineractProperties);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default Tenant", "Europe/Budapest", null));
+
+        PaymentType paymentType = mock(PaymentType.class);
+        when(paymentType.getId()).thenReturn(5L);
+        Charge charge = mock(Charge.class);
+        when(charge.getId()).thenReturn(7L);
+        when(repository.findByProductIdAndProductType(PRODUCT_ID, PortfolioProductType.LOAN.getValue()))
+                .thenReturn(List.of(mapping(10L, FUND_SOURCE), mapping(11L, FUND_SOURCE).setPaymentType(paymentType),
+                        mapping(12L, INCOME_FROM_FEES), mapping(13L, INCOME_FROM_FEES).setCharge(charge)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testMappingsOfAProductAreLoadedOnlyOnce() {
+        // when & then
+        assertThat(underTest.findCoreGLAccountId(PRODUCT_ID, PortfolioProductType.LOAN, FUND_SOURCE)).contains(10L);
+        assertThat(underTest.findPaymentTypeSpecificGLAccountId(PRODUCT_ID, PortfolioProductType.LOAN, FUND_SOURCE, 5L)).contains(11L);
+        assertThat(underTest.findPaymentTypeSpecificGLAccountId(PRODUCT_ID, PortfolioProductType.LOAN, FUND_SOURCE, 6L)).isEmpty();
+        assertThat(underTest.findCoreGLAccountId(PRODUCT_ID, PortfolioProductType.LOAN, INCOME_FROM_FEES)).contains(12L);
+        assertThat(underTest.findChargeSpecificGLAccountId(PRODUCT_ID, PortfolioProductType.LOAN, INCOME_FROM_FEES, 7L)).contains(13L);
+        assertThat(underTest.findChargeSpecificGLAccountId(PRODUCT_ID, PortfolioProductType.LOAN, INCOME_FROM_FEES, null)).isEmpty();
+        verify(repository, times(1)).findByProductIdAndProductType(PRODUCT_ID, PortfolioProductType.LOAN.getValue());
+    }
+
+    @Test
+    public void testMappingsAreReloadedAfterInvalidation() {
+        // given
+        underTest.findCoreGLAccountId(PRODUCT_ID, PortfolioProductType.LOAN, FUND_SOURCE);
+        // when
+        underTest.invalidate();
+        underTest.findCoreGLAccountId(PRODUCT_ID, PortfolioProductType.LOAN, FUND_SOURCE);
+        // then
+        verify(repository, times(2)).findByProductIdAndProductType(PRODUCT_ID, PortfolioProductType.LOAN.getValue());
+    }
+
+    private ProductToGLAccountMapping mapping(Long glAccountId, int financialAccountType) {
+        GLAccount glAccount = mock(GLAccount.class);
+        when(glAccount.getId()).thenReturn(glAccountId);
+        return ProductToGLAccountMapping.createNew(glAccount, PRODUCT_ID, PortfolioProductType.LOAN.getValue(), financialAccountType);
+    }
+}
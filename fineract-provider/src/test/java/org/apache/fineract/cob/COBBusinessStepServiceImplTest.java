@@ -0,0 +1,171 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.TreeMap;
+import org.apache.fineract.cob.data.BusinessStepExecutionSummary;
+import org.apache.fineract.cob.domain.BatchBusinessStepRepository;
+import org.apache.fineract.cob.service.BusinessStepStatistics;
+import org.apache.fineract.cob.service.ReloaderService;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "unchecked" })
+public class COBBusinessStepServiceImplTest {
+
+    @Mock
+    private BatchBusinessStepRepository batchBusinessStepRepository;
+    @Mock
+    private ApplicationContext applicationContext;
+    @Mock
+    private ListableBeanFactory beanFactory;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private ReloaderService reloaderService;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @InjectMocks
+    private COBBusinessStepServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        when(reloaderService.reload(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testReloadIsSkippedAfterStepWhichDoesNotRequireIt() {
+        // given
+        Loan loan = mock(Loan.class);
+        TreeMap<Long, String> executionMap = new TreeMap<>();
+        executionMap.put(1L, "readOnlyStep");
+        executionMap.put(2L, "mutatingStep");
+        executionMap.put(3L, "lastStep");
+        COBBusinessStep<Loan> readOnlyStep = mock(COBBusinessStep.class);
+        COBBusinessStep<Loan> mutatingStep = mock(COBBusinessStep.class);
+        COBBusinessStep<Loan> lastStep = mock(COBBusinessStep.class);
+        when(applicationContext.getBean("readOnlyStep")).thenReturn(readOnlyStep);
+        when(applicationContext.getBean("mutatingStep")).thenReturn(mutatingStep);
+        when(applicationContext.getBean("lastStep")).thenReturn(lastStep);
+        when(readOnlyStep.execute(loan)).thenReturn(loan);
+        when(readOnlyStep.isReloadRequired()).thenReturn(false);
+        when(mutatingStep.execute(loan)).thenReturn(loan);
+        when(mutatingStep.isReloadRequired()).thenReturn(true);
+        when(lastStep.execute(loan)).thenReturn(loan);
+
+        // when
+        underTest.run(executionMap, loan);
+
+        // then
+        // before the first step and after the mutating step
+        verify(reloaderService, times(2)).reload(loan);
+        assertEquals(1.0, meterRegistry.get(COBBusinessStepServiceImpl.BUSINESS_STEP_RELOAD_METRIC).tag("step", "mutatingStep")
+                .tag("reloaded", "false").counter().count());
+        assertEquals(1.0, meterRegistry.get(COBBusinessStepServiceImpl.BUSINESS_STEP_RELOAD_METRIC).tag("step", "lastStep")
+                .tag("reloaded", "true").counter().count());
+    }
+
+    @Test
+    public void testReloadIsDoneWhenStepReturnsDifferentInstance() {
+        // given
+        Loan loan = mock(Loan.class);
+        Loan otherLoan = mock(Loan.class);
+        TreeMap<Long, String> executionMap = new TreeMap<>();
+        executionMap.put(1L, "readOnlyStep");
+        executionMap.put(2L, "lastStep");
+        COBBusinessStep<Loan> readOnlyStep = mock(COBBusinessStep.class);
+        COBBusinessStep<Loan> lastStep = mock(COBBusinessStep.class);
+        when(applicationContext.getBean("readOnlyStep")).thenReturn(readOnlyStep);
+        when(applicationContext.getBean("lastStep")).thenReturn(lastStep);
+        when(readOnlyStep.execute(loan)).thenReturn(otherLoan);
+        when(lastStep.execute(otherLoan)).thenReturn(otherLoan);
+
+        // when
+        Loan result = underTest.run(executionMap, loan);
+
+        // then
+        assertEquals(otherLoan, result);
+        verify(reloaderService, times(1)).reload(loan);
+        verify(reloaderService, times(1)).reload(otherLoan);
+    }
+
+    @Test
+    public void testBusinessStepExecutionTimesAreRecorded() {
+        // given
+        Loan loan = mock(Loan.class);
+        TreeMap<Long, String> executionMap = new TreeMap<>();
+        executionMap.put(1L, "firstStep");
+        executionMap.put(2L, "secondStep");
+        COBBusinessStep<Loan> firstStep = mock(COBBusinessStep.class);
+        COBBusinessStep<Loan> secondStep = mock(COBBusinessStep.class);
+        when(applicationContext.getBean("firstStep")).thenReturn(firstStep);
+        when(applicationContext.getBean("secondStep")).thenReturn(secondStep);
+        when(firstStep.execute(loan)).thenReturn(loan);
+        when(secondStep.execute(loan)).thenReturn(loan);
+        BusinessStepStatistics statistics = new BusinessStepStatistics();
+
+        // when
+        underTest.run(executionMap, loan, statistics);
+        underTest.run(executionMap, loan, statistics);
+
+        // then
+        List<BusinessStepExecutionSummary> summaries = statistics.getSummaries();
+        assertEquals(2, summaries.size());
+        assertEquals("firstStep", summaries.get(0).getStepName());
+        assertEquals(2L, summaries.get(0).getExecutionCount());
+        assertEquals("secondStep", summaries.get(1).getStepName());
+        assertEquals(2L, summaries.get(1).getExecutionCount());
+        assertEquals(2L, meterRegistry.get(COBBusinessStepServiceImpl.BUSINESS_STEP_DURATION_METRIC).tag("step", "firstStep")
+                .tag("tenant", "default").timer().count());
+    }
+}
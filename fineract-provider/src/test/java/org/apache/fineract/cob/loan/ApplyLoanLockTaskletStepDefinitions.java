@@ -88,6 +88,14 @@ public class ApplyLoanLockTaskletStepDefinitions implements En {
                 lenient().when(fineractProperties.getQuery()).thenReturn(fineractQueryProperties);
                 lenient().when(fineractQueryProperties.getInClauseParameterSizeLimit()).thenReturn(65000);
                 lenient().when(loanLockingService.findAllByLoanIdIn(Mockito.anyList())).thenThrow(new RuntimeException("fail"));
+            } else if ("set-based".equals(action)) {
+                FineractProperties.FineractJobProperties jobProperties = new FineractProperties.FineractJobProperties();
+                FineractProperties.FineractLoanCobProperties loanCobProperties = new FineractProperties.FineractLoanCobProperties();
+                loanCobProperties.setSetBasedLockingEnabled(true);
+                jobProperties.setLoanCob(loanCobProperties);
+                lenient().when(fineractProperties.getJob()).thenReturn(jobProperties);
+                lenient().when(loanLockingService.applyLock(1L, 4L, false, LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                        .thenReturn(List.of(2L, 4L));
             } else if ("db-error-first-try".equals(action)) {
                 LoanAccountLock lock1 = new LoanAccountLock(1L, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.now(ZoneId.systemDefault()));
                 LoanAccountLock lock3 = new LoanAccountLock(3L, LockOwner.LOAN_INLINE_COB_PROCESSING,
@@ -137,6 +145,14 @@ public class ApplyLoanLockTaskletStepDefinitions implements En {
             assertEquals(LockOwner.LOAN_COB_CHUNK_PROCESSING, lockOwnerValueCaptor.getValue());
         });
 
+        Then("ApplyLoanLockTasklet.execute result should match set based lock", () -> {
+            assertEquals(RepeatStatus.FINISHED, resultItem);
+            verify(loanLockingService, Mockito.times(1)).applyLock(1L, 4L, false, LockOwner.LOAN_COB_CHUNK_PROCESSING);
+            verify(loanLockingService, Mockito.never()).findAllByLoanIdIn(Mockito.anyList());
+            verify(retrieveLoanIdService, Mockito.never()).retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(any(),
+                    Mockito.anyBoolean());
+        });
+
         Then("throw exception ApplyLoanLockTasklet.execute method", () -> {
             assertThrows(RuntimeException.class, () -> {
                 resultItem = applyLoanLockTasklet.execute(stepContribution, null);
@@ -32,6 +32,7 @@ import java.time.ZoneId;
 import java.util.Collections;
 import java.util.TreeMap;
 import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.cob.service.BusinessStepStatistics;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepExecution;
@@ -68,8 +69,10 @@ public class LoanItemProcessorStepDefinitions implements En {
                 this.loanItem = loan;
             }
 
-            lenient().when(this.cobBusinessStepService.run(any(TreeMap.class), eq(null))).thenThrow(new RuntimeException("fail"));
-            lenient().when(this.cobBusinessStepService.run(any(TreeMap.class), eq(loan))).thenReturn(processedLoan);
+            lenient().when(this.cobBusinessStepService.run(any(TreeMap.class), eq(null), any(BusinessStepStatistics.class)))
+                    .thenThrow(new RuntimeException("fail"));
+            lenient().when(this.cobBusinessStepService.run(any(TreeMap.class), eq(loan), any(BusinessStepStatistics.class)))
+                    .thenReturn(processedLoan);
 
         });
 
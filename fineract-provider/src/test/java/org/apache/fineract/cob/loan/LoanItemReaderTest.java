@@ -19,10 +19,12 @@
 package org.apache.fineract.cob.loan;
 
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +34,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.data.LoanCOBParameter;
 import org.apache.fineract.cob.domain.LoanAccountLock;
@@ -169,4 +172,73 @@ class LoanItemReaderTest {
 
         Mockito.verifyNoMoreInteractions(loanRepository);
     }
+
+    @Test
+    public void testLoanItemReaderPrefetch() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService, 3, meterRegistry);
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 5L);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L, 3L, 4L, 5L)));
+        List<LoanAccountLock> accountLocks = List.of(1L, 2L, 3L, 4L, 5L).stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(1L, 2L, 3L, 4L, 5L), LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                .thenReturn(accountLocks);
+        List<Loan> loans = LongStream.rangeClosed(1, 5).mapToObj(id -> {
+            Loan loan = mock(Loan.class);
+            when(loan.getId()).thenReturn(id);
+            return loan;
+        }).toList();
+        when(loanRepository.findAllByIdsWithCollections(List.of(1L, 2L, 3L))).thenReturn(loans.subList(0, 3));
+        when(loanRepository.findAllByIdsWithCollections(List.of(4L, 5L))).thenReturn(loans.subList(3, 5));
+
+        // when + then
+        loanItemReader.beforeStep(stepExecution);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(loans.get(i), loanItemReader.read());
+        }
+        Assertions.assertNull(loanItemReader.read());
+
+        verify(loanRepository, times(1)).findAllByIdsWithCollections(List.of(1L, 2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsWithCollections(List.of(4L, 5L));
+        Mockito.verify(loanRepository, Mockito.never()).findById(anyLong());
+        Assertions.assertEquals(5.0, meterRegistry.counter(AbstractLoanItemReader.LOANS_LOADED_METRIC).count());
+    }
+
+    @Test
+    public void testLoanItemReaderPrefetchReleasesUnreadLoansBeforeNextChunk() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService, 3, new SimpleMeterRegistry());
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 3L);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L, 3L)));
+        List<LoanAccountLock> accountLocks = List.of(1L, 2L, 3L).stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(1L, 2L, 3L), LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                .thenReturn(accountLocks);
+        when(loanRepository.findAllByIdsWithCollections(List.of(1L, 2L, 3L))).thenReturn(List.of());
+        when(loanRepository.findAllByIdsWithCollections(List.of(2L, 3L))).thenReturn(List.of());
+        when(loanRepository.findById(anyLong())).thenReturn(Optional.of(loan));
+
+        // when
+        loanItemReader.beforeStep(stepExecution);
+        loanItemReader.read();
+        loanItemReader.beforeChunk(null);
+        loanItemReader.read();
+        loanItemReader.read();
+
+        // then
+        verify(loanRepository, times(1)).findAllByIdsWithCollections(List.of(1L, 2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsWithCollections(List.of(2L, 3L));
+        Assertions.assertNull(loanItemReader.read());
+    }
 }
@@ -74,9 +74,43 @@ public class RetrieveAllNonClosedLoanIdServiceImplTest {
         testRetrieveLoanCOBPartitions(expectedSQL, true);
     }
 
+    @Test
+    public void testRetrieveCostBalancedLoanCOBPartitionsNoCatchup() {
+        String expectedSQL = """
+                select min(id) as min, max(id) as max, page, count(id) as count from
+                  (select floor((sum(weight) over(order by id) - weight) * ceil(count(id) over() / cast(:pageSize as decimal))
+                      / sum(weight) over()) as page, t.id from
+                      (select l.id, 1 + (select count(lt.id) from m_loan_transaction lt where lt.loan_id = l.id)
+                          + (select count(rs.id) from m_loan_repayment_schedule rs where rs.loan_id = l.id) as weight
+                       from m_loan l where l.loan_status_id in (:statusIds) and (l.last_closed_business_date = :businessDate or l.last_closed_business_date is null)) t) t2
+                 group by page
+                 order by page
+                """;
+        testRetrieveLoanCOBPartitions(expectedSQL, false, true);
+    }
+
+    @Test
+    public void testRetrieveCostBalancedLoanCOBPartitionsCatchup() {
+        String expectedSQL = """
+                select min(id) as min, max(id) as max, page, count(id) as count from
+                  (select floor((sum(weight) over(order by id) - weight) * ceil(count(id) over() / cast(:pageSize as decimal))
+                      / sum(weight) over()) as page, t.id from
+                      (select l.id, 1 + (select count(lt.id) from m_loan_transaction lt where lt.loan_id = l.id)
+                          + (select count(rs.id) from m_loan_repayment_schedule rs where rs.loan_id = l.id) as weight
+                       from m_loan l where l.loan_status_id in (:statusIds) and l.last_closed_business_date = :businessDate) t) t2
+                 group by page
+                 order by page
+                """;
+        testRetrieveLoanCOBPartitions(expectedSQL, true, true);
+    }
+
     private void testRetrieveLoanCOBPartitions(String expectedSQL, boolean isCatchup) {
+        testRetrieveLoanCOBPartitions(expectedSQL, isCatchup, false);
+    }
+
+    private void testRetrieveLoanCOBPartitions(String expectedSQL, boolean isCatchup, boolean costBalanced) {
         RetrieveAllNonClosedLoanIdServiceImpl service = new RetrieveAllNonClosedLoanIdServiceImpl(loanRepository,
-                namedParameterJdbcTemplate);
+                namedParameterJdbcTemplate, costBalanced);
         LocalDate businessDate = LocalDate.parse("2023-06-28");
         service.retrieveLoanCOBPartitions(1L, businessDate, isCatchup, 5);
         Mockito.verify(namedParameterJdbcTemplate, times(1)).query(sqlCaptor.capture(), paramsCaptor.capture(), rowMapper.capture());
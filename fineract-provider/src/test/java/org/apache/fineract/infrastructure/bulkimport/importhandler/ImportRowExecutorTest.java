@@ -0,0 +1,184 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class ImportRowExecutorTest {
+
+    private final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+
+    @BeforeEach
+    public void setUp() {
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.setMaxPoolSize(4);
+        taskExecutor.initialize();
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 1))));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("mifos", "password"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskExecutor.shutdown();
+        ThreadLocalContextUtil.reset();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testRowsAreProcessedInOrderOnTheImportThread() {
+        final Thread importThread = Thread.currentThread();
+        final List<String> results = new ArrayList<>();
+
+        executor(1).execute(3, i -> {
+            assertSame(importThread, Thread.currentThread());
+            return "row" + i;
+        }, (result, i) -> results.add(result));
+
+        assertEquals(List.of("row0", "row1", "row2"), results);
+    }
+
+    @Test
+    public void testConcurrentRowsAreWrittenInOrderWithTheImportContexts() {
+        final Thread importThread = Thread.currentThread();
+        final List<String> results = new ArrayList<>();
+
+        executor(4).execute(50, i -> {
+            sleepUpTo(5);
+            return i + ":" + ThreadLocalContextUtil.getTenant().getTenantIdentifier() + ":"
+                    + SecurityContextHolder.getContext().getAuthentication().getName();
+        }, (result, i) -> {
+            assertSame(importThread, Thread.currentThread());
+            assertEquals(i + ":default:mifos", result);
+            results.add(result);
+        });
+
+        assertEquals(50, results.size());
+    }
+
+    @Test
+    public void testRowsOfOnePartitionAreProcessedOneAfterTheOther() {
+        final Map<String, List<Integer>> rowsOfPartition = new ConcurrentHashMap<>();
+        final Map<String, AtomicInteger> runningRowsOfPartition = new ConcurrentHashMap<>();
+        final AtomicInteger overlappingRows = new AtomicInteger();
+
+        // rows 0 and 1 share the client, rows 1 and 2 the savings account, so they are in the partition of client 1
+        final IntFunction<List<String>> partitionKeys = i -> switch (i) {
+            case 0 -> List.of("client:1");
+            case 1 -> List.of("client:1", "savings:1");
+            case 2 -> List.of("savings:1");
+            default -> List.of("client:" + (i % 3 + 1));
+        };
+        executor(4).execute(60, partitionKeys, i -> {
+            final String partition = i < 3 ? "client:1" : partitionKeys.apply(i).get(0);
+            final AtomicInteger runningRows = runningRowsOfPartition.computeIfAbsent(partition, p -> new AtomicInteger());
+            if (runningRows.incrementAndGet() > 1) {
+                overlappingRows.incrementAndGet();
+            }
+            rowsOfPartition.computeIfAbsent(partition, p -> Collections.synchronizedList(new ArrayList<>())).add(i);
+            sleepUpTo(3);
+            runningRows.decrementAndGet();
+            return i;
+        }, (result, i) -> assertEquals(i, result));
+
+        assertEquals(0, overlappingRows.get());
+        rowsOfPartition.values().forEach(rows -> assertEquals(rows.stream().sorted().toList(), rows));
+        assertEquals(List.of(0, 1, 2, 3, 6, 9), rowsOfPartition.get("client:1").subList(0, 6));
+    }
+
+    @Test
+    public void testRowsNotStartedYetAreSkippedWhenTheImportStops() throws InterruptedException {
+        final Thread importThread = Thread.currentThread();
+        final CountDownLatch firstRowMayFinish = new CountDownLatch(1);
+        final AtomicInteger startedRows = new AtomicInteger();
+
+        // the rows share the client, so the rows in flight after the first one wait for it
+        assertThrows(IllegalStateException.class, () -> executor(2).execute(10, i -> List.of("client:1"), i -> {
+            startedRows.incrementAndGet();
+            if (i == 0) {
+                importThread.interrupt();
+                awaitUninterruptibly(firstRowMayFinish);
+            }
+            return i;
+        }, (result, i) -> {}));
+        assertTrue(Thread.interrupted());
+        firstRowMayFinish.countDown();
+        taskExecutor.getThreadPoolExecutor().shutdown();
+        assertTrue(taskExecutor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(1, startedRows.get());
+    }
+
+    private ImportRowExecutor executor(final int rowThreadCount) {
+        final FineractProperties.FineractBulkImportProperties bulkImportProperties = new FineractProperties.FineractBulkImportProperties();
+        bulkImportProperties.setRowThreadCount(rowThreadCount);
+        final FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setBulkImport(bulkImportProperties);
+        return new ImportRowExecutor(taskExecutor, fineractProperties);
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepUpTo(final int millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextInt(millis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.dataqueries.service.DatatableMetadataCache.ColumnDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class DatatableMetadataCacheTest {
+
+    private static final String VERSION_SQL = "select version from m_datatable_metadata_version where id = 1";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private FineractProperties fineractProperties;
+
+    @Mock
+    private FineractProperties.FineractDatatableProperties datatableProperties;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final Function<String, List<ColumnDefinition>> loader = tableName -> {
+        loadCount.incrementAndGet();
+        return List.of(new ColumnDefinition("id", "BIGINT", 0L, false, true, true, true, null),
+                new ColumnDefinition("gender_cd", "INT", 0L, true, false, false, false, "gender"));
+    };
+
+    private DatatableMetadataCache underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        lenient().when(fineractProperties.getDatatable()).thenReturn(datatableProperties);
+        underTest = new DatatableMetadataCache(jdbcTemplate, fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void columnDefinitionsAreLoadedOnceWhileTheVersionIsUnchanged() {
+        when(datatableProperties.getMetadataVersionCheckIntervalInMillis()).thenReturn(0L);
+        when(jdbcTemplate.queryForObject(VERSION_SQL, Long.class)).thenReturn(3L);
+
+        List<ColumnDefinition> first = underTest.getColumnDefinitions("dt_client", loader);
+        List<ColumnDefinition> second = underTest.getColumnDefinitions("dt_client", loader);
+
+        assertSame(first, second);
+        assertEquals(2, first.size());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void columnDefinitionsAreReloadedWhenTheVersionChanges() {
+        when(datatableProperties.getMetadataVersionCheckIntervalInMillis()).thenReturn(0L);
+        when(jdbcTemplate.queryForObject(VERSION_SQL, Long.class)).thenReturn(3L, 4L);
+
+        underTest.getColumnDefinitions("dt_client", loader);
+        underTest.getColumnDefinitions("dt_client", loader);
+
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void versionIsNotCheckedWithinTheCheckInterval() {
+        when(datatableProperties.getMetadataVersionCheckIntervalInMillis()).thenReturn(60_000L);
+        when(jdbcTemplate.queryForObject(VERSION_SQL, Long.class)).thenReturn(3L);
+
+        underTest.getColumnDefinitions("dt_client", loader);
+        underTest.getColumnDefinitions("dt_client", loader);
+        underTest.getColumnDefinitions("dt_loan", loader);
+
+        verify(jdbcTemplate, times(1)).queryForObject(VERSION_SQL, Long.class);
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void invalidateIncrementsTheVersionAndDropsTheDefinitions() {
+        when(datatableProperties.getMetadataVersionCheckIntervalInMillis()).thenReturn(60_000L);
+        when(jdbcTemplate.queryForObject(VERSION_SQL, Long.class)).thenReturn(3L, 4L);
+
+        underTest.getColumnDefinitions("dt_client", loader);
+        underTest.invalidate();
+        underTest.getColumnDefinitions("dt_client", loader);
+
+        verify(jdbcTemplate).update("update m_datatable_metadata_version set version = version + 1 where id = 1");
+        assertEquals(2, loadCount.get());
+    }
+}
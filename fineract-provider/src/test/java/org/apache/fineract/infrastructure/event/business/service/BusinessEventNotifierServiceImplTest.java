@@ -29,14 +29,15 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
-import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
-import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventConfiguration;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventConfigurationCache;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -58,7 +59,7 @@ class BusinessEventNotifierServiceImplTest {
     private ExternalEventService externalEventService;
 
     @Mock
-    private ExternalEventConfigurationRepository externalEventConfigurationRepository;
+    private ExternalEventConfigurationCache externalEventConfigurationCache;
 
     @Mock
     private FineractProperties fineractProperties;
@@ -80,8 +81,7 @@ class BusinessEventNotifierServiceImplTest {
         TransactionExecution mockTransaction = mock(TransactionExecution.class);
         underTest.afterBegin(mockTransaction, null);
         // when
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         when(transactionHelper.hasTransaction()).thenReturn(true);
         underTest.notifyPostBusinessEvent(event);
         // then
@@ -94,6 +94,32 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(mockTransaction);
     }
 
+    @Test
+    public void testNotifyPostBusinessEventShouldPostEventsInBatchWithinTransaction() {
+        // given
+        setBusinessDate();
+        configureExternalEventsProperties(true, true);
+        MockBusinessEvent event1 = new MockBusinessEvent();
+        MockBusinessEvent event2 = new MockBusinessEvent();
+        ExternalEvent externalEvent1 = mock(ExternalEvent.class);
+        ExternalEvent externalEvent2 = mock(ExternalEvent.class);
+        TransactionExecution mockTransaction = mock(TransactionExecution.class);
+        underTest.afterBegin(mockTransaction, null);
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
+        when(transactionHelper.hasTransaction()).thenReturn(true);
+        when(externalEventService.createExternalEvent(event1)).thenReturn(externalEvent1);
+        when(externalEventService.createExternalEvent(event2)).thenReturn(externalEvent2);
+        // when
+        underTest.notifyPostBusinessEvent(event1);
+        underTest.notifyPostBusinessEvent(event2);
+        underTest.beforeCommit(mockTransaction);
+        underTest.afterCommit(mockTransaction, null);
+        // then
+        verify(externalEventService, Mockito.times(1)).flushChangesBeforeSerialization();
+        verify(externalEventService).saveExternalEvents(List.of(externalEvent1, externalEvent2));
+        verify(externalEventService, never()).postEvent(any());
+    }
+
     private void setBusinessDate() {
         HashMap<BusinessDateType, LocalDate> map = new HashMap<>(2);
         map.put(BusinessDateType.BUSINESS_DATE, LocalDate.of(2023, 2, 1));
@@ -112,8 +138,7 @@ class BusinessEventNotifierServiceImplTest {
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
         TransactionExecution mockTransaction = mock(TransactionExecution.class);
         // when
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         when(transactionHelper.hasTransaction()).thenReturn(true);
 
         // simulate outer transaction
@@ -148,8 +173,7 @@ class BusinessEventNotifierServiceImplTest {
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
         TransactionExecution mockTransaction = mock(TransactionExecution.class);
         // when
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         when(transactionHelper.hasTransaction()).thenReturn(true);
 
         // simulate outer transaction
@@ -183,8 +207,7 @@ class BusinessEventNotifierServiceImplTest {
         TransactionExecution mockTransaction = mock(TransactionExecution.class);
         underTest.afterBegin(mockTransaction, null);
         // when
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         when(transactionHelper.hasTransaction()).thenReturn(true);
         underTest.notifyPostBusinessEvent(event);
         // then
@@ -222,8 +245,7 @@ class BusinessEventNotifierServiceImplTest {
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
 
         when(transactionHelper.hasTransaction()).thenReturn(false);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         // when
         underTest.notifyPostBusinessEvent(event);
         // then
@@ -235,8 +257,7 @@ class BusinessEventNotifierServiceImplTest {
     public void testNotifyPostBusinessEventShouldNotPostAnythingWhenNoEventWasRaisedExternalEventWhenRecordingEnabled() {
         // given
         configureExternalEventsProperties(true);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         underTest.startExternalEventRecording();
         // when
         underTest.stopExternalEventRecording();
@@ -248,8 +269,7 @@ class BusinessEventNotifierServiceImplTest {
     public void testNotifyPostBusinessEventShouldNotifyPostListenersAndPostARegularExternalEventWhenRecordingEnabled() {
         // given
         configureExternalEventsProperties(true);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         MockBusinessEvent event = new MockBusinessEvent();
         BusinessEventListener<MockBusinessEvent> postListener = mockListener();
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
@@ -266,8 +286,7 @@ class BusinessEventNotifierServiceImplTest {
     public void testNotifyPostBusinessEventShouldNotifyPostListenersAndPostAnBulkExternalEventWhenRecordingEnabled() {
         // given
         configureExternalEventsProperties(true);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         MockBusinessEvent event = new MockBusinessEvent();
         MockBusinessEvent event2 = new MockBusinessEvent();
         BusinessEventListener<MockBusinessEvent> postListener = mockListener();
@@ -323,8 +342,7 @@ class BusinessEventNotifierServiceImplTest {
     public void testNotifyPostBusinessEventShouldNotifyPostListenersAndShouldNotPostAnExternalEventIfNotConfiguredForPosting() {
         // given
         configureExternalEventsProperties(true);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", false));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(false);
         MockBusinessEvent event = new MockBusinessEvent();
         BusinessEventListener<MockBusinessEvent> postListener = mockListener();
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
@@ -336,10 +354,15 @@ class BusinessEventNotifierServiceImplTest {
     }
 
     private void configureExternalEventsProperties(boolean isExternalEventsEnabled) {
+        configureExternalEventsProperties(isExternalEventsEnabled, false);
+    }
+
+    private void configureExternalEventsProperties(boolean isExternalEventsEnabled, boolean isBatchPostingEnabled) {
         FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
         FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
         eventsProperties.setExternal(externalProperties);
         externalProperties.setEnabled(isExternalEventsEnabled);
+        externalProperties.setBatchPostingEnabled(isBatchPostingEnabled);
         given(fineractProperties.getEvents()).willReturn(eventsProperties);
     }
 
@@ -45,6 +45,7 @@ import org.apache.fineract.infrastructure.event.external.exception.Acknowledgeme
 import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventSendingService;
 import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
 import org.junit.jupiter.api.AfterEach;
@@ -94,8 +95,9 @@ class SendAsynchronousEventsTaskletTest {
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
         configureExternalEventsProducerReadBatchSizeProperty();
-        underTest = new SendAsynchronousEventsTasklet(fineractProperties, repository, eventProducer, messageFactory, byteBufferConverter,
-                configurationDomainService);
+        ExternalEventSendingService sendingService = new ExternalEventSendingService(fineractProperties, repository, eventProducer,
+                messageFactory, byteBufferConverter);
+        underTest = new SendAsynchronousEventsTasklet(fineractProperties, repository, sendingService, configurationDomainService);
     }
 
     @AfterEach
@@ -19,8 +19,11 @@
 package org.apache.fineract.infrastructure.event.external.producer.jms;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.jms.BytesMessage;
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
@@ -38,6 +41,7 @@ import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.messaging.jms.MessageFactory;
 import org.apache.fineract.infrastructure.core.service.HashingService;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -88,9 +92,13 @@ class JMSMultiExternalEventProducerTest {
 
     private FineractProperties fineractProperties;
 
+    private FineractProperties.FineractExternalEventsProducerJmsProperties jms;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach
     public void setUp() throws Exception {
-        FineractProperties.FineractExternalEventsProducerJmsProperties jms = new FineractProperties.FineractExternalEventsProducerJmsProperties();
+        jms = new FineractProperties.FineractExternalEventsProducerJmsProperties();
         jms.setProducerCount(PRODUCER_COUNT);
         FineractProperties.FineractExternalEventsProducerProperties producer = new FineractProperties.FineractExternalEventsProducerProperties();
         producer.setJms(jms);
@@ -101,10 +109,11 @@ class JMSMultiExternalEventProducerTest {
         fineractProperties = new FineractProperties();
         fineractProperties.setEvents(events);
         underTest = new JMSMultiExternalEventProducer(destination, connectionFactory, messageFactory, taskExecutor, hashingService,
-                fineractProperties);
+                fineractProperties, meterRegistry);
 
         given(connectionFactory.createConnection()).willReturn(connection);
         given(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).willReturn(session1, session2, session3);
+        given(connection.createSession(true, Session.SESSION_TRANSACTED)).willReturn(session1, session2, session3);
         given(session1.createProducer(destination)).willReturn(producer1);
         given(session2.createProducer(destination)).willReturn(producer2);
         given(session3.createProducer(destination)).willReturn(producer3);
@@ -165,6 +174,50 @@ class JMSMultiExternalEventProducerTest {
         verify(producer3).send(destination, bytesMsg3);
     }
 
+    @Test
+    public void testSendEventsWithPooledProducersReusesSessions() throws Exception {
+        // given
+        jms.setPooledProducersEnabled(true);
+        byte[] msg1 = createMessage();
+        byte[] msg2 = createMessage();
+        BytesMessage bytesMsg1 = Mockito.mock(BytesMessage.class);
+        BytesMessage bytesMsg2 = Mockito.mock(BytesMessage.class);
+        given(messageFactory.createByteMessage(msg1)).willReturn(bytesMsg1);
+        given(messageFactory.createByteMessage(msg2)).willReturn(bytesMsg2);
+        given(hashingService.consistentHash(1L, PRODUCER_COUNT)).willReturn(0);
+        // when
+        underTest.sendEvents(Map.of(1L, List.of(msg1)));
+        underTest.sendEvents(Map.of(1L, List.of(msg2)));
+        // then
+        verify(connectionFactory, times(1)).createConnection();
+        verify(connection, times(PRODUCER_COUNT)).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(session1, never()).close();
+        verify(producer1).send(destination, bytesMsg1);
+        verify(producer1).send(destination, bytesMsg2);
+        Assertions.assertEquals(2.0, meterRegistry.counter(JMSMultiExternalEventProducer.SENT_METRIC, "producer", "0").count());
+        underTest.destroy();
+    }
+
+    @Test
+    public void testSendEventsWithTransactedSessionsCommitsPerProducer() throws Exception {
+        // given
+        jms.setTransactedSendEnabled(true);
+        given(session1.getTransacted()).willReturn(true);
+        byte[] msg1 = createMessage();
+        byte[] msg2 = createMessage();
+        BytesMessage bytesMsg1 = Mockito.mock(BytesMessage.class);
+        BytesMessage bytesMsg2 = Mockito.mock(BytesMessage.class);
+        given(messageFactory.createByteMessage(msg1)).willReturn(bytesMsg1);
+        given(messageFactory.createByteMessage(msg2)).willReturn(bytesMsg2);
+        given(hashingService.consistentHash(1L, PRODUCER_COUNT)).willReturn(0);
+        // when
+        underTest.sendEvents(Map.of(1L, List.of(msg1, msg2)));
+        // then
+        verify(producer1).send(destination, bytesMsg1);
+        verify(producer1).send(destination, bytesMsg2);
+        verify(session1, times(1)).commit();
+    }
+
     private byte[] createMessage() throws IOException {
         MessageV1 messageV1 = new MessageV1();
         messageV1.setId(rnd.nextInt());
@@ -21,11 +21,14 @@ package org.apache.fineract.infrastructure.event.external.producer.kafka;
 import static org.mockito.Mockito.times;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.event.external.exception.PartialAcknowledgementException;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -41,6 +44,9 @@ import org.springframework.kafka.support.SendResult;
 class KafkaExternalEventProducerTest {
 
     public static final String TOPIC_NAME = "unit-test";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Mock
     private KafkaTemplate<Long, byte[]> kafkaTemplate;
 
@@ -60,7 +66,7 @@ class KafkaExternalEventProducerTest {
     @Test
     public void testSendOK() {
         // given
-        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties());
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties(), meterRegistry);
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST)).thenReturn(CompletableFuture.completedFuture(sendResult1));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, SECOND)).thenReturn(CompletableFuture.completedFuture(sendResult2));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 2L, THIRD)).thenReturn(CompletableFuture.completedFuture(sendResult2));
@@ -78,26 +84,47 @@ class KafkaExternalEventProducerTest {
     @Test
     public void testSendOneFails() {
         // given
-        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties());
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties(), meterRegistry);
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST)).thenReturn(CompletableFuture.completedFuture(sendResult1));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, SECOND)).thenReturn(CompletableFuture.completedFuture(sendResult2));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 2L, THIRD))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
 
         // when
-        Assertions.assertThrows(RuntimeException.class, () -> underTest.sendEvents(Map.of(1L, List.of(FIRST, SECOND), 2L, List.of(THIRD))));
+        PartialAcknowledgementException exception = Assertions.assertThrows(PartialAcknowledgementException.class,
+                () -> underTest.sendEvents(Map.of(1L, List.of(FIRST, SECOND), 2L, List.of(THIRD))));
 
         // then
+        Assertions.assertEquals(Set.of(2L), exception.getUnacknowledgedPartitions());
+        Assertions.assertEquals(2.0, meterRegistry.counter(KafkaExternalEventProducer.SENT_METRIC, "result", "success").count());
+        Assertions.assertEquals(1.0, meterRegistry.counter(KafkaExternalEventProducer.SENT_METRIC, "result", "failure").count());
         Mockito.verify(kafkaTemplate, times(1)).send(TOPIC_NAME, 1L, FIRST);
         Mockito.verify(kafkaTemplate, times(1)).send(TOPIC_NAME, 1L, SECOND);
         Mockito.verify(kafkaTemplate, times(1)).send(TOPIC_NAME, 2L, THIRD);
         Mockito.verifyNoMoreInteractions(kafkaTemplate);
     }
 
+    @Test
+    public void testSendAllFail() {
+        // given
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties(), meterRegistry);
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+
+        // when
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class,
+                () -> underTest.sendEvents(Map.of(1L, List.of(FIRST))));
+
+        // then
+        Assertions.assertFalse(exception instanceof PartialAcknowledgementException);
+        Mockito.verify(kafkaTemplate, times(1)).send(TOPIC_NAME, 1L, FIRST);
+        Mockito.verifyNoMoreInteractions(kafkaTemplate);
+    }
+
     @Test
     public void testTimeOut() {
         // given
-        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties());
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createProperties(), meterRegistry);
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST)).thenReturn(CompletableFuture.completedFuture(sendResult1));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, SECOND)).thenReturn(CompletableFuture.completedFuture(sendResult2));
         Mockito.when(kafkaTemplate.send(TOPIC_NAME, 2L, THIRD)).thenReturn(new CompletableFuture<>());
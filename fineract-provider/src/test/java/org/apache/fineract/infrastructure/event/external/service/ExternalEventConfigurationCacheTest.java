@@ -0,0 +1,92 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.exception.ExternalEventConfigurationNotFoundException;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalEventConfigurationCacheTest {
+
+    @Mock
+    private ExternalEventConfigurationRepository repository;
+
+    private ExternalEventConfigurationCache underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties fineractProperties = new FineractProperties();
+        FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
+        FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
+        externalProperties.setConfigurationCacheTtlInSeconds(60);
+        eventsProperties.setExternal(externalProperties);
+        fineractProperties.setEvents(eventsProperties);
+        underTest = new ExternalEventConfigurationCache(repository, fineractProperties);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default Tenant", "Europe/Budapest", null));
+        when(repository.findAll())
+                .thenReturn(List.of(new ExternalEventConfiguration("aType", true), new ExternalEventConfiguration("bType", false)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testIsEnabledShouldLoadConfigurationsOnlyOnce() {
+        // when & then
+        assertThat(underTest.isEnabled("aType")).isTrue();
+        assertThat(underTest.isEnabled("bType")).isFalse();
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    public void testIsEnabledShouldReloadConfigurationsAfterInvalidation() {
+        // given
+        underTest.isEnabled("aType");
+        // when
+        underTest.invalidate();
+        underTest.isEnabled("aType");
+        // then
+        verify(repository, times(2)).findAll();
+    }
+
+    @Test
+    public void testIsEnabledShouldFailForUnknownType() {
+        // when & then
+        assertThatThrownBy(() -> underTest.isEnabled("unknown")).isExactlyInstanceOf(ExternalEventConfigurationNotFoundException.class);
+    }
+}
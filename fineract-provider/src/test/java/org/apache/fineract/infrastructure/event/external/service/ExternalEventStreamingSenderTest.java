@@ -0,0 +1,239 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.businessdate.service.BusinessDateReadPlatformService;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractEventsProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsStreamingProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalEventStreamingSenderTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000L;
+
+    @Mock
+    private TenantDetailsService tenantDetailsService;
+    @Mock
+    private BusinessDateReadPlatformService businessDateReadPlatformService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private ExternalEventRepository repository;
+    @Mock
+    private ExternalEventSendingService sendingService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ExternalEventStreamingLease lease;
+
+    private final NavigableMap<Long, ExternalEventView> eventsToBeSent = new ConcurrentSkipListMap<>();
+    private final List<Long> sentEventIds = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> markedEventIds = Collections.synchronizedList(new ArrayList<>());
+
+    private ExternalEventStreamingSender underTest;
+
+    @BeforeEach
+    public void setUp() {
+        FineractExternalEventsStreamingProperties streamingProperties = new FineractExternalEventsStreamingProperties();
+        streamingProperties.setEnabled(true);
+        streamingProperties.setIdleIntervalInMillis(10L);
+        streamingProperties.setLeaseDurationInSeconds(30L);
+        streamingProperties.setTenantRefreshIntervalInSeconds(1L);
+        FineractExternalEventsProperties externalProperties = new FineractExternalEventsProperties();
+        externalProperties.setEnabled(true);
+        externalProperties.setStreaming(streamingProperties);
+        FineractEventsProperties eventsProperties = new FineractEventsProperties();
+        eventsProperties.setExternal(externalProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setEvents(eventsProperties);
+
+        lenient().when(sendingService.isDownstreamChannelEnabled()).thenReturn(true);
+        lenient().when(tenantDetailsService.findAllTenants())
+                .thenReturn(List.of(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null)));
+        lenient().when(businessDateReadPlatformService.getBusinessDates())
+                .thenReturn(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 1))));
+        lenient().when(configurationDomainService.retrieveExternalEventBatchSize()).thenReturn(2L);
+        lenient().when(lease.acquire(anyString(), eq(30L))).thenReturn(true);
+        lenient().when(repository.findByStatusAndIdGreaterThanOrderById(eq(ExternalEventStatus.TO_BE_SENT), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> findEventsToBeSent(invocation.getArgument(1), invocation.getArgument(2)));
+        lenient().when(sendingService.generatePartitions(anyList())).thenAnswer(invocation -> {
+            List<ExternalEventView> events = invocation.getArgument(0);
+            events.forEach(event -> sentEventIds.add(event.getId()));
+            return Map.of();
+        });
+        lenient().doAnswer(invocation -> {
+            List<Long> eventIds = invocation.getArgument(0);
+            markedEventIds.addAll(eventIds);
+            eventsToBeSent.keySet().removeAll(eventIds);
+            return null;
+        }).when(sendingService).markEventsAsSent(anyList());
+
+        underTest = new ExternalEventStreamingSender(fineractProperties, tenantDetailsService, businessDateReadPlatformService,
+                configurationDomainService, repository, sendingService, transactionManager, new SimpleMeterRegistry(), lease);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        underTest.stop();
+    }
+
+    @Test
+    public void testEventsAreSentAndMarkedInIdOrder() {
+        givenEventsToBeSent(1L, 2L, 3L, 4L, 5L);
+
+        underTest.start();
+
+        verify(sendingService, timeout(TIMEOUT_MILLIS).times(3)).markEventsAsSent(anyList());
+        assertThat(sentEventIds).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(markedEventIds).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    public void testNextSweepWaitsUntilEveryBatchOfTheSweepIsMarkedAsSent() throws InterruptedException {
+        CountDownLatch markingStarted = new CountDownLatch(1);
+        CountDownLatch markingReleased = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            markingStarted.countDown();
+            markingReleased.await();
+            List<Long> eventIds = invocation.getArgument(0);
+            markedEventIds.addAll(eventIds);
+            eventsToBeSent.keySet().removeAll(eventIds);
+            return null;
+        }).when(sendingService).markEventsAsSent(anyList());
+        givenEventsToBeSent(1L);
+
+        underTest.start();
+
+        assertThat(markingStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        verify(repository, after(200).times(1)).findByStatusAndIdGreaterThanOrderById(eq(ExternalEventStatus.TO_BE_SENT), eq(0L),
+                any(Pageable.class));
+
+        markingReleased.countDown();
+
+        verify(repository, timeout(TIMEOUT_MILLIS).atLeast(2)).findByStatusAndIdGreaterThanOrderById(eq(ExternalEventStatus.TO_BE_SENT),
+                eq(0L), any(Pageable.class));
+        assertThat(sentEventIds).containsExactly(1L);
+        assertThat(markedEventIds).containsExactly(1L);
+    }
+
+    @Test
+    public void testStopTerminatesTheStreamThreads() {
+        underTest.start();
+        verify(repository, timeout(TIMEOUT_MILLIS).atLeastOnce()).findByStatusAndIdGreaterThanOrderById(
+                eq(ExternalEventStatus.TO_BE_SENT), eq(0L), any(Pageable.class));
+
+        underTest.stop();
+
+        assertThat(underTest.isRunning()).isFalse();
+        assertThat(Thread.getAllStackTraces().keySet()).noneMatch(
+                thread -> thread.isAlive() && thread.getName().startsWith(ExternalEventStreamingSender.THREAD_NAME_PREFIX));
+    }
+
+    @Test
+    public void testStartIsSkippedWithoutAnEnabledChannel() {
+        lenient().when(sendingService.isDownstreamChannelEnabled()).thenReturn(false);
+
+        underTest.start();
+
+        assertThat(underTest.isRunning()).isFalse();
+        verify(repository, after(100).never()).findByStatusAndIdGreaterThanOrderById(any(), anyLong(), any());
+    }
+
+    @Test
+    public void testEventsAreNotReadWithoutTheLeaseOfTheTenant() {
+        lenient().when(lease.acquire(anyString(), eq(30L))).thenReturn(false);
+        givenEventsToBeSent(1L);
+
+        underTest.start();
+
+        verify(lease, timeout(TIMEOUT_MILLIS).atLeast(2)).acquire(anyString(), eq(30L));
+        verify(repository, never()).findByStatusAndIdGreaterThanOrderById(any(), anyLong(), any());
+        assertThat(sentEventIds).isEmpty();
+    }
+
+    @Test
+    public void testTenantsAddedLaterAreStreamedWithoutARestart() {
+        lenient().when(tenantDetailsService.findAllTenants()).thenReturn(List.of())
+                .thenReturn(List.of(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null)));
+        givenEventsToBeSent(1L);
+
+        underTest.start();
+
+        verify(sendingService, timeout(TIMEOUT_MILLIS).times(1)).markEventsAsSent(anyList());
+        verify(tenantDetailsService, atLeast(2)).findAllTenants();
+        assertThat(markedEventIds).containsExactly(1L);
+    }
+
+    private void givenEventsToBeSent(Long... ids) {
+        for (Long id : ids) {
+            ExternalEventView event = mock(ExternalEventView.class);
+            lenient().when(event.getId()).thenReturn(id);
+            lenient().when(event.getCreatedAt()).thenReturn(DateUtils.getAuditOffsetDateTime());
+            eventsToBeSent.put(id, event);
+        }
+    }
+
+    private List<ExternalEventView> findEventsToBeSent(long lastId, Pageable pageable) {
+        return eventsToBeSent.tailMap(lastId, false).values().stream().limit(pageable.getPageSize()).toList();
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualsProcessingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+@ExtendWith(MockitoExtension.class)
+class AddPeriodicAccrualEntriesTaskletTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 3, 15);
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private LoanAccrualsProcessingService loanAccrualsProcessingService;
+    @Mock
+    private StepContribution stepContribution;
+    @Mock
+    private StepExecution stepExecution;
+    @Mock
+    private ChunkContext chunkContext;
+
+    private final ExecutionContext executionContext = new ExecutionContext();
+    private AddPeriodicAccrualEntriesTasklet underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        given(stepContribution.getStepExecution()).willReturn(stepExecution);
+        given(stepExecution.getExecutionContext()).willReturn(executionContext);
+        underTest = new AddPeriodicAccrualEntriesTasklet(loanAccrualsProcessingService, CHUNK_SIZE);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testExecuteProcessesLoanIdRangesAndStoresTheLastProcessedLoanId() throws Exception {
+        // given
+        given(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(0L, CHUNK_SIZE)).willReturn(List.of(3L, 7L));
+        given(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(7L, CHUNK_SIZE)).willReturn(List.of(9L));
+        given(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(9L, CHUNK_SIZE)).willReturn(List.of());
+        // when
+        RepeatStatus first = underTest.execute(stepContribution, chunkContext);
+        RepeatStatus second = underTest.execute(stepContribution, chunkContext);
+        RepeatStatus third = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(second).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(third).isEqualTo(RepeatStatus.FINISHED);
+        verify(loanAccrualsProcessingService).addPeriodicAccruals(BUSINESS_DATE, 0L, 7L);
+        verify(loanAccrualsProcessingService).addPeriodicAccruals(BUSINESS_DATE, 7L, 9L);
+        assertThat(executionContext.getLong(AddPeriodicAccrualEntriesTasklet.LAST_PROCESSED_LOAN_ID)).isEqualTo(9L);
+    }
+
+    @Test
+    public void testExecuteContinuesAfterTheLastProcessedLoanIdOnRestart() throws Exception {
+        // given
+        executionContext.putLong(AddPeriodicAccrualEntriesTasklet.LAST_PROCESSED_LOAN_ID, 7L);
+        given(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(7L, CHUNK_SIZE)).willReturn(List.of());
+        // when
+        RepeatStatus result = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertThat(result).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(executionContext.getLong(AddPeriodicAccrualEntriesTasklet.LAST_PROCESSED_LOAN_ID)).isEqualTo(7L);
+    }
+
+    @Test
+    public void testExecuteFailsAfterTheLastChunkIsCommittedWhenAnyLoanFailed() throws Exception {
+        // given
+        given(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(0L, CHUNK_SIZE)).willReturn(List.of(3L, 7L));
+        given(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(7L, CHUNK_SIZE)).willReturn(List.of(9L));
+        given(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(9L, CHUNK_SIZE)).willReturn(List.of());
+        willThrow(new JobExecutionException(List.of(new IllegalStateException("failed")))).given(loanAccrualsProcessingService)
+                .addPeriodicAccruals(BUSINESS_DATE, 0L, 7L);
+        // when
+        RepeatStatus first = underTest.execute(stepContribution, chunkContext);
+        RepeatStatus last = underTest.execute(stepContribution, chunkContext);
+        // then
+        // the execution of the last chunk completes normally, so its transaction is committed
+        assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(last).isEqualTo(RepeatStatus.CONTINUABLE);
+        verify(loanAccrualsProcessingService).addPeriodicAccruals(BUSINESS_DATE, 7L, 9L);
+        assertThat(executionContext.getLong(AddPeriodicAccrualEntriesTasklet.LAST_PROCESSED_LOAN_ID)).isEqualTo(9L);
+        assertThat(executionContext.getLong(AddPeriodicAccrualEntriesTasklet.FIRST_FAILED_CHUNK_AFTER_LOAN_ID)).isEqualTo(0L);
+        assertThrows(JobExecutionException.class, () -> underTest.execute(stepContribution, chunkContext));
+    }
+
+    @Test
+    public void testExecuteProcessesTheFailedChunksAgainOnRestart() throws Exception {
+        // given
+        executionContext.putLong(AddPeriodicAccrualEntriesTasklet.LAST_PROCESSED_LOAN_ID, 9L);
+        executionContext.putLong(AddPeriodicAccrualEntriesTasklet.FIRST_FAILED_CHUNK_AFTER_LOAN_ID, 7L);
+        given(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(7L, CHUNK_SIZE)).willReturn(List.of(9L));
+        given(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(9L, CHUNK_SIZE)).willReturn(List.of());
+        // when
+        RepeatStatus first = underTest.execute(stepContribution, chunkContext);
+        RepeatStatus last = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(last).isEqualTo(RepeatStatus.FINISHED);
+        verify(loanAccrualsProcessingService).addPeriodicAccruals(BUSINESS_DATE, 7L, 9L);
+        assertThat(executionContext.getLong(AddPeriodicAccrualEntriesTasklet.LAST_PROCESSED_LOAN_ID)).isEqualTo(9L);
+        assertThat(executionContext.containsKey(AddPeriodicAccrualEntriesTasklet.FIRST_FAILED_CHUNK_AFTER_LOAN_ID)).isFalse();
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class SearchIndexTermsTest {
+
+    @Test
+    public void testTermsContainFullValueAndWords() {
+        assertEquals(Set.of("john doe", "john", "doe"), SearchIndexTerms.terms("  John   DOE "));
+    }
+
+    @Test
+    public void testTermsContainAccountNumberWithoutPadding() {
+        assertEquals(List.of("000000042", "42"), List.copyOf(SearchIndexTerms.terms("000000042")));
+    }
+
+    @Test
+    public void testTermsOfEmptyValue() {
+        assertTrue(SearchIndexTerms.terms(null).isEmpty());
+        assertTrue(SearchIndexTerms.terms("   ").isEmpty());
+    }
+
+    @Test
+    public void testTermsAreTruncated() {
+        final String value = "x".repeat(SearchIndexTerms.MAX_TERM_LENGTH + 10);
+        assertTrue(SearchIndexTerms.terms(value).stream().allMatch(term -> term.length() == SearchIndexTerms.MAX_TERM_LENGTH));
+    }
+
+    @Test
+    public void testPrefixPatternEscapesWildcards() {
+        assertEquals("ab\\%c\\_d\\\\%", SearchIndexTerms.prefixPattern(" AB%c_d\\ "));
+    }
+}
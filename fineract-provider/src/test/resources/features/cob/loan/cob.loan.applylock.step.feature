@@ -29,6 +29,16 @@ Feature: COB Apply Loan Lock Step
       |action|
       |good|
 
+  @cob
+  Scenario Outline: ApplyLoanLockTasklet - run test: set based locking
+    Given The ApplyLoanLockTasklet.execute method with action <action>
+    When ApplyLoanLockTasklet.execute method executed
+    Then ApplyLoanLockTasklet.execute result should match set based lock
+
+    Examples:
+      |action|
+      |set-based|
+
   @cob
   Scenario Outline: ApplyLoanLockTasklet - run test: exception
     Given The ApplyLoanLockTasklet.execute method with action <action>